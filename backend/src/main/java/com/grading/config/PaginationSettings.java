@@ -0,0 +1,36 @@
+package com.grading.config;
+
+import com.grading.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaginationSettings {
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PaginationSettings(@Value("${pagination.default-size:50}") int defaultSize,
+                              @Value("${pagination.max-size:500}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new ValidationException("Page size must be positive");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    /**
+     * Limit for a keyset query: one row more than the page, to tell whether a next page exists.
+     */
+    public Pageable lookahead(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+}
@@ -1,10 +1,13 @@
 package com.grading.controller;
 
+import com.grading.dto.request.ChangePasswordRequest;
 import com.grading.dto.request.LoginRequest;
+import com.grading.dto.request.LogoutRequest;
+import com.grading.dto.request.RefreshTokenRequest;
 import com.grading.dto.request.RegisterRequest;
 import com.grading.dto.response.ApiResponse;
 import com.grading.dto.response.AuthResponse;
-import com.grading.entity.Employee;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.exception.ForbiddenException;
 import com.grading.service.AuthService;
 import com.grading.util.SecurityUtils;
@@ -77,7 +80,7 @@ public class AuthController {
         
         if (authentication != null && authentication.isAuthenticated()) {
             try {
-                Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+                AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
                 if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
                     throw new ForbiddenException("Only HR can register new employees");
                 }
@@ -95,4 +98,63 @@ public class AuthController {
         AuthResponse response = authService.register(request);
         return ResponseEntity.ok(ApiResponse.success("Registration successful", response));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "Обновление токена",
+        description = "Выдаёт новый access-токен по refresh-токену. Refresh-токен одноразовый: в ответе возвращается новый."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Токены обновлены",
+            content = @Content(schema = @Schema(implementation = AuthResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Refresh-токен недействителен, отозван или истёк"
+        )
+    })
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success("Token refreshed", response));
+    }
+
+    @PostMapping("/logout")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Выход из системы",
+        description = "Отзывает текущий access-токен и, если передан, refresh-токен."
+    )
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestBody(required = false) LogoutRequest request,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        authService.logout(currentEmployee, request);
+        return ResponseEntity.ok(ApiResponse.success("Logout successful", null));
+    }
+
+    @PostMapping("/password")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Смена пароля",
+        description = "Меняет пароль текущего пользователя. Все выданные ранее access- и refresh-токены перестают действовать."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Пароль изменён"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Текущий пароль указан неверно"
+        )
+    })
+    public ResponseEntity<ApiResponse<Void>> changePassword(
+            @Valid @RequestBody ChangePasswordRequest request,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        authService.changePassword(currentEmployee, request);
+        return ResponseEntity.ok(ApiResponse.success("Password changed", null));
+    }
+}
@@ -2,10 +2,11 @@ package com.grading.controller;
 
 import com.grading.dto.request.CreateCalibrationPackageRequest;
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.CalibrationResponse;
 import com.grading.dto.response.CandidateRankingResponse;
 import com.grading.entity.Calibration;
-import com.grading.entity.Employee;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.util.SecurityUtils;
 import com.grading.service.CalibrationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -68,9 +69,12 @@ public class CalibrationController {
         summary = "Получить калибровки по статусу",
         description = "Возвращает все калибровки с указанным статусом"
     )
-    public ResponseEntity<ApiResponse<List<CalibrationResponse>>> getCalibrationsByStatus(@PathVariable String status) {
-        List<CalibrationResponse> calibrations = calibrationService.getCalibrationResponsesByStatus(status);
-        return ResponseEntity.ok(ApiResponse.success(calibrations));
+    public ResponseEntity<ApiResponse<List<CalibrationResponse>>> getCalibrationsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<CalibrationResponse> calibrations = calibrationService.getCalibrationResponsesByStatus(status, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(calibrations));
     }
 
     @GetMapping("/grade/{gradeId}")
@@ -91,7 +95,7 @@ public class CalibrationController {
     public ResponseEntity<ApiResponse<CalibrationResponse>> createCalibrationPackage(
             @Valid @RequestBody CreateCalibrationPackageRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(org.springframework.http.HttpStatus.FORBIDDEN)
@@ -120,7 +124,7 @@ public class CalibrationController {
     public ResponseEntity<ApiResponse<List<CalibrationResponse>>> getCalibrationsByEvaluatorId(
             @PathVariable Long evaluatorId,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!currentEmployee.getId().equals(evaluatorId) && !"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(org.springframework.http.HttpStatus.FORBIDDEN)
@@ -141,7 +145,7 @@ public class CalibrationController {
         return ResponseEntity.ok(ApiResponse.success(ranking));
     }
 
-    private Employee getCurrentEmployee(Authentication authentication) {
+    private AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         return securityUtils.getCurrentEmployee(authentication);
     }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package com.grading.controller;
 import com.grading.dto.request.CreateComparisonRequest;
 import com.grading.dto.response.ApiResponse;
 import com.grading.dto.response.ComparisonResponse;
-import com.grading.entity.Employee;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.util.SecurityUtils;
 import com.grading.service.ComparisonService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +34,7 @@ public class ComparisonController {
     public ResponseEntity<ApiResponse<ComparisonResponse>> createComparison(
             @Valid @RequestBody CreateComparisonRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         String role = currentEmployee.getRole();
         if (!"team_lead".equalsIgnoreCase(role)) {
@@ -65,13 +65,13 @@ public class ComparisonController {
     public ResponseEntity<ApiResponse<List<ComparisonResponse>>> getPendingComparisons(
             @PathVariable Long calibrationId,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         List<ComparisonResponse> pending = comparisonService.getPendingComparisonsForEvaluator(calibrationId, currentEmployee.getId());
         return ResponseEntity.ok(ApiResponse.success(pending));
     }
 
-    private Employee getCurrentEmployee(Authentication authentication) {
+    private AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         return securityUtils.getCurrentEmployee(authentication);
     }
 }
@@ -1,16 +1,28 @@
 package com.grading.controller;
 
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.CursorPage;
+import com.grading.dto.response.DepartmentSummaryResponse;
+import com.grading.dto.response.EmployeeImportResponse;
 import com.grading.dto.response.EmployeeProfileResponse;
 import com.grading.dto.response.EmployeeResponse;
+import com.grading.exception.ForbiddenException;
+import com.grading.security.AuthenticatedEmployee;
+import com.grading.service.DepartmentSummaryService;
+import com.grading.service.EmployeeImportService;
 import com.grading.service.EmployeeService;
+import com.grading.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -19,7 +31,12 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Employees", description = "Управление сотрудниками")
 public class EmployeeController {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final DepartmentSummaryService departmentSummaryService;
+    private final SecurityUtils securityUtils;
 
     @GetMapping("/{id}/profile")
     @Operation(
@@ -31,13 +48,70 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(profile));
     }
 
+    @GetMapping("/profiles")
+    @Operation(
+        summary = "Получить профили нескольких сотрудников",
+        description = "Возвращает профили сотрудников по списку идентификаторов (ids) одним запросом, в порядке запроса"
+    )
+    public ResponseEntity<ApiResponse<List<EmployeeProfileResponse>>> getEmployeeProfiles(@RequestParam List<Long> ids) {
+        List<EmployeeProfileResponse> profiles = employeeService.getEmployeeProfiles(ids);
+        return ResponseEntity.ok(ApiResponse.success(profiles));
+    }
+
     @GetMapping
     @Operation(
         summary = "Получить всех сотрудников",
-        description = "Возвращает список всех сотрудников в системе"
+        description = "Возвращает сотрудников постранично (cursor, size); курсор следующей страницы — в nextCursor"
+    )
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> getAllEmployees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EmployeeResponse> employees = employeeService.getAllEmployees(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(employees));
+    }
+
+    @GetMapping("/departments/summary")
+    @Operation(
+        summary = "Сводка по отделам",
+        description = "Численность, распределение по грейдам, средняя последняя оценка и открытые заявки на повышение " +
+                      "по каждому отделу, опционально за период оценки (только HR)"
+    )
+    public ResponseEntity<ApiResponse<List<DepartmentSummaryResponse>>> getDepartmentSummaries(
+            @RequestParam(required = false) String reviewPeriod,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can view department summaries");
+        }
+
+        List<DepartmentSummaryResponse> summaries = departmentSummaryService.getDepartmentSummaries(reviewPeriod);
+        return ResponseEntity.ok(ApiResponse.success(summaries));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Поиск сотрудников",
+        description = "Ищет сотрудников по ФИО, email и отделу (по префиксу и с учётом опечаток), результаты ранжированы; " +
+                      "постранично (cursor, size)"
     )
-    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> getAllEmployees() {
-        List<EmployeeResponse> employees = employeeService.getAllEmployees();
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> searchEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EmployeeResponse> employees = employeeService.searchEmployees(q, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(employees));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(
+        summary = "Автодополнение сотрудников",
+        description = "Возвращает сотрудников, у которых слово в ФИО, email или отделе начинается с prefix"
+    )
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> autocompleteEmployees(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        List<EmployeeResponse> employees = employeeService.autocompleteEmployees(prefix, limit);
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
@@ -56,8 +130,34 @@ public class EmployeeController {
         summary = "Получить сотрудников по отделу",
         description = "Возвращает список сотрудников указанного отдела"
     )
-    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> getEmployeesByDepartment(@PathVariable String department) {
-        List<EmployeeResponse> employees = employeeService.getEmployeesByDepartment(department);
-        return ResponseEntity.ok(ApiResponse.success(employees));
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> getEmployeesByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<EmployeeResponse> employees = employeeService.getEmployeesByDepartment(department, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(employees));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(
+        summary = "Массовый импорт сотрудников",
+        description = "Потоково импортирует сотрудников из CSV (с заголовком) или NDJSON с полями запроса регистрации. " +
+                      "Возвращает отчёт с ошибками по строкам (только HR)"
+    )
+    public ResponseEntity<ApiResponse<EmployeeImportResponse>> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can import employees");
+        }
+
+        EmployeeImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+            ? EmployeeImportService.Format.CSV
+            : EmployeeImportService.Format.NDJSON;
+        EmployeeImportResponse report = employeeImportService.importEmployees(body, format, currentEmployee.getId());
+        return ResponseEntity.ok(ApiResponse.success("Import finished", report));
     }
-}
\ No newline at end of file
+}
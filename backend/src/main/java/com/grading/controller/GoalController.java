@@ -1,11 +1,16 @@
 package com.grading.controller;
 
 import com.grading.dto.request.AssignGoalRequest;
+import com.grading.dto.request.BulkAssignGoalRequest;
 import com.grading.dto.request.UpdateGoalStatusRequest;
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.BulkAssignGoalResponse;
+import com.grading.dto.response.CursorPage;
+import com.grading.dto.response.GoalProgressResponse;
 import com.grading.dto.response.GoalResponse;
-import com.grading.entity.Employee;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.util.SecurityUtils;
+import com.grading.service.GoalProgressService;
 import com.grading.service.GoalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -26,6 +31,7 @@ import java.util.List;
 @Tag(name = "Goals", description = "Управление назначенными целями сотрудников")
 public class GoalController {
     private final GoalService goalService;
+    private final GoalProgressService goalProgressService;
     private final SecurityUtils securityUtils;
 
     @PostMapping("/assign")
@@ -36,7 +42,7 @@ public class GoalController {
     public ResponseEntity<ApiResponse<GoalResponse>> assignGoal(
             @Valid @RequestBody AssignGoalRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -47,6 +53,26 @@ public class GoalController {
         return ResponseEntity.ok(ApiResponse.success("Goal assigned successfully", goal));
     }
 
+    @PostMapping("/assign/bulk")
+    @Operation(
+        summary = "Массово назначить цель",
+        description = "HR назначает общую цель всем сотрудникам, подходящим под селектор (отдел, роль, период оценки " +
+                      "или список ID). Сотрудники, которым цель уже назначена, пропускаются"
+    )
+    public ResponseEntity<ApiResponse<BulkAssignGoalResponse>> bulkAssignGoal(
+            @Valid @RequestBody BulkAssignGoalRequest request,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+        
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("Only HR can assign goals"));
+        }
+        
+        BulkAssignGoalResponse result = goalService.bulkAssignGoal(request);
+        return ResponseEntity.ok(ApiResponse.success("Goal assigned successfully", result));
+    }
+
     @PutMapping("/{id}/status")
     @Operation(
         summary = "Обновить статус цели",
@@ -56,7 +82,7 @@ public class GoalController {
             @PathVariable Long id,
             @Valid @RequestBody UpdateGoalStatusRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         GoalResponse goalAssignment = goalService.getGoalAssignmentById(id);
         if (!goalAssignment.getEmployeeId().equals(currentEmployee.getId())) {
@@ -76,7 +102,7 @@ public class GoalController {
     public ResponseEntity<ApiResponse<Void>> deleteGoalAssignment(
             @PathVariable Long id,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -105,7 +131,7 @@ public class GoalController {
     public ResponseEntity<ApiResponse<List<GoalResponse>>> getGoalsByEmployeeId(
             @PathVariable Long employeeId,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!currentEmployee.getId().equals(employeeId) && !"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -122,7 +148,7 @@ public class GoalController {
         description = "Возвращает все назначенные цели текущего сотрудника"
     )
     public ResponseEntity<ApiResponse<List<GoalResponse>>> getMyGoals(Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         List<GoalResponse> goals = goalService.getGoalsByEmployeeId(currentEmployee.getId());
         return ResponseEntity.ok(ApiResponse.success(goals));
     }
@@ -133,29 +159,54 @@ public class GoalController {
         description = "Возвращает все выполненные цели текущего сотрудника для прикрепления к заявке на повышение"
     )
     public ResponseEntity<ApiResponse<List<GoalResponse>>> getMyCompletedGoals(Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         List<GoalResponse> goals = goalService.getGoalsByEmployeeIdAndStatus(currentEmployee.getId(), "completed");
         return ResponseEntity.ok(ApiResponse.success(goals));
     }
 
+    @GetMapping("/progress")
+    @Operation(
+        summary = "Прогресс по целям",
+        description = "Количество выполненных, текущих и просроченных целей по каждому сотруднику за период оценки: " +
+                      "для списка сотрудников (employeeIds), всего отдела (department) или всех сотрудников (только HR и тимлиды)"
+    )
+    public ResponseEntity<ApiResponse<List<GoalProgressResponse>>> getGoalProgress(
+            @RequestParam String reviewPeriod,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) List<Long> employeeIds,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+        
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole()) && !"team_lead".equalsIgnoreCase(currentEmployee.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("Only HR and team leads can view goal progress"));
+        }
+        
+        List<GoalProgressResponse> progress = goalProgressService.getProgress(reviewPeriod, department, employeeIds);
+        return ResponseEntity.ok(ApiResponse.success(progress));
+    }
+
     @GetMapping("/all")
     @Operation(
         summary = "Получить все назначения целей",
         description = "HR может получить все назначения целей всем сотрудникам"
     )
-    public ResponseEntity<ApiResponse<List<GoalResponse>>> getAllGoalAssignments(Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+    public ResponseEntity<ApiResponse<List<GoalResponse>>> getAllGoalAssignments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(ApiResponse.error("Only HR can view all goal assignments"));
         }
         
-        List<GoalResponse> goals = goalService.getAllGoalAssignments();
-        return ResponseEntity.ok(ApiResponse.success(goals));
+        CursorPage<GoalResponse> goals = goalService.getAllGoalAssignments(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(goals));
     }
 
-    private Employee getCurrentEmployee(Authentication authentication) {
+    private AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         return securityUtils.getCurrentEmployee(authentication);
     }
 }
\ No newline at end of file
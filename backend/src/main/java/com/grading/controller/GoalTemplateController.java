@@ -2,8 +2,9 @@ package com.grading.controller;
 
 import com.grading.dto.request.CreateGoalRequest;
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.GoalTemplateResponse;
-import com.grading.entity.Employee;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.util.SecurityUtils;
 import com.grading.service.GoalTemplateService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,7 +36,7 @@ public class GoalTemplateController {
     public ResponseEntity<ApiResponse<GoalTemplateResponse>> createGoalTemplate(
             @Valid @RequestBody CreateGoalRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -55,7 +56,7 @@ public class GoalTemplateController {
             @PathVariable Long id,
             @Valid @RequestBody CreateGoalRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -74,7 +75,7 @@ public class GoalTemplateController {
     public ResponseEntity<ApiResponse<Void>> deleteGoalTemplate(
             @PathVariable Long id,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -100,9 +101,11 @@ public class GoalTemplateController {
         summary = "Получить все общие цели",
         description = "Возвращает все общие цели (доступно всем)"
     )
-    public ResponseEntity<ApiResponse<List<GoalTemplateResponse>>> getAllGoalTemplates() {
-        List<GoalTemplateResponse> goals = goalTemplateService.getAllGoalTemplates();
-        return ResponseEntity.ok(ApiResponse.success(goals));
+    public ResponseEntity<ApiResponse<List<GoalTemplateResponse>>> getAllGoalTemplates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<GoalTemplateResponse> goals = goalTemplateService.getAllGoalTemplates(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(goals));
     }
 
     @GetMapping("/review-period/{reviewPeriod}")
@@ -111,12 +114,14 @@ public class GoalTemplateController {
         description = "Возвращает все общие цели для указанного периода ревью"
     )
     public ResponseEntity<ApiResponse<List<GoalTemplateResponse>>> getGoalTemplatesByReviewPeriod(
-            @PathVariable String reviewPeriod) {
-        List<GoalTemplateResponse> goals = goalTemplateService.getGoalTemplatesByReviewPeriod(reviewPeriod);
-        return ResponseEntity.ok(ApiResponse.success(goals));
+            @PathVariable String reviewPeriod,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<GoalTemplateResponse> goals = goalTemplateService.getGoalTemplatesByReviewPeriod(reviewPeriod, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(goals));
     }
 
-    private Employee getCurrentEmployee(Authentication authentication) {
+    private AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         return securityUtils.getCurrentEmployee(authentication);
     }
 }
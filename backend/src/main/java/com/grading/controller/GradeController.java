@@ -2,9 +2,8 @@ package com.grading.controller;
 
 import com.grading.dto.response.ApiResponse;
 import com.grading.dto.response.GradeResponse;
-import com.grading.entity.Grade;
-import com.grading.exception.ResourceNotFoundException;
-import com.grading.repository.GradeRepository;
+import com.grading.service.ReferenceDataCache;
+import com.grading.service.ReferenceDataCache.GradeRef;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,7 +20,7 @@ import java.util.stream.Collectors;
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Grades", description = "Управление грейдами")
 public class GradeController {
-    private final GradeRepository gradeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @GetMapping
     @Operation(
@@ -29,7 +28,7 @@ public class GradeController {
         description = "Возвращает список всех грейдов в системе"
     )
     public ResponseEntity<ApiResponse<List<GradeResponse>>> getAllGrades() {
-        List<GradeResponse> grades = gradeRepository.findAll().stream()
+        List<GradeResponse> grades = referenceDataCache.getGrades().stream()
             .map(this::toGradeResponse)
             .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(grades));
@@ -41,16 +40,14 @@ public class GradeController {
         description = "Возвращает информацию о грейде по идентификатору"
     )
     public ResponseEntity<ApiResponse<GradeResponse>> getGradeById(@PathVariable Long id) {
-        Grade grade = gradeRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Grade", id));
-        return ResponseEntity.ok(ApiResponse.success(toGradeResponse(grade)));
+        return ResponseEntity.ok(ApiResponse.success(toGradeResponse(referenceDataCache.requireGrade(id))));
     }
 
-    private GradeResponse toGradeResponse(Grade grade) {
+    private GradeResponse toGradeResponse(GradeRef grade) {
         GradeResponse response = new GradeResponse();
-        response.setId(grade.getId());
-        response.setName(grade.getName());
-        response.setDescription(grade.getDescription());
+        response.setId(grade.id());
+        response.setName(grade.name());
+        response.setDescription(grade.description());
         return response;
     }
 }
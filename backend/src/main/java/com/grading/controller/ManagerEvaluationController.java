@@ -2,20 +2,30 @@ package com.grading.controller;
 
 import com.grading.dto.request.ManagerEvaluationRequest;
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.BulkEvaluationResponse;
+import com.grading.dto.response.CursorPage;
+import com.grading.dto.response.EvaluatorScoreStatsResponse;
+import com.grading.dto.response.NormalizedScoreResponse;
 import com.grading.dto.response.ReviewResponse;
-import com.grading.entity.Employee;
+import com.grading.exception.ForbiddenException;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.util.SecurityUtils;
+import com.grading.service.EvaluatorScoreStatsService;
+import com.grading.service.ExportService;
 import com.grading.service.ManagerEvaluationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +36,8 @@ import java.util.List;
 @Tag(name = "Manager Evaluations", description = "Управление оценками менеджера")
 public class ManagerEvaluationController {
     private final ManagerEvaluationService managerEvaluationService;
+    private final EvaluatorScoreStatsService scoreStatsService;
+    private final ExportService exportService;
     private final SecurityUtils securityUtils;
 
     @PostMapping
@@ -36,7 +48,7 @@ public class ManagerEvaluationController {
     public ResponseEntity<ApiResponse<ReviewResponse>> createEvaluation(
             @Valid @RequestBody ManagerEvaluationRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -47,6 +59,26 @@ public class ManagerEvaluationController {
         return ResponseEntity.ok(ApiResponse.success("Review created successfully", evaluation));
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+        summary = "Создать оценки пакетом",
+        description = "HR отправляет массив оценок одним запросом; результат возвращается по каждому элементу, " +
+                      "некорректные элементы пропускаются без отката остальных"
+    )
+    public ResponseEntity<ApiResponse<BulkEvaluationResponse>> createEvaluations(
+            @RequestBody List<ManagerEvaluationRequest> requests,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("Only HR can create reviews"));
+        }
+
+        BulkEvaluationResponse result = managerEvaluationService.createEvaluations(requests, currentEmployee.getId());
+        return ResponseEntity.ok(ApiResponse.success("Reviews processed", result));
+    }
+
     @PutMapping("/{id}")
     @Operation(
         summary = "Обновить оценку",
@@ -56,7 +88,7 @@ public class ManagerEvaluationController {
             @PathVariable Long id,
             @Valid @RequestBody ManagerEvaluationRequest request,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -75,7 +107,7 @@ public class ManagerEvaluationController {
     public ResponseEntity<ApiResponse<ReviewResponse>> getEvaluationById(
             @PathVariable Long id,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         ReviewResponse evaluation = managerEvaluationService.getEvaluationById(id);
         
         if ("employee".equalsIgnoreCase(currentEmployee.getRole()) && 
@@ -95,7 +127,7 @@ public class ManagerEvaluationController {
     public ResponseEntity<ApiResponse<List<ReviewResponse>>> getEvaluationsByEmployeeId(
             @PathVariable Long employeeId,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if ("employee".equalsIgnoreCase(currentEmployee.getRole()) && 
             !employeeId.equals(currentEmployee.getId())) {
@@ -113,16 +145,18 @@ public class ManagerEvaluationController {
         description = "Возвращает все оценки всех сотрудников (только HR)"
     )
     public ResponseEntity<ApiResponse<List<ReviewResponse>>> getAllEvaluations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(ApiResponse.error("Only HR can view all reviews"));
         }
         
-        List<ReviewResponse> evaluations = managerEvaluationService.getAllEvaluations();
-        return ResponseEntity.ok(ApiResponse.success(evaluations));
+        CursorPage<ReviewResponse> evaluations = managerEvaluationService.getAllEvaluations(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(evaluations));
     }
 
     @GetMapping("/review-period/{reviewPeriod}")
@@ -132,19 +166,81 @@ public class ManagerEvaluationController {
     )
     public ResponseEntity<ApiResponse<List<ReviewResponse>>> getEvaluationsByReviewPeriod(
             @PathVariable String reviewPeriod,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
-        Employee currentEmployee = getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(ApiResponse.error("Only HR can view reviews by period"));
         }
         
-        List<ReviewResponse> evaluations = managerEvaluationService.getEvaluationsByReviewPeriod(reviewPeriod);
-        return ResponseEntity.ok(ApiResponse.success(evaluations));
+        CursorPage<ReviewResponse> evaluations = managerEvaluationService.getEvaluationsByReviewPeriod(reviewPeriod, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(evaluations));
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Статистика оценок по оценщикам",
+        description = "Среднее, дисперсия, перцентили и распределение баллов каждого оценщика за период ревью (только HR)"
+    )
+    public ResponseEntity<ApiResponse<List<EvaluatorScoreStatsResponse>>> getEvaluatorStats(
+            @RequestParam String reviewPeriod,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("Only HR can view evaluator statistics"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(scoreStatsService.getStats(reviewPeriod)));
+    }
+
+    @GetMapping("/normalized")
+    @Operation(
+        summary = "Нормализованные баллы за период",
+        description = "Баллы всех оценок периода с z-оценкой относительно оценщика и пересчетом на общее распределение периода (только HR)"
+    )
+    public ResponseEntity<ApiResponse<List<NormalizedScoreResponse>>> getNormalizedScores(
+            @RequestParam String reviewPeriod,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("Only HR can view normalized scores"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(scoreStatsService.getNormalizedScores(reviewPeriod)));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Выгрузка оценок",
+        description = "Потоково выгружает оценки (все или за период) в формате NDJSON или CSV; " +
+                      "объем выгрузки не ограничен (только HR)"
+    )
+    public ResponseEntity<StreamingResponseBody> exportEvaluations(
+            @RequestParam(required = false) String reviewPeriod,
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can export evaluations");
+        }
+
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        StreamingResponseBody body = output -> exportService.exportEvaluations(reviewPeriod, exportFormat, output);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"evaluations." + exportFormat.getExtension() + "\"")
+            .body(body);
     }
 
-    private Employee getCurrentEmployee(Authentication authentication) {
+    private AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         return securityUtils.getCurrentEmployee(authentication);
     }
 }
\ No newline at end of file
@@ -1,18 +1,23 @@
 package com.grading.controller;
 
 import com.grading.dto.request.ApprovePromotionRequest;
+import com.grading.dto.request.PromotionDecisionRequest;
 import com.grading.dto.request.PromotionRequestRequest;
+import com.grading.dto.request.PromotionRequestSearchRequest;
 import com.grading.dto.response.ApiResponse;
+import com.grading.dto.response.BulkPromotionDecisionResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.GoalResponse;
+import com.grading.dto.response.PromotionDossierResponse;
 import com.grading.dto.response.PromotionRequestResponse;
 import com.grading.dto.response.PromotionRequestFileResponse;
-import com.grading.entity.Employee;
+import com.grading.dto.response.PromotionRequestSummaryResponse;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.entity.PromotionRequestFile;
 import com.grading.exception.ForbiddenException;
-import com.grading.model.PromotionRequestGoal;
-import com.grading.repository.PromotionRequestGoalRepository;
+import com.grading.service.ExportService;
+import com.grading.service.PromotionDossierService;
 import com.grading.service.PromotionRequestService;
-import com.grading.service.GoalService;
 import com.grading.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -28,9 +33,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/promotion-requests")
@@ -40,8 +45,8 @@ import java.util.stream.Collectors;
 public class PromotionRequestController {
     private final PromotionRequestService promotionRequestService;
     private final SecurityUtils securityUtils;
-    private final PromotionRequestGoalRepository promotionRequestGoalRepository;
-    private final GoalService goalService;
+    private final PromotionDossierService promotionDossierService;
+    private final ExportService exportService;
 
     @PostMapping
     @Operation(
@@ -51,7 +56,7 @@ public class PromotionRequestController {
     public ResponseEntity<ApiResponse<PromotionRequestResponse>> createPromotionRequest(
             @Valid @RequestBody PromotionRequestRequest request,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         String role = currentEmployee.getRole().toLowerCase();
         if (!role.equals("employee") && !role.equals("team_lead")) {
@@ -75,7 +80,7 @@ public class PromotionRequestController {
             @PathVariable Long id,
             @Valid @RequestBody PromotionRequestRequest request,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         PromotionRequestResponse existing = promotionRequestService.getPromotionRequestById(id);
         
@@ -100,7 +105,7 @@ public class PromotionRequestController {
     public ResponseEntity<ApiResponse<Void>> deletePromotionRequest(
             @PathVariable Long id,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         PromotionRequestResponse existing = promotionRequestService.getPromotionRequestById(id);
         
@@ -127,7 +132,7 @@ public class PromotionRequestController {
             @RequestParam String status,
             @RequestParam(required = false) String comment,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             throw new ForbiddenException("Only HR can update promotion request status");
@@ -149,7 +154,7 @@ public class PromotionRequestController {
     public ResponseEntity<ApiResponse<PromotionRequestResponse>> getPromotionRequestById(
             @PathVariable Long id,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         PromotionRequestResponse promotionRequest = promotionRequestService.getPromotionRequestById(id);
         
         if ("employee".equalsIgnoreCase(currentEmployee.getRole()) && 
@@ -160,6 +165,26 @@ public class PromotionRequestController {
         return ResponseEntity.ok(ApiResponse.success(promotionRequest));
     }
 
+    @GetMapping("/{id}/dossier")
+    @Operation(
+        summary = "Досье заявки",
+        description = "Возвращает заявку вместе с прикрепленными целями, файлами, последними оценками, " +
+                      "историей грейдов сотрудника и сводкой калибровки одним запросом"
+    )
+    public ResponseEntity<ApiResponse<PromotionDossierResponse>> getPromotionRequestDossier(
+            @PathVariable Long id,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        PromotionDossierResponse dossier = promotionDossierService.getDossier(id);
+
+        if ("employee".equalsIgnoreCase(currentEmployee.getRole()) &&
+            !dossier.getRequest().getEmployeeId().equals(currentEmployee.getId())) {
+            throw new ForbiddenException("You can only view your own promotion requests");
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(dossier));
+    }
+
     @GetMapping("/employee/{employeeId}")
     @Operation(
         summary = "Получить заявки сотрудника",
@@ -168,7 +193,7 @@ public class PromotionRequestController {
     public ResponseEntity<ApiResponse<List<PromotionRequestResponse>>> getPromotionRequestsByEmployeeId(
             @PathVariable Long employeeId,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         if ("employee".equalsIgnoreCase(currentEmployee.getRole()) && 
             !employeeId.equals(currentEmployee.getId())) {
@@ -185,15 +210,64 @@ public class PromotionRequestController {
         description = "Возвращает все заявки на повышение (только HR)"
     )
     public ResponseEntity<ApiResponse<List<PromotionRequestResponse>>> getAllPromotionRequests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             throw new ForbiddenException("Only HR can view all promotion requests");
         }
         
-        List<PromotionRequestResponse> promotionRequests = promotionRequestService.getAllPromotionRequests();
-        return ResponseEntity.ok(ApiResponse.success(promotionRequests));
+        CursorPage<PromotionRequestResponse> promotionRequests = promotionRequestService.getAllPromotionRequests(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(promotionRequests));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Поиск заявок",
+        description = "Ищет заявки по любому сочетанию фильтров: статусы (status можно повторять), период, " +
+                      "запрошенный грейд, отдел, автор, калибровка и интервал даты создания [createdFrom, createdTo). " +
+                      "Возвращает строки списка постранично по курсору (только HR)"
+    )
+    public ResponseEntity<ApiResponse<List<PromotionRequestSummaryResponse>>> searchPromotionRequests(
+            @ModelAttribute PromotionRequestSearchRequest search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can search promotion requests");
+        }
+
+        CursorPage<PromotionRequestSummaryResponse> promotionRequests = promotionRequestService.searchPromotionRequests(search, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(promotionRequests));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Выгрузка заявок",
+        description = "Потоково выгружает заявки на повышение с фильтром по статусу и периоду в формате NDJSON или CSV (только HR)"
+    )
+    public ResponseEntity<StreamingResponseBody> exportPromotionRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String reviewPeriod,
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can export promotion requests");
+        }
+
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        StreamingResponseBody body = output ->
+            exportService.exportPromotionRequests(status, reviewPeriod, exportFormat, output);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"promotion-requests." + exportFormat.getExtension() + "\"")
+            .body(body);
     }
 
     @GetMapping("/status/{status}")
@@ -203,15 +277,36 @@ public class PromotionRequestController {
     )
     public ResponseEntity<ApiResponse<List<PromotionRequestResponse>>> getPromotionRequestsByStatus(
             @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             throw new ForbiddenException("Only HR can filter promotion requests by status");
         }
         
-        List<PromotionRequestResponse> promotionRequests = promotionRequestService.getPromotionRequestsByStatus(status);
-        return ResponseEntity.ok(ApiResponse.success(promotionRequests));
+        CursorPage<PromotionRequestResponse> promotionRequests = promotionRequestService.getPromotionRequestsByStatus(status, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(promotionRequests));
+    }
+
+    @PostMapping("/decisions")
+    @Operation(
+        summary = "Одобрить или отклонить заявки пакетом",
+        description = "HR принимает решения по нескольким заявкам после калибровки одним запросом; результат " +
+                      "возвращается по каждому элементу, некорректные элементы пропускаются без отката остальных"
+    )
+    public ResponseEntity<ApiResponse<BulkPromotionDecisionResponse>> decidePromotionRequests(
+            @RequestBody List<PromotionDecisionRequest> decisions,
+            Authentication authentication) {
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+
+        if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
+            throw new ForbiddenException("Only HR can approve or reject promotion requests");
+        }
+
+        BulkPromotionDecisionResponse result = promotionRequestService.decidePromotionRequests(decisions, currentEmployee.getId());
+        return ResponseEntity.ok(ApiResponse.success("Decisions processed", result));
     }
 
     @PostMapping("/{id}/decision")
@@ -223,7 +318,7 @@ public class PromotionRequestController {
             @PathVariable Long id,
             @Valid @RequestBody ApprovePromotionRequest request,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         if (!"hr".equalsIgnoreCase(currentEmployee.getRole())) {
             throw new ForbiddenException("Only HR can approve or reject promotion requests");
@@ -252,7 +347,7 @@ public class PromotionRequestController {
             @PathVariable Long id,
             @RequestBody List<Long> goalAssignmentIds,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         // Verify that the employee owns this promotion request
         PromotionRequestResponse pr = promotionRequestService.getPromotionRequestById(id);
@@ -273,7 +368,7 @@ public class PromotionRequestController {
             @PathVariable Long id,
             @PathVariable Long goalAssignmentId,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         // Verify that the employee owns this promotion request
         PromotionRequestResponse pr = promotionRequestService.getPromotionRequestById(id);
@@ -291,10 +386,7 @@ public class PromotionRequestController {
         description = "Возвращает все прикрепленные цели к заявке на повышение"
     )
     public ResponseEntity<ApiResponse<List<GoalResponse>>> getPromotionRequestGoals(@PathVariable Long id) {
-        List<PromotionRequestGoal> prGoals = promotionRequestGoalRepository.findByPromotionRequestIdWithGoals(id);
-        List<GoalResponse> goals = prGoals.stream()
-            .map(prg -> goalService.getGoalAssignmentById(prg.getGoalAssignmentId()))
-            .collect(Collectors.toList());
+        List<GoalResponse> goals = promotionRequestService.getPromotionRequestGoals(id);
         return ResponseEntity.ok(ApiResponse.success(goals));
     }
 
@@ -307,7 +399,7 @@ public class PromotionRequestController {
             @PathVariable Long id,
             @RequestParam("file") MultipartFile file,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         PromotionRequestResponse pr = promotionRequestService.getPromotionRequestById(id);
         if (!pr.getEmployeeId().equals(currentEmployee.getId())) {
@@ -354,7 +446,7 @@ public class PromotionRequestController {
     public ResponseEntity<ApiResponse<String>> deleteFile(
             @PathVariable Long fileId,
             Authentication authentication) {
-        Employee currentEmployee = securityUtils.getCurrentEmployee(authentication);
+        AuthenticatedEmployee currentEmployee = securityUtils.getCurrentEmployee(authentication);
         
         // Verify that the employee owns the promotion request associated with this file
         PromotionRequestFile fileEntity = promotionRequestService.getFileById(fileId);
@@ -0,0 +1,28 @@
+package com.grading.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Assigns one goal template to every employee matching the selector. Selector fields are combined
+ * with AND; at least one is required.
+ */
+@Data
+public class BulkAssignGoalRequest {
+    @NotNull(message = "Goal ID is required")
+    private Long goalId;
+
+    @NotNull(message = "Due date is required")
+    private LocalDate dueDate;
+
+    private String department;
+
+    private String role;
+
+    private String reviewPeriod;
+
+    private List<Long> employeeIds;
+}
@@ -0,0 +1,8 @@
+package com.grading.dto.request;
+
+import lombok.Data;
+
+@Data
+public class LogoutRequest {
+    private String refreshToken;
+}
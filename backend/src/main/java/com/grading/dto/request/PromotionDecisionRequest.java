@@ -0,0 +1,16 @@
+package com.grading.dto.request;
+
+import lombok.Data;
+
+/**
+ * One item of a bulk HR decision. Items are validated one by one so a bad item is reported in the
+ * results instead of failing the whole batch.
+ */
+@Data
+public class PromotionDecisionRequest {
+    private Long promotionRequestId;
+
+    private String decision;
+
+    private String comment;
+}
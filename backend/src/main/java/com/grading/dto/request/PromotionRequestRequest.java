@@ -20,4 +20,7 @@ public class PromotionRequestRequest {
 
     @NotBlank(message = "Review period is required")
     private String reviewPeriod;
+
+    // Version the client last read; an edit against an older version is rejected with 409
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.grading.dto.request;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filters of the promotion request search, bound from query parameters. Every filter is optional;
+ * set filters are combined with AND, the statuses of {@code status} with OR.
+ */
+@Data
+public class PromotionRequestSearchRequest {
+    private List<String> status;
+
+    private String reviewPeriod;
+
+    private Long requestedGradeId;
+
+    private String department;
+
+    private Long submittedById;
+
+    private Long calibrationId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
@@ -1,8 +1,11 @@
 package com.grading.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 public class ApiResponse<T> {
@@ -10,6 +13,16 @@ public class ApiResponse<T> {
     private String message;
     private T data;
 
+    /**
+     * Opaque cursor of the next page for paginated lists; omitted on the last page and for non-list responses.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ApiResponse(boolean success, String message, T data) {
+        this(success, message, data, null);
+    }
+
     public static <T> ApiResponse<T> success(T data) {
         return new ApiResponse<>(true, "Success", data);
     }
@@ -18,7 +31,11 @@ public class ApiResponse<T> {
         return new ApiResponse<>(true, message, data);
     }
 
+    public static <T> ApiResponse<List<T>> page(CursorPage<T> page) {
+        return new ApiResponse<>(true, "Success", page.getItems(), page.getNextCursor());
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, message, null);
     }
-}
\ No newline at end of file
+}
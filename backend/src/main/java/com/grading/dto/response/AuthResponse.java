@@ -12,6 +12,7 @@ public class AuthResponse {
     private Long employeeId;
     private String username;
     private String role;
+    private String refreshToken;
 
     public AuthResponse(String token, Long userId, Long employeeId, String username, String role) {
         this.token = token;
@@ -0,0 +1,15 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignGoalResponse {
+    private Long goalId;
+    private int matchedCount;
+    private int assignedCount;
+    private int skippedCount;
+}
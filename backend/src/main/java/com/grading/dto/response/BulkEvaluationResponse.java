@@ -0,0 +1,32 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk evaluation submission, one result per submitted item in request order.
+ * {@code evaluationId} is set for created items, {@code error} for rejected ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEvaluationResponse {
+    private int submittedCount;
+    private int createdCount;
+    private int failedCount;
+    private List<ItemResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private Long employeeId;
+        private Long evaluationId;
+        private String error;
+    }
+}
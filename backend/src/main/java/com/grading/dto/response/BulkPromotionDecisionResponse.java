@@ -0,0 +1,33 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk HR decision, one result per submitted item in request order. {@code status} is
+ * the new status for applied items, {@code error} is set for rejected ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPromotionDecisionResponse {
+    private int submittedCount;
+    private int approvedCount;
+    private int rejectedCount;
+    private int failedCount;
+    private List<ItemResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private Long promotionRequestId;
+        private String status;
+        private String error;
+    }
+}
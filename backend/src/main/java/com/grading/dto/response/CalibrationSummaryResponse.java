@@ -0,0 +1,20 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalibrationSummaryResponse {
+    private Long id;
+    private Long gradeId;
+    private String gradeName;
+    private String status;
+    private LocalDateTime createdAt;
+    private Long candidateCount;
+    private Long evaluatorCount;
+}
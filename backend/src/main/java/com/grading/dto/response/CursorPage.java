@@ -0,0 +1,37 @@
+package com.grading.dto.response;
+
+import com.grading.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a list ordered by {@code (createdAt DESC, id DESC)}. {@code nextCursor} is null on the last page.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only signals
+     * that another page exists and is dropped.
+     */
+    public static <E> CursorPage<E> of(List<E> rows, int size,
+                                       Function<E, LocalDateTime> createdAt, Function<E, Long> id) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<E> items = rows.subList(0, size);
+        E last = items.get(size - 1);
+        return new CursorPage<>(items, new KeysetCursor(createdAt.apply(last), id.apply(last)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
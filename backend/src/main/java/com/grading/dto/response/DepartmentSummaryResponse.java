@@ -0,0 +1,19 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentSummaryResponse {
+    private String department;
+    private long headcount;
+    private Map<String, Long> gradeDistribution;
+    private BigDecimal averageLastScore;
+    private long openPromotionRequests;
+}
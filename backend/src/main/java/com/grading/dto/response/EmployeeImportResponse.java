@@ -0,0 +1,32 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResponse {
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addError(long line, String username, String message) {
+        errors.add(new RowError(line, username, message));
+        failedCount++;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String username;
+        private String message;
+    }
+}
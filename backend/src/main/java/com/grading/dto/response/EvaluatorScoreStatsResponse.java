@@ -0,0 +1,30 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Score statistics of one evaluator in a review period. {@code scoreDistribution} holds evaluation
+ * counts per ten-point score range (0-9, 10-19, ..., 90-100); percentiles are interpolated within
+ * those ranges. Variance is the population variance.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluatorScoreStatsResponse {
+    private Long evaluatorId;
+    private String evaluatorName;
+    private long evaluationCount;
+    private BigDecimal mean;
+    private BigDecimal variance;
+    private BigDecimal standardDeviation;
+    private BigDecimal p25;
+    private BigDecimal median;
+    private BigDecimal p75;
+    private BigDecimal p90;
+    private List<Long> scoreDistribution;
+}
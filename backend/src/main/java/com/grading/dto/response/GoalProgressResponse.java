@@ -0,0 +1,22 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Goal counts of one employee in a review period. Overdue counts assignments past their due date
+ * that are not completed, whatever their status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressResponse {
+    private Long employeeId;
+    private long total;
+    private long completed;
+    private long inProgress;
+    private long notStarted;
+    private long blocked;
+    private long overdue;
+}
@@ -0,0 +1,22 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeHistoryResponse {
+    private Long id;
+    private Long oldGradeId;
+    private String oldGradeName;
+    private Long newGradeId;
+    private String newGradeName;
+    private Long changedById;
+    private String changedByName;
+    private String reason;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,29 @@
+package com.grading.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * An evaluation score corrected for evaluator leniency: {@code zScore} is the score relative to
+ * the evaluator's own mean and deviation in the period, {@code normalizedScore} maps it back onto
+ * the period-wide mean and deviation. Both are left as the raw score (z null) when the evaluator
+ * has too few evaluations or no spread.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedScoreResponse {
+    private Long evaluationId;
+    private Long employeeId;
+    private String employeeName;
+    private Long evaluatorId;
+    private BigDecimal score;
+    // Lombok's getZScore() would otherwise be serialized as "zscore"
+    @JsonProperty("zScore")
+    private BigDecimal zScore;
+    private BigDecimal normalizedScore;
+}
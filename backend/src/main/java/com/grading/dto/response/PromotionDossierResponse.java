@@ -0,0 +1,24 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the promotion request screen shows, in one response: the request, its attached goals
+ * and files, the employee's latest evaluations and grade history, and the calibration it is in
+ * ({@code calibration} is null until the request is packaged).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromotionDossierResponse {
+    private PromotionRequestResponse request;
+    private List<GoalResponse> goals;
+    private List<PromotionRequestFileResponse> files;
+    private List<ReviewResponse> latestEvaluations;
+    private List<GradeHistoryResponse> gradeHistory;
+    private CalibrationSummaryResponse calibration;
+}
@@ -1,10 +1,14 @@
 package com.grading.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PromotionRequestFileResponse {
     private Long id;
     private Long promotionRequestId;
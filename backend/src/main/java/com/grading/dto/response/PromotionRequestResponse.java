@@ -23,6 +23,8 @@ public class PromotionRequestResponse {
     private String status;
     private String hrComment;
     private LocalDateTime createdAt;
+    private Long version;
+    private Long calibrationId;
 }
 
 
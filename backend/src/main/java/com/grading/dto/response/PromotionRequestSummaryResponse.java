@@ -0,0 +1,28 @@
+package com.grading.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List-view row of a promotion request; the long text fields are only in {@link PromotionRequestResponse}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromotionRequestSummaryResponse {
+    private Long id;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+    private Long requestedGradeId;
+    private String requestedGradeName;
+    private Long submittedById;
+    private String submittedByName;
+    private String reviewPeriod;
+    private String status;
+    private Long calibrationId;
+    private LocalDateTime createdAt;
+}
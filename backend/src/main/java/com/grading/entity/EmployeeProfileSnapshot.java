@@ -0,0 +1,53 @@
+package com.grading.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model behind employee profiles: current grade, number of grade changes and the latest
+ * evaluation. Maintained by {@code EmployeeProfileSnapshotService} in the same transaction as
+ * grade history and evaluation writes.
+ */
+@Entity
+@Table(name = "employee_profile_snapshot", schema = "grading2")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(exclude = {"employee", "currentGrade"})
+public class EmployeeProfileSnapshot {
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_grade_id")
+    private Grade currentGrade;
+
+    @Column(name = "grade_changes_count", nullable = false)
+    private Integer gradeChangesCount = 0;
+
+    @Column(name = "last_evaluation_id")
+    private Long lastEvaluationId;
+
+    @Column(name = "last_score")
+    private BigDecimal lastScore;
+
+    @Column(name = "last_review_date")
+    private LocalDateTime lastReviewDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
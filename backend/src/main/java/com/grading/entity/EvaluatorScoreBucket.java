@@ -0,0 +1,43 @@
+package com.grading.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Running sums of manager evaluation scores for one evaluator in one review period, split into
+ * ten-point score buckets. Summing the buckets gives count, mean and variance; the bucket counts
+ * give the percentile distribution. Maintained with delta updates by
+ * {@code EvaluatorScoreStatsService} in the same transaction as evaluation writes.
+ */
+@Entity
+@Table(name = "evaluator_score_buckets", schema = "grading2")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(EvaluatorScoreBucketId.class)
+public class EvaluatorScoreBucket {
+    @Id
+    @Column(name = "review_period", nullable = false)
+    private String reviewPeriod;
+
+    @Id
+    @Column(name = "evaluator_id", nullable = false)
+    private Long evaluatorId;
+
+    @Id
+    @Column(nullable = false)
+    private Integer bucket;
+
+    @Column(name = "evaluation_count", nullable = false)
+    private Long evaluationCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private BigDecimal scoreSum;
+
+    @Column(name = "score_sum_squares", nullable = false)
+    private BigDecimal scoreSumSquares;
+}
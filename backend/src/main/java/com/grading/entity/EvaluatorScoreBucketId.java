@@ -0,0 +1,18 @@
+package com.grading.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EvaluatorScoreBucketId implements Serializable {
+    private String reviewPeriod;
+    private Long evaluatorId;
+    private Integer bucket;
+}
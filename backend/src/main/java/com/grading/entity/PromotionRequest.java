@@ -32,12 +32,14 @@ public class PromotionRequest {
     @JoinColumn(name = "submitted_by_id", nullable = false)
     private Employee submittedBy;
 
+    // Status, its author, the HR comment and the calibration only change through the conditional
+    // updates in PromotionRequestRepository, never by flushing a (possibly stale) entity
     @ManyToOne
-    @JoinColumn(name = "status_changed_by_id", nullable = false)
+    @JoinColumn(name = "status_changed_by_id", nullable = false, updatable = false)
     private Employee statusChangedBy;
 
     @ManyToOne
-    @JoinColumn(name = "calibration_id", nullable = true)
+    @JoinColumn(name = "calibration_id", nullable = true, updatable = false)
     @JsonIgnore
     private Calibration calibration;
 
@@ -50,12 +52,16 @@ public class PromotionRequest {
     @Column(name = "review_period", nullable = false)
     private String reviewPeriod;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private String status;
 
-    @Column(name = "hr_comment", columnDefinition = "TEXT")
+    @Column(name = "hr_comment", columnDefinition = "TEXT", updatable = false)
     private String hrComment;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
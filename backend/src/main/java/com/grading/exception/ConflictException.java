@@ -0,0 +1,11 @@
+package com.grading.exception;
+
+/**
+ * The resource changed between read and write (a lost compare-and-set or a stale version). The
+ * client should reload and retry.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
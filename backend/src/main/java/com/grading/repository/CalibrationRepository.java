@@ -1,12 +1,16 @@
 package com.grading.repository;
 
+import com.grading.dto.response.CalibrationSummaryResponse;
 import com.grading.entity.Calibration;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CalibrationRepository extends JpaRepository<Calibration, Long> {
@@ -19,4 +23,16 @@ public interface CalibrationRepository extends JpaRepository<Calibration, Long>
     @Query("SELECT c FROM Calibration c ORDER BY c.createdAt DESC")
     @Override
     List<Calibration> findAll();
+
+    @Query("SELECT c FROM Calibration c " +
+           "WHERE c.status = :status AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Calibration> findPageByStatus(@Param("status") String status, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.grading.dto.response.CalibrationSummaryResponse(" +
+           "c.id, g.id, g.name, c.status, c.createdAt, " +
+           "(SELECT COUNT(pr) FROM PromotionRequest pr WHERE pr.calibration = c), " +
+           "(SELECT COUNT(ce) FROM CalibrationEvaluator ce WHERE ce.calibration = c)) " +
+           "FROM Calibration c JOIN c.grade g WHERE c.id = :id")
+    Optional<CalibrationSummaryResponse> findSummaryById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.grading.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batched JDBC writes for bulk employee import. IDENTITY keys keep Hibernate from batching inserts,
+ * so each chunk is written as one multi-row batch per table and generated ids are read back by the
+ * natural keys (username, user_id) instead of one round trip per row.
+ */
+@Repository
+public class EmployeeImportRepository {
+    private static final String INSERT_USER =
+        "INSERT INTO grading2.users (username, password_hash, token_version, created_at, updated_at) " +
+        "VALUES (:username, :passwordHash, 0, :now, :now)";
+    private static final String INSERT_EMPLOYEE =
+        "INSERT INTO grading2.employees (user_id, full_name, email, role, hire_date, department, review_period, created_at, updated_at) " +
+        "VALUES (:userId, :fullName, :email, :role, :hireDate, :department, :reviewPeriod, :now, :now)";
+    private static final String INSERT_GRADE_HISTORY =
+        "INSERT INTO grading2.grade_history (employee_id, old_grade_id, new_grade_id, changed_by, reason, changed_at) " +
+        "VALUES (:employeeId, :gradeId, :gradeId, :changedBy, :reason, :now)";
+    private static final String INSERT_PROFILE_SNAPSHOT =
+        "INSERT INTO grading2.employee_profile_snapshot (employee_id, current_grade_id, grade_changes_count, updated_at) " +
+        "VALUES (:employeeId, :gradeId, 1, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmployeeImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT username FROM grading2.users WHERE username IN (:usernames)",
+            Map.of("usernames", usernames), String.class));
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT email FROM grading2.employees WHERE email IN (:emails)",
+            Map.of("emails", emails), String.class));
+    }
+
+    /**
+     * Inserts users, employees, their initial grade history and profile snapshots for one chunk in
+     * a single transaction. Returns the number of employees created.
+     */
+    @Transactional
+    public int insertChunk(List<NewEmployee> employees, Long changedById, String reason) {
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_USER, employees.stream()
+            .map(e -> new MapSqlParameterSource()
+                .addValue("username", e.username())
+                .addValue("passwordHash", e.passwordHash())
+                .addValue("now", now))
+            .toArray(SqlParameterSource[]::new));
+        Map<String, Long> userIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username FROM grading2.users WHERE username IN (:usernames)",
+            Map.of("usernames", employees.stream().map(NewEmployee::username).toList()),
+            rs -> {
+                userIds.put(rs.getString("username"), rs.getLong("id"));
+            });
+
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, employees.stream()
+            .map(e -> new MapSqlParameterSource()
+                .addValue("userId", userIds.get(e.username()))
+                .addValue("fullName", e.fullName())
+                .addValue("email", e.email())
+                .addValue("role", e.role())
+                .addValue("hireDate", e.hireDate())
+                .addValue("department", e.department())
+                .addValue("reviewPeriod", e.reviewPeriod())
+                .addValue("now", now))
+            .toArray(SqlParameterSource[]::new));
+        Map<Long, Long> employeeIdsByUserId = new HashMap<>();
+        jdbcTemplate.query("SELECT id, user_id FROM grading2.employees WHERE user_id IN (:userIds)",
+            Map.of("userIds", userIds.values()),
+            rs -> {
+                employeeIdsByUserId.put(rs.getLong("user_id"), rs.getLong("id"));
+            });
+
+        SqlParameterSource[] gradeRows = employees.stream()
+            .map(e -> {
+                Long employeeId = employeeIdsByUserId.get(userIds.get(e.username()));
+                return new MapSqlParameterSource()
+                    .addValue("employeeId", employeeId)
+                    .addValue("gradeId", e.gradeId())
+                    .addValue("changedBy", changedById != null ? changedById : employeeId)
+                    .addValue("reason", reason)
+                    .addValue("now", now);
+            })
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_GRADE_HISTORY, gradeRows);
+        jdbcTemplate.batchUpdate(INSERT_PROFILE_SNAPSHOT, gradeRows);
+
+        return employees.size();
+    }
+
+    public record NewEmployee(String username, String passwordHash, String fullName, String email, String role,
+                              LocalDate hireDate, String department, String reviewPeriod, Long gradeId) {
+    }
+}
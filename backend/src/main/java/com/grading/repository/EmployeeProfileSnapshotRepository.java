@@ -0,0 +1,76 @@
+package com.grading.repository;
+
+import com.grading.entity.EmployeeProfileSnapshot;
+import com.grading.entity.Grade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeProfileSnapshotRepository extends JpaRepository<EmployeeProfileSnapshot, Long> {
+    @Query("SELECT s FROM EmployeeProfileSnapshot s " +
+           "JOIN FETCH s.employee " +
+           "LEFT JOIN FETCH s.currentGrade " +
+           "WHERE s.employeeId = :employeeId")
+    Optional<EmployeeProfileSnapshot> findWithEmployeeById(@Param("employeeId") Long employeeId);
+
+    @Query("SELECT s FROM EmployeeProfileSnapshot s " +
+           "JOIN FETCH s.employee " +
+           "LEFT JOIN FETCH s.currentGrade " +
+           "WHERE s.employeeId IN :employeeIds")
+    List<EmployeeProfileSnapshot> findAllWithEmployeeByIds(@Param("employeeIds") Collection<Long> employeeIds);
+
+    /**
+     * Inserts a computed snapshot unless another transaction created the row first; returns 0 in that case.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO grading2.employee_profile_snapshot " +
+                   "(employee_id, current_grade_id, grade_changes_count, last_evaluation_id, last_score, last_review_date, updated_at) " +
+                   "VALUES (:employeeId, :gradeId, :gradeChangesCount, :lastEvaluationId, :lastScore, :lastReviewDate, :now) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("employeeId") Long employeeId,
+                       @Param("gradeId") Long gradeId,
+                       @Param("gradeChangesCount") int gradeChangesCount,
+                       @Param("lastEvaluationId") Long lastEvaluationId,
+                       @Param("lastScore") BigDecimal lastScore,
+                       @Param("lastReviewDate") LocalDateTime lastReviewDate,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmployeeProfileSnapshot s " +
+           "SET s.currentGrade = :grade, s.gradeChangesCount = s.gradeChangesCount + 1, s.updatedAt = :now " +
+           "WHERE s.employeeId = :employeeId")
+    int applyGradeChange(@Param("employeeId") Long employeeId,
+                         @Param("grade") Grade grade,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Records an evaluation as the latest one unless a newer evaluation is already recorded.
+     */
+    @Modifying
+    @Query("UPDATE EmployeeProfileSnapshot s " +
+           "SET s.lastEvaluationId = :evaluationId, s.lastScore = :score, s.lastReviewDate = :reviewDate, s.updatedAt = :now " +
+           "WHERE s.employeeId = :employeeId AND (s.lastReviewDate IS NULL OR s.lastReviewDate <= :reviewDate)")
+    int applyEvaluation(@Param("employeeId") Long employeeId,
+                        @Param("evaluationId") Long evaluationId,
+                        @Param("score") BigDecimal score,
+                        @Param("reviewDate") LocalDateTime reviewDate,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmployeeProfileSnapshot s SET s.lastScore = :score, s.updatedAt = :now " +
+           "WHERE s.employeeId = :employeeId AND s.lastEvaluationId = :evaluationId")
+    int applyEvaluationScore(@Param("employeeId") Long employeeId,
+                             @Param("evaluationId") Long evaluationId,
+                             @Param("score") BigDecimal score,
+                             @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,13 @@
 package com.grading.repository;
 
 import com.grading.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +28,19 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("SELECT e FROM Employee e ORDER BY e.createdAt DESC")
     @Override
     List<Employee> findAll();
-}
\ No newline at end of file
+
+    @Query("SELECT e FROM Employee e " +
+           "WHERE (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Employee> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT e FROM Employee e " +
+           "WHERE e.department = :department AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Employee> findPageByDepartment(@Param("department") String department, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT e.department, COUNT(e) FROM Employee e " +
+           "WHERE (:allPeriods = true OR e.reviewPeriod = :reviewPeriod) " +
+           "GROUP BY e.department")
+    List<Object[]> countByDepartment(@Param("allPeriods") boolean allPeriods, @Param("reviewPeriod") String reviewPeriod);
+}
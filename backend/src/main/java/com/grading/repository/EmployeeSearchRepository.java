@@ -0,0 +1,86 @@
+package com.grading.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ranked employee search over full name, email and department. On PostgreSQL with pg_trgm the
+ * query combines prefix matches with trigram similarity (typo tolerant) and is served by the GIN
+ * trigram indexes; elsewhere (H2 in tests, or the extension missing) it falls back to prefix
+ * matching only.
+ */
+@Repository
+public class EmployeeSearchRepository {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchRepository.class);
+
+    private static final String TRIGRAM_SEARCH =
+        "SELECT e.id FROM grading2.employees e " +
+        "WHERE e.full_name % :query OR e.email % :query OR e.department % :query " +
+        "   OR e.full_name ILIKE :prefix OR e.full_name ILIKE :wordPrefix " +
+        "   OR e.email ILIKE :prefix OR e.department ILIKE :prefix " +
+        "ORDER BY (CASE WHEN e.full_name ILIKE :prefix OR e.full_name ILIKE :wordPrefix " +
+        "               OR e.email ILIKE :prefix OR e.department ILIKE :prefix THEN 1 ELSE 0 END " +
+        "          + GREATEST(similarity(e.full_name, :query), similarity(e.email, :query), similarity(e.department, :query))) DESC, " +
+        "         e.id " +
+        "LIMIT :limit OFFSET :offset";
+
+    private static final String PREFIX_SEARCH =
+        "SELECT e.id FROM grading2.employees e " +
+        "WHERE LOWER(e.full_name) LIKE :prefix OR LOWER(e.full_name) LIKE :wordPrefix " +
+        "   OR LOWER(e.email) LIKE :prefix OR LOWER(e.department) LIKE :prefix " +
+        "ORDER BY CASE WHEN LOWER(e.full_name) LIKE :prefix THEN 0 " +
+        "              WHEN LOWER(e.full_name) LIKE :wordPrefix THEN 1 " +
+        "              WHEN LOWER(e.email) LIKE :prefix THEN 2 ELSE 3 END, " +
+        "         e.full_name, e.id " +
+        "LIMIT :limit OFFSET :offset";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean trigramAvailable;
+
+    public EmployeeSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns ids of matching employees, best match first.
+     */
+    public List<Long> search(String query, int limit, int offset) {
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("query", normalized)
+            .addValue("prefix", escaped + "%")
+            .addValue("wordPrefix", "% " + escaped + "%")
+            .addValue("limit", limit)
+            .addValue("offset", offset);
+        return jdbcTemplate.queryForList(isTrigramAvailable() ? TRIGRAM_SEARCH : PREFIX_SEARCH, params, Long.class);
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available == null) {
+            try {
+                available = Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", Boolean.class));
+            } catch (DataAccessException e) {
+                available = false;
+            }
+            if (!available) {
+                logger.info("pg_trgm is not available, employee search uses prefix matching only");
+            }
+            trigramAvailable = available;
+        }
+        return available;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,54 @@
+package com.grading.repository;
+
+import com.grading.entity.EvaluatorScoreBucket;
+import com.grading.entity.EvaluatorScoreBucketId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface EvaluatorScoreBucketRepository extends JpaRepository<EvaluatorScoreBucket, EvaluatorScoreBucketId> {
+    /**
+     * Creates an empty bucket unless it already exists, so the delta update below always has a row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO grading2.evaluator_score_buckets " +
+                   "(review_period, evaluator_id, bucket, evaluation_count, score_sum, score_sum_squares) " +
+                   "VALUES (:reviewPeriod, :evaluatorId, :bucket, 0, 0, 0) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int ensureBucket(@Param("reviewPeriod") String reviewPeriod,
+                     @Param("evaluatorId") Long evaluatorId,
+                     @Param("bucket") int bucket);
+
+    /**
+     * Native so the numeric deltas are bound as plain parameters; HQL renders BigDecimal arithmetic
+     * on an unconstrained NUMERIC column as a cast with no precision, which the database rejects.
+     */
+    @Modifying
+    @Query(value = "UPDATE grading2.evaluator_score_buckets " +
+                   "SET evaluation_count = evaluation_count + :countDelta, " +
+                   "    score_sum = score_sum + :sumDelta, " +
+                   "    score_sum_squares = score_sum_squares + :squaresDelta " +
+                   "WHERE review_period = :reviewPeriod AND evaluator_id = :evaluatorId AND bucket = :bucket",
+           nativeQuery = true)
+    int applyDelta(@Param("reviewPeriod") String reviewPeriod,
+                   @Param("evaluatorId") Long evaluatorId,
+                   @Param("bucket") int bucket,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") BigDecimal sumDelta,
+                   @Param("squaresDelta") BigDecimal squaresDelta);
+
+    /**
+     * Non-empty buckets of a review period with the evaluator's name: at most ten rows per evaluator.
+     */
+    @Query("SELECT b.evaluatorId, e.fullName, b.bucket, b.evaluationCount, b.scoreSum, b.scoreSumSquares " +
+           "FROM EvaluatorScoreBucket b, Employee e " +
+           "WHERE e.id = b.evaluatorId AND b.reviewPeriod = :reviewPeriod AND b.evaluationCount > 0 " +
+           "ORDER BY e.fullName, b.evaluatorId, b.bucket")
+    List<Object[]> findBucketsByReviewPeriod(@Param("reviewPeriod") String reviewPeriod);
+}
@@ -0,0 +1,84 @@
+package com.grading.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Forward-only reads for the export endpoints. Rows are handed to the callback one at a time and
+ * never collected; the driver fetches them {@code export.fetch-size} at a time. On PostgreSQL the
+ * fetch size only takes effect inside a transaction (autocommit off), otherwise the whole result is
+ * buffered, so callers must hold one. Column order of each query matches its column list.
+ */
+@Repository
+public class ExportRepository {
+    public static final List<String> EVALUATION_COLUMNS = List.of(
+        "id", "employeeId", "employeeName", "department", "evaluatorId", "evaluatorName",
+        "reviewPeriod", "score", "comment", "nominatedForPromotion", "createdAt", "updatedAt");
+
+    public static final List<String> PROMOTION_REQUEST_COLUMNS = List.of(
+        "id", "employeeId", "employeeName", "department", "requestedGradeId", "requestedGradeName",
+        "submittedById", "submittedByName", "reviewPeriod", "status", "justification", "evidence",
+        "hrComment", "calibrationId", "createdAt");
+
+    private static final String EVALUATIONS =
+        "SELECT me.id, e.id, e.full_name, e.department, ev.id, ev.full_name, " +
+        "       me.review_period, me.score, me.comment, me.nominated_for_promotion, me.created_at, me.updated_at " +
+        "FROM grading2.manager_evaluations me " +
+        "JOIN grading2.employees e ON e.id = me.employee_id " +
+        "JOIN grading2.employees ev ON ev.id = me.evaluator_id ";
+
+    private static final String PROMOTION_REQUESTS =
+        "SELECT pr.id, e.id, e.full_name, e.department, g.id, g.name, s.id, s.full_name, " +
+        "       pr.review_period, pr.status, pr.justification, pr.evidence, pr.hr_comment, pr.calibration_id, pr.created_at " +
+        "FROM grading2.promotion_requests pr " +
+        "JOIN grading2.employees e ON e.id = pr.employee_id " +
+        "JOIN grading2.grades g ON g.id = pr.requested_grade_id " +
+        "JOIN grading2.employees s ON s.id = pr.submitted_by_id ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource, @Value("${export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * Evaluations in id order, optionally of one review period.
+     */
+    public void streamEvaluations(String reviewPeriod, RowCallbackHandler handler) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(EVALUATIONS);
+        if (reviewPeriod != null) {
+            sql.append("WHERE me.review_period = :reviewPeriod ");
+            params.addValue("reviewPeriod", reviewPeriod);
+        }
+        sql.append("ORDER BY me.id");
+        jdbcTemplate.query(sql.toString(), params, handler);
+    }
+
+    /**
+     * Promotion requests in id order, optionally of one status and/or review period.
+     */
+    public void streamPromotionRequests(String status, String reviewPeriod, RowCallbackHandler handler) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(PROMOTION_REQUESTS).append("WHERE 1 = 1 ");
+        if (status != null) {
+            sql.append("AND pr.status = :status ");
+            params.addValue("status", status);
+        }
+        if (reviewPeriod != null) {
+            sql.append("AND pr.review_period = :reviewPeriod ");
+            params.addValue("reviewPeriod", reviewPeriod);
+        }
+        sql.append("ORDER BY pr.id");
+        jdbcTemplate.query(sql.toString(), params, handler);
+    }
+}
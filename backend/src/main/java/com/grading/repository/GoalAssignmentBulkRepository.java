@@ -0,0 +1,96 @@
+package com.grading.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based goal assignment writes: one INSERT ... SELECT over the employees matching a selector,
+ * so a cohort of any size is assigned in a single statement without loading employees, and chunked
+ * status updates for the overdue sweep.
+ */
+@Repository
+public class GoalAssignmentBulkRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public GoalAssignmentBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int countMatching(EmployeeSelector selector) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM grading2.employees e WHERE " + where(selector, params), params, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Assigns the goal to matching employees who do not have it yet. Returns the number of rows inserted.
+     */
+    public int assignMissing(Long goalId, LocalDate dueDate, String status, EmployeeSelector selector) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("goalId", goalId)
+            .addValue("dueDate", dueDate)
+            .addValue("status", status)
+            .addValue("now", now);
+        String sql =
+            "INSERT INTO grading2.goal_assignments (goal_id, employee_id, due_date, status, created_at, updated_at) " +
+            "SELECT :goalId, e.id, :dueDate, :status, :now, :now FROM grading2.employees e " +
+            "WHERE " + where(selector, params) + " " +
+            "AND NOT EXISTS (SELECT 1 FROM grading2.goal_assignments ga WHERE ga.goal_id = :goalId AND ga.employee_id = e.id)";
+        return jdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * Moves up to {@code limit} in-progress assignments past their due date to "overdue" in its own
+     * short transaction. Rows locked by other writers are skipped rather than waited on, so the
+     * sweep never queues behind user updates; they are picked up by a later chunk or run.
+     */
+    @Transactional
+    public int markOverdueChunk(LocalDate today, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("today", today)
+            .addValue("limit", limit)
+            .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.update(
+            "UPDATE grading2.goal_assignments SET status = 'overdue', updated_at = :now " +
+            "WHERE id IN (SELECT ga.id FROM grading2.goal_assignments ga " +
+            "             WHERE ga.status = 'in_progress' AND ga.due_date < :today " +
+            "             ORDER BY ga.due_date LIMIT :limit FOR UPDATE SKIP LOCKED)",
+            params);
+    }
+
+    private static String where(EmployeeSelector selector, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder("1 = 1");
+        if (selector.department() != null) {
+            where.append(" AND e.department = :department");
+            params.addValue("department", selector.department());
+        }
+        if (selector.role() != null) {
+            where.append(" AND e.role = :role");
+            params.addValue("role", selector.role());
+        }
+        if (selector.reviewPeriod() != null) {
+            where.append(" AND e.review_period = :reviewPeriod");
+            params.addValue("reviewPeriod", selector.reviewPeriod());
+        }
+        if (selector.employeeIds() != null) {
+            where.append(" AND e.id IN (:employeeIds)");
+            params.addValue("employeeIds", selector.employeeIds());
+        }
+        return where.toString();
+    }
+
+    /**
+     * Null fields do not restrict the selection; employeeIds, when present, must not be empty.
+     */
+    public record EmployeeSelector(String department, String role, String reviewPeriod, List<Long> employeeIds) {
+    }
+}
@@ -1,28 +1,67 @@
 package com.grading.repository;
 
+import com.grading.dto.response.GoalResponse;
 import com.grading.entity.GoalAssignment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GoalAssignmentRepository extends JpaRepository<GoalAssignment, Long> {
-    @Query("SELECT ga FROM GoalAssignment ga WHERE ga.employee.id = :employeeId ORDER BY ga.createdAt DESC")
-    List<GoalAssignment> findByEmployeeId(@Param("employeeId") Long employeeId);
+    /**
+     * Columns of {@link GoalResponse}, read in one statement. Selecting the entity instead loads the
+     * eager goal and employee associations (and the employee's user) with a select per row.
+     */
+    String GOAL_RESPONSE_SELECT =
+        "SELECT new com.grading.dto.response.GoalResponse(" +
+        "ga.id, g.id, g.title, g.description, g.metric, e.id, e.fullName, " +
+        "ga.dueDate, ga.status, g.reviewPeriod, ga.createdAt, ga.updatedAt) " +
+        "FROM GoalAssignment ga JOIN ga.goal g JOIN ga.employee e ";
+
+    @Query(GOAL_RESPONSE_SELECT + "WHERE ga.id = :id")
+    Optional<GoalResponse> findResponseById(@Param("id") Long id);
+
+    @Query(GOAL_RESPONSE_SELECT + "WHERE e.id = :employeeId ORDER BY ga.createdAt DESC")
+    List<GoalResponse> findResponsesByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Query(GOAL_RESPONSE_SELECT +
+           "WHERE ga.id IN (SELECT prg.goalAssignmentId FROM PromotionRequestGoal prg " +
+           "WHERE prg.promotionRequestId = :promotionRequestId) " +
+           "ORDER BY ga.createdAt DESC")
+    List<GoalResponse> findResponsesByPromotionRequestId(@Param("promotionRequestId") Long promotionRequestId);
     
-    @Query("SELECT ga FROM GoalAssignment ga WHERE ga.employee.id = :employeeId AND ga.goal.reviewPeriod = :reviewPeriod ORDER BY ga.createdAt DESC")
-    List<GoalAssignment> findByEmployeeIdAndReviewPeriod(@Param("employeeId") Long employeeId, @Param("reviewPeriod") String reviewPeriod);
+    @Query(GOAL_RESPONSE_SELECT + "WHERE e.id = :employeeId AND g.reviewPeriod = :reviewPeriod ORDER BY ga.createdAt DESC")
+    List<GoalResponse> findResponsesByEmployeeIdAndReviewPeriod(@Param("employeeId") Long employeeId, @Param("reviewPeriod") String reviewPeriod);
     
-    @Query("SELECT ga FROM GoalAssignment ga WHERE ga.employee.id = :employeeId AND ga.status = :status ORDER BY ga.createdAt DESC")
-    List<GoalAssignment> findByEmployeeIdAndStatus(@Param("employeeId") Long employeeId, @Param("status") String status);
+    @Query(GOAL_RESPONSE_SELECT + "WHERE e.id = :employeeId AND ga.status = :status ORDER BY ga.createdAt DESC")
+    List<GoalResponse> findResponsesByEmployeeIdAndStatus(@Param("employeeId") Long employeeId, @Param("status") String status);
+
+    @Query(GOAL_RESPONSE_SELECT +
+           "WHERE (ga.createdAt < :createdAt OR (ga.createdAt = :createdAt AND ga.id < :id)) " +
+           "ORDER BY ga.createdAt DESC, ga.id DESC")
+    List<GoalResponse> findResponsePage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
     
     @Query("SELECT ga FROM GoalAssignment ga " +
            "LEFT JOIN FETCH ga.goal " +
            "LEFT JOIN FETCH ga.employee " +
-           "LEFT JOIN FETCH ga.employee.user " +
            "ORDER BY ga.createdAt DESC")
     List<GoalAssignment> findAllWithRelations();
-}
\ No newline at end of file
+
+    /**
+     * Assignment counts per employee and status for one review period: employee id, department,
+     * status, count, and how many of those are past due and not completed.
+     */
+    @Query("SELECT e.id, e.department, ga.status, COUNT(ga), " +
+           "SUM(CASE WHEN ga.dueDate < :today AND ga.status <> 'completed' THEN 1 ELSE 0 END) " +
+           "FROM GoalAssignment ga JOIN ga.goal g JOIN ga.employee e " +
+           "WHERE g.reviewPeriod = :reviewPeriod " +
+           "GROUP BY e.id, e.department, ga.status")
+    List<Object[]> countByEmployeeAndStatus(@Param("reviewPeriod") String reviewPeriod, @Param("today") LocalDate today);
+}
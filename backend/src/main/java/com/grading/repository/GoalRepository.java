@@ -16,5 +16,4 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     @Query("SELECT g FROM Goal g ORDER BY g.createdAt DESC")
     @Override
     List<Goal> findAll();
-}
-
+}
\ No newline at end of file
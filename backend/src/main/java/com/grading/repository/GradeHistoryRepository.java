@@ -1,5 +1,6 @@
 package com.grading.repository;
 
+import com.grading.dto.response.GradeHistoryResponse;
 import com.grading.entity.GradeHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,7 +15,24 @@ public interface GradeHistoryRepository extends JpaRepository<GradeHistory, Long
     List<GradeHistory> findByEmployeeIdOrderByChangedAtDesc(Long employeeId);
     
     Optional<GradeHistory> findTopByEmployeeIdOrderByChangedAtDesc(Long employeeId);
+
+    long countByEmployeeId(Long employeeId);
+
+    @Query("SELECT new com.grading.dto.response.GradeHistoryResponse(" +
+           "gh.id, og.id, og.name, ng.id, ng.name, cb.id, cb.fullName, gh.reason, gh.changedAt) " +
+           "FROM GradeHistory gh JOIN gh.oldGrade og JOIN gh.newGrade ng JOIN gh.changedBy cb " +
+           "WHERE gh.employee.id = :employeeId ORDER BY gh.changedAt DESC, gh.id DESC")
+    List<GradeHistoryResponse> findResponsesByEmployeeId(@Param("employeeId") Long employeeId);
     
     @Query("SELECT gh FROM GradeHistory gh WHERE gh.employee.id = :employeeId ORDER BY gh.changedAt DESC LIMIT 1")
     Optional<GradeHistory> findLatestByEmployeeId(@Param("employeeId") Long employeeId);
-}
\ No newline at end of file
+
+    /**
+     * Current grade (the newest history row) counted per department and grade name.
+     */
+    @Query("SELECT e.department, g.name, COUNT(gh) FROM GradeHistory gh JOIN gh.employee e JOIN gh.newGrade g " +
+           "WHERE gh.id = (SELECT MAX(gh2.id) FROM GradeHistory gh2 WHERE gh2.employee = e) " +
+           "AND (:allPeriods = true OR e.reviewPeriod = :reviewPeriod) " +
+           "GROUP BY e.department, g.name")
+    List<Object[]> countCurrentGradesByDepartment(@Param("allPeriods") boolean allPeriods, @Param("reviewPeriod") String reviewPeriod);
+}
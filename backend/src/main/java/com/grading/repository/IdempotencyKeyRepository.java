@@ -0,0 +1,56 @@
+package com.grading.repository;
+
+import com.grading.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByOwnerAndIdempotencyKey(String owner, String idempotencyKey);
+
+    /**
+     * Takes over a key whose request was abandoned (in progress since before {@code staleBefore})
+     * or that expired but was not purged yet. Returns 0 when the key is live.
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.fingerprint = :fingerprint, k.status = 'in_progress', " +
+           "k.responseStatus = NULL, k.responseContentType = NULL, k.responseBody = NULL, " +
+           "k.createdAt = :now, k.expiresAt = :expiresAt " +
+           "WHERE k.id = :id AND ((k.status = 'in_progress' AND k.createdAt < :staleBefore) OR k.expiresAt < :now)")
+    int reclaim(@Param("id") Long id,
+                @Param("fingerprint") String fingerprint,
+                @Param("now") LocalDateTime now,
+                @Param("staleBefore") LocalDateTime staleBefore,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.status = 'completed', k.responseStatus = :responseStatus, " +
+           "k.responseContentType = :contentType, k.responseBody = :body, k.expiresAt = :expiresAt " +
+           "WHERE k.owner = :owner AND k.idempotencyKey = :key AND k.status = 'in_progress'")
+    int complete(@Param("owner") String owner,
+                 @Param("key") String key,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.owner = :owner AND k.idempotencyKey = :key AND k.status = 'in_progress'")
+    int release(@Param("owner") String owner, @Param("key") String key);
+
+    /**
+     * Deletes up to {@code limit} expired keys, oldest first, so a purge never holds locks on more
+     * than one batch.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM grading2.idempotency_keys WHERE id IN (" +
+                   "SELECT id FROM grading2.idempotency_keys WHERE expires_at < :now ORDER BY expires_at LIMIT :limit)",
+           nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,80 @@
+package com.grading.repository;
+
+import com.grading.entity.ManagerEvaluation;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched JDBC writes for bulk evaluation submission. IDENTITY keys keep Hibernate from batching
+ * inserts, so evaluations go out as one JDBC batch and their generated ids are read back from the
+ * same statement.
+ */
+@Repository
+public class ManagerEvaluationBulkRepository {
+    private static final String INSERT_EVALUATION =
+        "INSERT INTO grading2.manager_evaluations " +
+        "(evaluator_id, employee_id, review_period, score, comment, nominated_for_promotion, created_at, updated_at) " +
+        "VALUES (:evaluatorId, :employeeId, :reviewPeriod, :score, :comment, :nominated, :now, :now)";
+    private static final String APPLY_TO_PROFILE_SNAPSHOT =
+        "UPDATE grading2.employee_profile_snapshot " +
+        "SET last_evaluation_id = :evaluationId, last_score = :score, last_review_date = :reviewDate, updated_at = :now " +
+        "WHERE employee_id = :employeeId AND (last_review_date IS NULL OR last_review_date <= :reviewDate)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ManagerEvaluationBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the evaluations in one batch and sets their generated ids. All evaluations get the
+     * same creation time, which must already be set on them.
+     */
+    public void insertAll(List<ManagerEvaluation> evaluations) {
+        if (evaluations.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] rows = evaluations.stream()
+            .map(e -> new MapSqlParameterSource()
+                .addValue("evaluatorId", e.getEvaluator().getId())
+                .addValue("employeeId", e.getEmployee().getId())
+                .addValue("reviewPeriod", e.getReviewPeriod())
+                .addValue("score", e.getScore())
+                .addValue("comment", e.getComment())
+                .addValue("nominated", e.getNominatedForPromotion())
+                .addValue("now", Timestamp.valueOf(e.getCreatedAt())))
+            .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_EVALUATION, rows, keys, new String[] {"id"});
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < evaluations.size(); i++) {
+            evaluations.get(i).setId(((Number) generated.get(i).get("id")).longValue());
+        }
+    }
+
+    /**
+     * Records each evaluation as the latest one on its employee's profile snapshot, in one batch.
+     * Returns the update count per evaluation; 0 means the snapshot row is missing or newer.
+     */
+    public int[] applyToProfileSnapshots(List<ManagerEvaluation> evaluations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(APPLY_TO_PROFILE_SNAPSHOT, evaluations.stream()
+            .map(e -> new MapSqlParameterSource()
+                .addValue("evaluationId", e.getId())
+                .addValue("score", e.getScore())
+                .addValue("reviewDate", Timestamp.valueOf(e.getCreatedAt()))
+                .addValue("employeeId", e.getEmployee().getId())
+                .addValue("now", now))
+            .toArray(SqlParameterSource[]::new));
+    }
+}
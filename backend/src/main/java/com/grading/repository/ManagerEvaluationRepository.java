@@ -1,11 +1,14 @@
 package com.grading.repository;
 
+import com.grading.dto.response.ReviewResponse;
 import com.grading.entity.ManagerEvaluation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +25,41 @@ public interface ManagerEvaluationRepository extends JpaRepository<ManagerEvalua
     
     @Query("SELECT me FROM ManagerEvaluation me WHERE me.employee.id = :employeeId ORDER BY me.createdAt DESC LIMIT 1")
     Optional<ManagerEvaluation> findLatestByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Query("SELECT new com.grading.dto.response.ReviewResponse(" +
+           "me.id, ev.id, ev.fullName, e.id, e.fullName, me.reviewPeriod, me.score, me.comment, " +
+           "me.nominatedForPromotion, me.createdAt, me.updatedAt) " +
+           "FROM ManagerEvaluation me JOIN me.evaluator ev JOIN me.employee e " +
+           "WHERE e.id = :employeeId ORDER BY me.createdAt DESC, me.id DESC")
+    List<ReviewResponse> findLatestResponsesByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
     
     @Query("SELECT me FROM ManagerEvaluation me ORDER BY me.createdAt DESC")
     @Override
     List<ManagerEvaluation> findAll();
-}
\ No newline at end of file
+
+    @Query("SELECT me FROM ManagerEvaluation me " +
+           "WHERE (me.createdAt < :createdAt OR (me.createdAt = :createdAt AND me.id < :id)) " +
+           "ORDER BY me.createdAt DESC, me.id DESC")
+    List<ManagerEvaluation> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT me FROM ManagerEvaluation me " +
+           "WHERE me.reviewPeriod = :reviewPeriod AND (me.createdAt < :createdAt OR (me.createdAt = :createdAt AND me.id < :id)) " +
+           "ORDER BY me.createdAt DESC, me.id DESC")
+    List<ManagerEvaluation> findPageByReviewPeriod(@Param("reviewPeriod") String reviewPeriod, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Average of each employee's latest score (within the review period if given) per department.
+     */
+    @Query("SELECT e.department, AVG(me.score) FROM ManagerEvaluation me JOIN me.employee e " +
+           "WHERE me.id = (SELECT MAX(me2.id) FROM ManagerEvaluation me2 WHERE me2.employee = e " +
+           "               AND (:allPeriods = true OR me2.reviewPeriod = :reviewPeriod)) " +
+           "GROUP BY e.department")
+    List<Object[]> averageLatestScoreByDepartment(@Param("allPeriods") boolean allPeriods, @Param("reviewPeriod") String reviewPeriod);
+
+    /**
+     * Scores of a review period as (evaluation id, employee id, employee name, evaluator id, score).
+     */
+    @Query("SELECT me.id, e.id, e.fullName, me.evaluator.id, me.score FROM ManagerEvaluation me JOIN me.employee e " +
+           "WHERE me.reviewPeriod = :reviewPeriod ORDER BY e.fullName, me.id")
+    List<Object[]> findScoresByReviewPeriod(@Param("reviewPeriod") String reviewPeriod);
+}
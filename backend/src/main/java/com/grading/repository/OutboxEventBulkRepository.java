@@ -0,0 +1,48 @@
+package com.grading.repository;
+
+import com.grading.entity.OutboxEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Batched outbox inserts. IDENTITY keys keep Hibernate from batching, so bulk operations write
+ * their events here in one JDBC batch instead of one insert per event.
+ */
+@Repository
+public class OutboxEventBulkRepository {
+    private static final String INSERT_EVENT =
+        "INSERT INTO grading2.outbox_events " +
+        "(event_type, aggregate_type, aggregate_id, payload, status, attempts, created_at, available_at) " +
+        "VALUES (:eventType, :aggregateType, :aggregateId, :payload, :status, :attempts, :createdAt, :availableAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxEventBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the events in one batch. Creation and availability times must already be set.
+     */
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events.stream()
+            .map(e -> new MapSqlParameterSource()
+                .addValue("eventType", e.getEventType())
+                .addValue("aggregateType", e.getAggregateType())
+                .addValue("aggregateId", e.getAggregateId())
+                .addValue("payload", e.getPayload())
+                .addValue("status", e.getStatus())
+                .addValue("attempts", e.getAttempts())
+                .addValue("createdAt", Timestamp.valueOf(e.getCreatedAt()))
+                .addValue("availableAt", Timestamp.valueOf(e.getAvailableAt())))
+            .toArray(SqlParameterSource[]::new));
+    }
+}
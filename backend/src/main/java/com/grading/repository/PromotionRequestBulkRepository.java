@@ -0,0 +1,49 @@
+package com.grading.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Batched JDBC writes for bulk HR decisions. Each decision is the same compare-and-set as
+ * {@link PromotionRequestRepository#transitionStatus}, sent together as one JDBC batch.
+ */
+@Repository
+public class PromotionRequestBulkRepository {
+    private static final String DECIDE =
+        "UPDATE grading2.promotion_requests " +
+        "SET status = :to, status_changed_by_id = :changedById, hr_comment = COALESCE(:comment, hr_comment), " +
+        "version = version + 1 " +
+        "WHERE id = :id AND status = :from";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PromotionRequestBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Applies every decision that still finds its request in {@code from}. Returns the update count
+     * per decision; 0 means the request was changed concurrently.
+     */
+    public int[] decideAll(List<Decision> decisions, String from, Long changedById) {
+        if (decisions.isEmpty()) {
+            return new int[0];
+        }
+        SqlParameterSource[] rows = decisions.stream()
+            .map(d -> new MapSqlParameterSource()
+                .addValue("id", d.promotionRequestId())
+                .addValue("to", d.status())
+                .addValue("comment", d.comment())
+                .addValue("from", from)
+                .addValue("changedById", changedById))
+            .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(DECIDE, rows);
+    }
+
+    public record Decision(Long promotionRequestId, String status, String comment) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.grading.repository;
 
+import com.grading.dto.response.PromotionRequestFileResponse;
 import com.grading.entity.PromotionRequestFile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +13,11 @@ import java.util.List;
 public interface PromotionRequestFileRepository extends JpaRepository<PromotionRequestFile, Long> {
     @Query("SELECT prf FROM PromotionRequestFile prf WHERE prf.promotionRequest.id = :promotionRequestId ORDER BY prf.uploadedAt DESC")
     List<PromotionRequestFile> findByPromotionRequestId(@Param("promotionRequestId") Long promotionRequestId);
+
+    @Query("SELECT new com.grading.dto.response.PromotionRequestFileResponse(" +
+           "prf.id, prf.promotionRequest.id, prf.fileName, prf.fileSize, prf.contentType, prf.uploadedAt) " +
+           "FROM PromotionRequestFile prf WHERE prf.promotionRequest.id = :promotionRequestId ORDER BY prf.uploadedAt DESC")
+    List<PromotionRequestFileResponse> findResponsesByPromotionRequestId(@Param("promotionRequestId") Long promotionRequestId);
     
     void deleteByPromotionRequestId(Long promotionRequestId);
 }
@@ -1,15 +1,37 @@
 package com.grading.repository;
 
+import com.grading.dto.response.PromotionRequestResponse;
+import com.grading.entity.Calibration;
+import com.grading.entity.Employee;
 import com.grading.entity.PromotionRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PromotionRequestRepository extends JpaRepository<PromotionRequest, Long> {
+    /**
+     * Columns of {@link PromotionRequestResponse}, read in one statement. Loading the entity pulls
+     * in its eager employees, grade and calibration (and their users) with further selects.
+     */
+    String PROMOTION_REQUEST_RESPONSE_SELECT =
+        "SELECT new com.grading.dto.response.PromotionRequestResponse(" +
+        "pr.id, e.id, e.fullName, g.id, g.name, sb.id, sb.fullName, pr.justification, pr.evidence, " +
+        "pr.reviewPeriod, pr.status, pr.hrComment, pr.createdAt, pr.version, c.id) " +
+        "FROM PromotionRequest pr JOIN pr.employee e JOIN pr.requestedGrade g JOIN pr.submittedBy sb " +
+        "LEFT JOIN pr.calibration c ";
+
+    @Query(PROMOTION_REQUEST_RESPONSE_SELECT + "WHERE pr.id = :id")
+    Optional<PromotionRequestResponse> findResponseById(@Param("id") Long id);
+
     @Query("SELECT pr FROM PromotionRequest pr WHERE pr.employee.id = :employeeId ORDER BY pr.createdAt DESC")
     List<PromotionRequest> findByEmployeeId(@Param("employeeId") Long employeeId);
     
@@ -38,7 +60,72 @@ public interface PromotionRequestRepository extends JpaRepository<PromotionReque
     PromotionRequest findByCalibrationIdAndEmployeeId(@Param("calibrationId") Long calibrationId, 
                                                        @Param("employeeId") Long employeeId);
     
+    @Query("SELECT pr FROM PromotionRequest pr " +
+           "JOIN FETCH pr.employee JOIN FETCH pr.requestedGrade " +
+           "WHERE pr.id IN :ids")
+    List<PromotionRequest> findAllWithEmployeeAndGradeByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT pr FROM PromotionRequest pr ORDER BY pr.createdAt DESC")
     @Override
     List<PromotionRequest> findAll();
-}
\ No newline at end of file
+
+    @Query("SELECT pr FROM PromotionRequest pr " +
+           "WHERE (pr.createdAt < :createdAt OR (pr.createdAt = :createdAt AND pr.id < :id)) " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PromotionRequest> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT pr FROM PromotionRequest pr " +
+           "WHERE pr.status = :status AND (pr.createdAt < :createdAt OR (pr.createdAt = :createdAt AND pr.id < :id)) " +
+           "ORDER BY pr.createdAt DESC, pr.id DESC")
+    List<PromotionRequest> findPageByStatus(@Param("status") String status, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT e.department, COUNT(pr) FROM PromotionRequest pr JOIN pr.employee e " +
+           "WHERE pr.status IN :statuses AND (:allPeriods = true OR pr.reviewPeriod = :reviewPeriod) " +
+           "GROUP BY e.department")
+    List<Object[]> countByDepartmentAndStatusIn(@Param("statuses") List<String> statuses,
+                                                @Param("allPeriods") boolean allPeriods,
+                                                @Param("reviewPeriod") String reviewPeriod);
+
+    /**
+     * Compare-and-set status change: applies only while the request is still in {@code from} and
+     * bumps the version. A null comment keeps the current one. Returns 0 when another change won.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PromotionRequest pr SET pr.status = :to, pr.statusChangedBy = :changedBy, " +
+           "pr.hrComment = COALESCE(CAST(:comment AS String), pr.hrComment), pr.version = pr.version + 1 " +
+           "WHERE pr.id = :id AND pr.status = :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") String from,
+                         @Param("to") String to,
+                         @Param("changedBy") Employee changedBy,
+                         @Param("comment") String comment);
+
+    /**
+     * Moves a request returned for revision back to pending and clears the HR comment.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PromotionRequest pr SET pr.status = 'pending', pr.hrComment = NULL, pr.version = pr.version + 1 " +
+           "WHERE pr.id = :id AND pr.status = 'returned_for_revision'")
+    int reopenReturnedRequest(@Param("id") Long id);
+
+    /**
+     * Moves the requests of a finished calibration to calibration_completed if each is still
+     * in_calibration; the last status author is kept. Returns the number of requests moved.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PromotionRequest pr SET pr.status = 'calibration_completed', pr.version = pr.version + 1 " +
+           "WHERE pr.id IN :ids AND pr.status = 'in_calibration'")
+    int completeCalibration(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Puts the requests into the calibration if each is still unassigned and in one of
+     * {@code fromStatuses}. Returns the number of requests moved.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PromotionRequest pr SET pr.calibration = :calibration, pr.status = 'in_calibration', " +
+           "pr.version = pr.version + 1 " +
+           "WHERE pr.id IN :ids AND pr.calibration IS NULL AND pr.status IN :fromStatuses")
+    int assignToCalibration(@Param("ids") Collection<Long> ids,
+                            @Param("calibration") Calibration calibration,
+                            @Param("fromStatuses") List<String> fromStatuses);
+}
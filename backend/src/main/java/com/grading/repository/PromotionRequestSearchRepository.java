@@ -0,0 +1,105 @@
+package com.grading.repository;
+
+import com.grading.dto.response.PromotionRequestSummaryResponse;
+import com.grading.util.KeysetCursor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Multi-criteria promotion request search. Only the filters that are set become predicates, so
+ * each combination is a plain conjunctive query the planner can serve from the matching
+ * {@code (filter, created_at DESC, id DESC)} index (migration_013); pages follow the same keyset
+ * order as the other list endpoints and never count or offset.
+ */
+@Repository
+public class PromotionRequestSearchRepository {
+    private static final String SELECT =
+        "SELECT pr.id, e.id AS employee_id, e.full_name AS employee_name, e.department, " +
+        "       g.id AS grade_id, g.name AS grade_name, s.id AS submitted_by_id, s.full_name AS submitted_by_name, " +
+        "       pr.review_period, pr.status, pr.calibration_id, pr.created_at " +
+        "FROM grading2.promotion_requests pr " +
+        "JOIN grading2.employees e ON e.id = pr.employee_id " +
+        "JOIN grading2.grades g ON g.id = pr.requested_grade_id " +
+        "JOIN grading2.employees s ON s.id = pr.submitted_by_id " +
+        "WHERE (pr.created_at, pr.id) < (:afterCreatedAt, :afterId) ";
+
+    private static final RowMapper<PromotionRequestSummaryResponse> ROW_MAPPER = (rs, rowNum) ->
+        new PromotionRequestSummaryResponse(
+            rs.getLong("id"),
+            rs.getLong("employee_id"),
+            rs.getString("employee_name"),
+            rs.getString("department"),
+            rs.getLong("grade_id"),
+            rs.getString("grade_name"),
+            rs.getLong("submitted_by_id"),
+            rs.getString("submitted_by_name"),
+            rs.getString("review_period"),
+            rs.getString("status"),
+            rs.getObject("calibration_id", Long.class),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PromotionRequestSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Up to {@code limit} rows after {@code after} in {@code (created_at DESC, id DESC)} order.
+     * Null filters are ignored.
+     */
+    public List<PromotionRequestSummaryResponse> search(Filter filter, KeysetCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("afterCreatedAt", Timestamp.valueOf(after.createdAt()))
+            .addValue("afterId", after.id())
+            .addValue("limit", limit);
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (filter.statuses() != null) {
+            sql.append("AND pr.status IN (:statuses) ");
+            params.addValue("statuses", filter.statuses());
+        }
+        if (filter.reviewPeriod() != null) {
+            sql.append("AND pr.review_period = :reviewPeriod ");
+            params.addValue("reviewPeriod", filter.reviewPeriod());
+        }
+        if (filter.requestedGradeId() != null) {
+            sql.append("AND pr.requested_grade_id = :requestedGradeId ");
+            params.addValue("requestedGradeId", filter.requestedGradeId());
+        }
+        if (filter.department() != null) {
+            sql.append("AND e.department = :department ");
+            params.addValue("department", filter.department());
+        }
+        if (filter.submittedById() != null) {
+            sql.append("AND pr.submitted_by_id = :submittedById ");
+            params.addValue("submittedById", filter.submittedById());
+        }
+        if (filter.calibrationId() != null) {
+            sql.append("AND pr.calibration_id = :calibrationId ");
+            params.addValue("calibrationId", filter.calibrationId());
+        }
+        if (filter.createdFrom() != null) {
+            sql.append("AND pr.created_at >= :createdFrom ");
+            params.addValue("createdFrom", Timestamp.valueOf(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            sql.append("AND pr.created_at < :createdTo ");
+            params.addValue("createdTo", Timestamp.valueOf(filter.createdTo()));
+        }
+        sql.append("ORDER BY pr.created_at DESC, pr.id DESC LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Search filters after validation; null means "any", {@code statuses} is null or non-empty.
+     */
+    public record Filter(List<String> statuses, String reviewPeriod, Long requestedGradeId, String department,
+                         Long submittedById, Long calibrationId, LocalDateTime createdFrom, LocalDateTime createdTo) {
+    }
+}
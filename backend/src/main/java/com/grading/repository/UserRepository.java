@@ -1,7 +1,11 @@
 package com.grading.repository;
 
 import com.grading.entity.User;
+import com.grading.security.AuthIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +14,12 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.grading.security.AuthIdentity(u.id, u.username, u.passwordHash, u.tokenVersion, e.id, e.role) " +
+           "FROM User u LEFT JOIN u.employee e WHERE u.username = :username")
+    Optional<AuthIdentity> findAuthIdentityByUsername(@Param("username") String username);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+}
@@ -0,0 +1,18 @@
+package com.grading.security;
+
+/**
+ * Cached view of a user and its employee, everything authentication needs about a username.
+ * {@code employeeId} and {@code role} are null for users without an employee record.
+ */
+public record AuthIdentity(
+        Long userId,
+        String username,
+        String passwordHash,
+        Integer tokenVersion,
+        Long employeeId,
+        String role
+) {
+    public AuthenticatedEmployee toPrincipal() {
+        return new AuthenticatedEmployee(employeeId, userId, username, role, tokenVersion, passwordHash);
+    }
+}
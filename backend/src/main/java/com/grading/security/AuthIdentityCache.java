@@ -0,0 +1,61 @@
+package com.grading.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grading.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Size-bounded, TTL-based cache of {@link AuthIdentity} keyed by username. Backs login, legacy
+ * token resolution and token-version checks. Hit/miss/eviction counters are published as
+ * {@code cache.*} meters with {@code cache=auth.identity}.
+ */
+@Component
+public class AuthIdentityCache {
+    private static final Logger logger = LoggerFactory.getLogger(AuthIdentityCache.class);
+    private static final String CACHE_NAME = "auth.identity";
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthIdentity> cache;
+
+    public AuthIdentityCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.identity-cache.max-size:10000}") long maxSize,
+                             @Value("${auth.identity-cache.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the identity for the username, loading it with a single users/employees query on a miss.
+     * Returns null if the user does not exist; misses for unknown users are not cached.
+     */
+    public AuthIdentity get(String username) {
+        return cache.get(username, key -> userRepository.findAuthIdentityByUsername(key).orElse(null));
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    // After completion rather than after commit: evicting on rollback only costs one reload
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onIdentityChanged(AuthIdentityChangedEvent event) {
+        logger.debug("Evicting cached identity for user: {}", event.username());
+        evict(event.username());
+    }
+}
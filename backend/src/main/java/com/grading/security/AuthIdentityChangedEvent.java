@@ -0,0 +1,8 @@
+package com.grading.security;
+
+/**
+ * Published whenever a user's credentials, role or token version change, so cached
+ * {@link AuthIdentity} entries are dropped once the change commits.
+ */
+public record AuthIdentityChangedEvent(String username) {
+}
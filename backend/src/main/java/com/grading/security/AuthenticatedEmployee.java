@@ -0,0 +1,91 @@
+package com.grading.security;
+
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of an authenticated request. Carries everything controllers need about the caller,
+ * so it can be rebuilt from signed JWT claims without querying users/employees.
+ * {@link #getId()} is the employee id, matching how controllers used {@code Employee.getId()}.
+ */
+@Getter
+public class AuthenticatedEmployee implements UserDetails, CredentialsContainer {
+    private final Long id;
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+    private String tokenId;
+    private long tokenExpiresAt;
+    private String password;
+
+    public AuthenticatedEmployee(Long id, Long userId, String username, String role, int tokenVersion, String password) {
+        this.id = id;
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.password = password;
+        this.authorities = toAuthorities(role);
+    }
+
+    /**
+     * Principal of a request authenticated by an access token. {@code tokenId} is the token's "jti",
+     * used to revoke that token on logout; it is null for tokens issued before ids were added.
+     */
+    public static AuthenticatedEmployee fromClaims(Long id, Long userId, String username, String role, int tokenVersion,
+                                                   String tokenId, long tokenExpiresAt) {
+        AuthenticatedEmployee principal = new AuthenticatedEmployee(id, userId, username, role, tokenVersion, null);
+        principal.tokenId = tokenId;
+        principal.tokenExpiresAt = tokenExpiresAt;
+        return principal;
+    }
+
+    public boolean hasEmployee() {
+        return id != null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    private static List<GrantedAuthority> toAuthorities(String role) {
+        if (role == null || role.trim().isEmpty()) {
+            return List.of();
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+    }
+}
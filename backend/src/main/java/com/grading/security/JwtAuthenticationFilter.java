@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -24,6 +23,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -31,16 +32,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            JwtTokenProvider.VerifiedToken verified = StringUtils.hasText(jwt) ? jwtTokenProvider.verifyAndExtract(jwt) : null;
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (verified != null) {
+                AuthenticatedEmployee principal = verified.principal();
+                if (principal == null) {
+                    // Token issued before identity claims were added
+                    principal = (AuthenticatedEmployee) userDetailsService.loadUserByUsername(verified.username());
+                    principal.eraseCredentials();
+                } else if (!tokenVersionService.isCurrent(principal)) {
+                    logger.debug("Rejected outdated token for user: {}", principal.getUsername());
+                    principal = null;
+                } else if (principal.getTokenId() != null && tokenRevocationService.isRevoked(principal.getTokenId())) {
+                    logger.debug("Rejected revoked token for user: {}", principal.getUsername());
+                    principal = null;
+                }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("Authentication set for user: {}", username);
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("Authentication set for user: {}", principal.getUsername());
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -1,69 +1,171 @@
 package com.grading.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.grading.exception.ValidationException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
     private static final int MIN_SECRET_LENGTH = 32;
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_EMPLOYEE_ID = "eid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private SecretKey getSigningKey() {
+    public JwtTokenProvider(MeterRegistry meterRegistry,
+                            @Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
         if (jwtSecret == null || jwtSecret.length() < MIN_SECRET_LENGTH) {
             logger.error("JWT secret is too short or not set. Minimum length is {} characters", MIN_SECRET_LENGTH);
             throw new ValidationException("JWT secret must be at least " + MIN_SECRET_LENGTH + " characters long");
         }
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry(jwtExpiration))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        AuthenticatedEmployee principal = (AuthenticatedEmployee) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .id(UUID.randomUUID().toString())
+                .subject(principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getUserId())
+                .claim(CLAIM_EMPLOYEE_ID, principal.getId())
+                .claim(CLAIM_ROLE, principal.getRole())
+                .claim(CLAIM_TOKEN_VERSION, principal.getTokenVersion())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
+    /**
+     * Verifies the signature and expiry once and returns what the claims describe, or null if the
+     * token is invalid. Recently verified tokens are kept (keyed by SHA-256 digest, size-bounded)
+     * until they expire, so repeated requests with the same token skip HMAC and JSON decoding.
+     * Hit/miss/eviction counters are published as {@code cache.*} meters with {@code cache=jwt.verified}.
+     */
+    public VerifiedToken verifyAndExtract(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
 
-    public boolean validateToken(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration != null ? expiration.getTime() : now + jwtExpiration;
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), toPrincipal(claims, expiresAt), expiresAt);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    public boolean validateToken(String token) {
+        return verifyAndExtract(token) != null;
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Rebuilds the caller from signed claims. Returns null for tokens issued before the claims
+     * were added, so the caller can fall back to a database lookup until those expire.
+     */
+    private static AuthenticatedEmployee toPrincipal(Claims claims, long expiresAt) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        if (userId == null || tokenVersion == null) {
+            return null;
+        }
+        return AuthenticatedEmployee.fromClaims(
+                claims.get(CLAIM_EMPLOYEE_ID, Long.class),
+                userId,
+                claims.getSubject(),
+                claims.get(CLAIM_ROLE, String.class),
+                tokenVersion,
+                claims.getId(),
+                expiresAt
+        );
+    }
+
+    /**
+     * Result of a successful verification. {@code principal} is null for tokens without identity claims.
+     */
+    public record VerifiedToken(String username, AuthenticatedEmployee principal, long expiresAt) {
+    }
+
+    /**
+     * Keeps a verified token until its own expiry, never longer than a freshly issued token lives.
+     */
+    private record UntilTokenExpiry(long maxLifetimeMillis) implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remaining = Math.min(token.expiresAt() - System.currentTimeMillis(), maxLifetimeMillis);
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
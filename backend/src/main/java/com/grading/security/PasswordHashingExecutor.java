@@ -0,0 +1,123 @@
+package com.grading.security;
+
+import com.grading.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CPU-sized pool for BCrypt work. Hashing is admitted only while the queue has room; beyond that
+ * callers get a {@link ServiceUnavailableException} (503 + Retry-After) instead of tying up request
+ * threads, so a login storm cannot starve unrelated API calls.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    public PasswordHashingExecutor(@Value("${auth.password-hashing.threads:0}") int threads,
+                                   @Value("${auth.password-hashing.queue-capacity:200}") int queueCapacity,
+                                   @Value("${auth.password-hashing.retry-after-seconds:5}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        logger.info("Password hashing pool started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Too many concurrent sign-in requests. Please retry shortly.", retryAfterSeconds);
+        }
+
+        return await(future);
+    }
+
+    /**
+     * Runs a batch of hashing tasks for bulk work such as employee import, keeping at most one task
+     * per pool thread in flight so the batch never crowds interactive logins out of the queue. When
+     * the queue is full anyway, the task runs on the calling thread, which slows the batch down
+     * instead of failing it. Results are returned in task order.
+     */
+    public <T> List<T> executeAll(List<? extends Callable<T>> tasks) {
+        int window = executor.getMaximumPoolSize();
+        List<T> results = new ArrayList<>(tasks.size());
+        Deque<Future<T>> inFlight = new ArrayDeque<>(window);
+        for (Callable<T> task : tasks) {
+            if (inFlight.size() >= window) {
+                results.add(await(inFlight.removeFirst()));
+            }
+            try {
+                inFlight.addLast(executor.submit(task));
+            } catch (RejectedExecutionException e) {
+                inFlight.addLast(CompletableFuture.completedFuture(callInline(task)));
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            results.add(await(inFlight.removeFirst()));
+        }
+        return results;
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static <T> T callInline(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Password hashing failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
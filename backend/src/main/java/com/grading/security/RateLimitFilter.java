@@ -0,0 +1,164 @@
+package com.grading.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grading.dto.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-caller rate limiting, applied before JWT authentication so rejected requests cost no token
+ * or database work. Callers are keyed by the token subject when a valid bearer token is present
+ * (verification is cached by {@link JwtTokenProvider}) and by client IP otherwise; login is always
+ * keyed by IP. Login, writes and heavy list reads have separate buckets; other reads are not limited.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+    private static final String[] HEAVY_READ_PATHS = {
+        "/calibrations/*/ranking", "/goals/all", "/promotion-requests", "/promotion-requests/export", "/evaluations/export"};
+
+    enum Policy { LOGIN, WRITE, HEAVY_READ }
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Limit loginLimit;
+    private final Limit writeLimit;
+    private final Limit heavyReadLimit;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(JwtTokenProvider jwtTokenProvider,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.login.capacity:10}") int loginCapacity,
+                           @Value("${rate-limit.login.refill-period:1m}") Duration loginPeriod,
+                           @Value("${rate-limit.write.capacity:60}") int writeCapacity,
+                           @Value("${rate-limit.write.refill-period:1m}") Duration writePeriod,
+                           @Value("${rate-limit.heavy-read.capacity:30}") int heavyReadCapacity,
+                           @Value("${rate-limit.heavy-read.refill-period:1m}") Duration heavyReadPeriod,
+                           @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+                           @Value("${rate-limit.idle-eviction:10m}") Duration idleEviction) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.loginLimit = new Limit(loginCapacity, loginPeriod);
+        this.writeLimit = new Limit(writeCapacity, writePeriod);
+        this.heavyReadLimit = new Limit(heavyReadCapacity, heavyReadPeriod);
+        // Idle buckets are full again long before they expire, so dropping them loses nothing
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleEviction)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate.limit.buckets");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Policy policy = resolvePolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Limit limit = limitFor(policy);
+        String key = policy.name() + ':' + resolveCaller(request, policy);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit.capacity(), limit.intervalNanos(), now));
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            logger.debug("Rate limit exceeded for {}", key);
+            meterRegistry.counter("rate.limit.rejected", "policy", policy.name().toLowerCase()).increment();
+            reject(response, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Policy resolvePolicy(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        String method = request.getMethod();
+
+        if (HttpMethod.POST.matches(method) && ("/auth/login".equals(path) || "/api/auth/login".equals(path))) {
+            return Policy.LOGIN;
+        }
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return Policy.WRITE;
+        }
+        for (String pattern : HEAVY_READ_PATHS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return Policy.HEAVY_READ;
+            }
+        }
+        return null;
+    }
+
+    private Limit limitFor(Policy policy) {
+        return switch (policy) {
+            case LOGIN -> loginLimit;
+            case WRITE -> writeLimit;
+            case HEAVY_READ -> heavyReadLimit;
+        };
+    }
+
+    private String resolveCaller(HttpServletRequest request, Policy policy) {
+        if (policy != Policy.LOGIN) {
+            String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+                JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.verifyAndExtract(bearerToken.substring(7));
+                if (verified != null) {
+                    return "user:" + verified.username();
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many requests. Please retry later."));
+    }
+
+    private record Limit(int capacity, Duration refillPeriod) {
+        long intervalNanos() {
+            return refillPeriod.toNanos() / capacity;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.grading.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The bucket state is a single "theoretical arrival time" (GCRA form of a
+ * token bucket): each permit pushes it forward by one refill interval, and a request is allowed while
+ * it stays within {@code capacity} intervals of now. One CAS per request, no locks, no timer.
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrivalNanos;
+
+    public TokenBucket(int capacity, long intervalNanos, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * capacity;
+        this.arrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token. Returns 0 if the request is allowed, otherwise how many nanoseconds to wait
+     * until a token becomes available.
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = arrivalNanos.get();
+            long base = Math.max(current, nowNanos);
+            long next = base + intervalNanos;
+            long overshoot = next - nowNanos - burstNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            if (arrivalNanos.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
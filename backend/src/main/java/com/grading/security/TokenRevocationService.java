@@ -0,0 +1,116 @@
+package com.grading.security;
+
+import com.grading.entity.RevokedToken;
+import com.grading.repository.RefreshTokenRepository;
+import com.grading.repository.RevokedTokenRepository;
+import com.grading.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Revoked access tokens, keyed by the JWT id ("jti"). The revoked_tokens table is the source of
+ * truth; a Bloom filter built from it answers "definitely not revoked" for almost every request
+ * without touching the database, and only possible hits are confirmed with an exact lookup.
+ * Revocations made on other nodes are picked up by a periodic incremental sync, and the filter is
+ * rebuilt from scratch (dropping expired entries) on a longer interval.
+ */
+@Component
+public class TokenRevocationService {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final Counter confirmedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  RefreshTokenRepository refreshTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.revocation.expected-entries:100000}") long expectedEntries,
+                                  @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmedCounter = meterRegistry.counter("auth.revocation.lookups", "result", "revoked");
+        this.falsePositiveCounter = meterRegistry.counter("auth.revocation.lookups", "result", "false_positive");
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.lastSync = LocalDateTime.now();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        (revoked ? confirmedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    @Transactional
+    public void revoke(String tokenId, Long userId, long expiresAtMillis) {
+        if (revokedTokenRepository.existsById(tokenId)) {
+            return;
+        }
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setJti(tokenId);
+        revokedToken.setUserId(userId);
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()));
+        revokedTokenRepository.save(revokedToken);
+        filter.put(tokenId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT10S}", initialDelayString = "${auth.revocation.sync-interval:PT10S}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // Overlap the window slightly so rows committed just around the previous sync are not missed
+        List<String> jtis = revokedTokenRepository.findJtisRevokedSince(lastSync.minusSeconds(5), now);
+        BloomFilter current = filter;
+        jtis.forEach(current::put);
+        lastSync = now;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval:PT1H}", initialDelayString = "${auth.revocation.rebuild-interval:PT1H}")
+    @Transactional
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int purgedTokens = revokedTokenRepository.deleteExpired(now);
+        int purgedRefreshTokens = refreshTokenRepository.deleteExpired(now);
+
+        List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+        BloomFilter fresh = new BloomFilter(Math.max(expectedEntries, jtis.size() * 2L), falsePositiveRate);
+        jtis.forEach(fresh::put);
+        filter = fresh;
+
+        // Local revocations that committed while the snapshot was being read
+        revokedTokenRepository.findJtisRevokedSince(now.minusSeconds(5), LocalDateTime.now()).forEach(fresh::put);
+        lastSync = now;
+
+        logger.info("Token revocation filter rebuilt with {} entries ({} expired revocations and {} refresh tokens purged)",
+                jtis.size(), purgedTokens, purgedRefreshTokens);
+    }
+}
@@ -0,0 +1,39 @@
+package com.grading.security;
+
+import com.grading.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks token "ver" claims against the user's current token version. Bumping the version
+ * (password change) invalidates every token issued before. Versions are read through
+ * {@link AuthIdentityCache}, so its TTL bounds how long another node keeps accepting a revoked token.
+ */
+@Component
+public class TokenVersionService {
+    private final UserRepository userRepository;
+    private final AuthIdentityCache authIdentityCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TokenVersionService(UserRepository userRepository,
+                               AuthIdentityCache authIdentityCache,
+                               ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.authIdentityCache = authIdentityCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public boolean isCurrent(AuthenticatedEmployee principal) {
+        AuthIdentity identity = authIdentityCache.get(principal.getUsername());
+        return identity != null
+                && identity.userId().equals(principal.getUserId())
+                && identity.tokenVersion() == principal.getTokenVersion();
+    }
+
+    @Transactional
+    public void bump(Long userId, String username) {
+        userRepository.incrementTokenVersion(userId);
+        eventPublisher.publishEvent(new AuthIdentityChangedEvent(username));
+    }
+}
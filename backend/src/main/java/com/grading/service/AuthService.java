@@ -1,10 +1,17 @@
 package com.grading.service;
 
+import com.grading.dto.request.ChangePasswordRequest;
 import com.grading.dto.request.LoginRequest;
+import com.grading.dto.request.LogoutRequest;
+import com.grading.dto.request.RefreshTokenRequest;
 import com.grading.dto.request.RegisterRequest;
 import com.grading.dto.response.AuthResponse;
+import com.grading.security.AuthenticatedEmployee;
 
 public interface AuthService {
     AuthResponse login(LoginRequest request);
     AuthResponse register(RegisterRequest request);
-}
\ No newline at end of file
+    AuthResponse refresh(RefreshTokenRequest request);
+    void logout(AuthenticatedEmployee currentEmployee, LogoutRequest request);
+    void changePassword(AuthenticatedEmployee currentEmployee, ChangePasswordRequest request);
+}
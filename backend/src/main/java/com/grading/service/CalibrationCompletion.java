@@ -0,0 +1,7 @@
+package com.grading.service;
+
+/**
+ * Outbox payload of a calibration moving to "completed".
+ */
+public record CalibrationCompletion(Long calibrationId, Long gradeId) {
+}
@@ -3,6 +3,7 @@ package com.grading.service;
 import com.grading.dto.request.CreateCalibrationPackageRequest;
 import com.grading.dto.response.CalibrationResponse;
 import com.grading.dto.response.CandidateRankingResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.entity.Calibration;
 
 import java.util.List;
@@ -14,7 +15,7 @@ public interface CalibrationService {
     Calibration getCalibrationById(Long id);
     CalibrationResponse getCalibrationResponseById(Long id);
     List<Calibration> getCalibrationsByStatus(String status);
-    List<CalibrationResponse> getCalibrationResponsesByStatus(String status);
+    CursorPage<CalibrationResponse> getCalibrationResponsesByStatus(String status, String cursor, Integer size);
     List<Calibration> getCalibrationsByGradeId(Long gradeId);
     List<CalibrationResponse> getCalibrationsByEvaluatorId(Long evaluatorId);
     CandidateRankingResponse getCandidateRanking(Long calibrationId);
@@ -0,0 +1,9 @@
+package com.grading.service;
+
+import com.grading.dto.response.DepartmentSummaryResponse;
+
+import java.util.List;
+
+public interface DepartmentSummaryService {
+    List<DepartmentSummaryResponse> getDepartmentSummaries(String reviewPeriod);
+}
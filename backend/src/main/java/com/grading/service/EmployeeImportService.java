@@ -0,0 +1,11 @@
+package com.grading.service;
+
+import com.grading.dto.response.EmployeeImportResponse;
+
+import java.io.InputStream;
+
+public interface EmployeeImportService {
+    enum Format { CSV, NDJSON }
+
+    EmployeeImportResponse importEmployees(InputStream input, Format format, Long importedById);
+}
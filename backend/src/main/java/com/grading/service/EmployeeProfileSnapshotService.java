@@ -0,0 +1,13 @@
+package com.grading.service;
+
+import com.grading.entity.Employee;
+import com.grading.entity.EmployeeProfileSnapshot;
+import com.grading.entity.Grade;
+import com.grading.entity.ManagerEvaluation;
+
+public interface EmployeeProfileSnapshotService {
+    void recordGradeChange(Long employeeId, Grade newGrade);
+    void recordEvaluationCreated(ManagerEvaluation evaluation);
+    void recordEvaluationUpdated(ManagerEvaluation evaluation);
+    EmployeeProfileSnapshot computeSnapshot(Employee employee);
+}
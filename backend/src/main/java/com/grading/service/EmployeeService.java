@@ -1,5 +1,6 @@
 package com.grading.service;
 
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.EmployeeProfileResponse;
 import com.grading.dto.response.EmployeeResponse;
 import com.grading.entity.Employee;
@@ -8,7 +9,10 @@ import java.util.List;
 
 public interface EmployeeService {
     EmployeeProfileResponse getEmployeeProfile(Long employeeId);
-    List<EmployeeResponse> getAllEmployees();
+    List<EmployeeProfileResponse> getEmployeeProfiles(List<Long> employeeIds);
+    CursorPage<EmployeeResponse> getAllEmployees(String cursor, Integer size);
     EmployeeResponse getEmployeeById(Long id);
-    List<EmployeeResponse> getEmployeesByDepartment(String department);
+    CursorPage<EmployeeResponse> getEmployeesByDepartment(String department, String cursor, Integer size);
+    CursorPage<EmployeeResponse> searchEmployees(String query, String cursor, Integer size);
+    List<EmployeeResponse> autocompleteEmployees(String prefix, Integer limit);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.grading.service;
+
+import com.grading.dto.response.EvaluatorScoreStatsResponse;
+import com.grading.dto.response.NormalizedScoreResponse;
+import com.grading.entity.ManagerEvaluation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface EvaluatorScoreStatsService {
+    void recordEvaluationCreated(ManagerEvaluation evaluation);
+
+    /**
+     * Same as {@link #recordEvaluationCreated} for many evaluations, with one delta per bucket.
+     */
+    void recordEvaluationsCreated(List<ManagerEvaluation> evaluations);
+
+    /**
+     * Moves the evaluation from its previous period and score to the current ones.
+     */
+    void recordEvaluationUpdated(ManagerEvaluation evaluation, String previousReviewPeriod, BigDecimal previousScore);
+
+    List<EvaluatorScoreStatsResponse> getStats(String reviewPeriod);
+
+    List<NormalizedScoreResponse> getNormalizedScores(String reviewPeriod);
+}
@@ -0,0 +1,53 @@
+package com.grading.service;
+
+import com.grading.exception.ValidationException;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Streams table exports straight from a database cursor to the client, one row at a time, so memory
+ * use does not depend on the number of rows.
+ */
+public interface ExportService {
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new ValidationException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * Writes manager evaluations (all, or of one review period) and returns the number of rows.
+     */
+    long exportEvaluations(String reviewPeriod, Format format, OutputStream output);
+
+    /**
+     * Writes promotion requests filtered by optional status and review period and returns the
+     * number of rows.
+     */
+    long exportPromotionRequests(String status, String reviewPeriod, Format format, OutputStream output);
+}
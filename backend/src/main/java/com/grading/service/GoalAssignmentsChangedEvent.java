@@ -0,0 +1,8 @@
+package com.grading.service;
+
+/**
+ * Published when goal assignments of a review period are created, updated or deleted, so cached
+ * progress aggregates for that period are dropped once the change commits.
+ */
+public record GoalAssignmentsChangedEvent(String reviewPeriod) {
+}
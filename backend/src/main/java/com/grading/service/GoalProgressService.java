@@ -0,0 +1,9 @@
+package com.grading.service;
+
+import com.grading.dto.response.GoalProgressResponse;
+
+import java.util.List;
+
+public interface GoalProgressService {
+    List<GoalProgressResponse> getProgress(String reviewPeriod, String department, List<Long> employeeIds);
+}
@@ -0,0 +1,10 @@
+package com.grading.service;
+
+import com.grading.service.ReferenceDataCache.GoalTemplateRef;
+
+/**
+ * Published when a goal template is created, updated or deleted ({@code template} is null), so the
+ * reference data cache swaps in the new row once the change commits.
+ */
+public record GoalTemplateChangedEvent(Long goalId, GoalTemplateRef template) {
+}
@@ -1,6 +1,7 @@
 package com.grading.service;
 
 import com.grading.dto.request.CreateGoalRequest;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.GoalTemplateResponse;
 
 import java.util.List;
@@ -10,7 +11,7 @@ public interface GoalTemplateService {
     GoalTemplateResponse updateGoalTemplate(Long id, CreateGoalRequest request);
     void deleteGoalTemplate(Long id);
     GoalTemplateResponse getGoalTemplateById(Long id);
-    List<GoalTemplateResponse> getAllGoalTemplates();
-    List<GoalTemplateResponse> getGoalTemplatesByReviewPeriod(String reviewPeriod);
+    CursorPage<GoalTemplateResponse> getAllGoalTemplates(String cursor, Integer size);
+    CursorPage<GoalTemplateResponse> getGoalTemplatesByReviewPeriod(String reviewPeriod, String cursor, Integer size);
 }
 
@@ -0,0 +1,39 @@
+package com.grading.service;
+
+/**
+ * Stores the outcome of requests sent with an {@code Idempotency-Key}, per caller. A key is
+ * claimed before the request runs, completed with its response afterwards, or released when the
+ * request failed so that a retry can run it again.
+ */
+public interface IdempotencyService {
+    Claim begin(String owner, String key, String fingerprint);
+
+    void complete(String owner, String key, String fingerprint, StoredResponse response);
+
+    void release(String owner, String key);
+
+    /**
+     * Deletes expired keys in batches; returns the number deleted.
+     */
+    int purgeExpired();
+
+    enum Outcome {
+        /** The caller owns the key now and must run the request. */
+        ACQUIRED,
+        /** The request already completed; {@link Claim#response()} is its response. */
+        REPLAY,
+        /** The key was first used for a different request. */
+        FINGERPRINT_MISMATCH,
+        /** The first request with this key is still running. */
+        IN_PROGRESS
+    }
+
+    record Claim(Outcome outcome, StoredResponse response) {
+        public static Claim of(Outcome outcome) {
+            return new Claim(outcome, null);
+        }
+    }
+
+    record StoredResponse(int status, String contentType, String body) {
+    }
+}
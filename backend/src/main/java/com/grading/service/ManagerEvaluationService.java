@@ -1,15 +1,18 @@
 package com.grading.service;
 
 import com.grading.dto.request.ManagerEvaluationRequest;
+import com.grading.dto.response.BulkEvaluationResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.ReviewResponse;
 
 import java.util.List;
 
 public interface ManagerEvaluationService {
     ReviewResponse createEvaluation(ManagerEvaluationRequest request, Long evaluatorId);
+    BulkEvaluationResponse createEvaluations(List<ManagerEvaluationRequest> requests, Long evaluatorId);
     ReviewResponse updateEvaluation(Long id, ManagerEvaluationRequest request);
     ReviewResponse getEvaluationById(Long id);
     List<ReviewResponse> getEvaluationsByEmployeeId(Long employeeId);
-    List<ReviewResponse> getEvaluationsByReviewPeriod(String reviewPeriod);
-    List<ReviewResponse> getAllEvaluations();
+    CursorPage<ReviewResponse> getEvaluationsByReviewPeriod(String reviewPeriod, String cursor, Integer size);
+    CursorPage<ReviewResponse> getAllEvaluations(String cursor, Integer size);
 }
\ No newline at end of file
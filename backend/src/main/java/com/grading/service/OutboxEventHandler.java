@@ -0,0 +1,14 @@
+package com.grading.service;
+
+import com.grading.entity.OutboxEvent;
+
+/**
+ * Reacts to outbox events. Handlers run on the outbox poller inside the transaction that marks the
+ * batch processed, so their database writes commit exactly once together with it. A handler that
+ * throws rolls the batch back and the event is retried with backoff.
+ */
+public interface OutboxEventHandler {
+    boolean supports(String eventType);
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,32 @@
+package com.grading.service;
+
+import com.grading.entity.OutboxEvent;
+
+import java.util.Map;
+
+/**
+ * Writes domain events to the transactional outbox. Publishing only inserts a row in the caller's
+ * transaction, so the request pays for one insert however many handlers react to the event; the
+ * handlers run later on the outbox poller.
+ */
+public interface OutboxService {
+    String PROMOTION_REQUEST_STATUS_CHANGED = "promotion_request.status_changed";
+    String PROMOTION_REQUEST_DECIDED = "promotion_request.decided";
+    String CALIBRATION_COMPLETED = "calibration.completed";
+
+    String PROMOTION_REQUEST = "promotion_request";
+    String CALIBRATION = "calibration";
+
+    /**
+     * Must be called inside a transaction; the event is only visible to the poller once it commits.
+     */
+    void publish(String eventType, String aggregateType, Long aggregateId, Object payload);
+
+    /**
+     * Publishes one event per aggregate id with a single batched insert; same transaction rules
+     * as {@link #publish}.
+     */
+    void publishAll(String eventType, String aggregateType, Map<Long, ?> payloadsByAggregateId);
+
+    <T> T readPayload(OutboxEvent event, Class<T> type);
+}
@@ -0,0 +1,7 @@
+package com.grading.service;
+
+import com.grading.dto.response.PromotionDossierResponse;
+
+public interface PromotionDossierService {
+    PromotionDossierResponse getDossier(Long promotionRequestId);
+}
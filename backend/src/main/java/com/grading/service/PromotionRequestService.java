@@ -1,8 +1,14 @@
 package com.grading.service;
 
+import com.grading.dto.request.PromotionDecisionRequest;
 import com.grading.dto.request.PromotionRequestRequest;
+import com.grading.dto.request.PromotionRequestSearchRequest;
+import com.grading.dto.response.BulkPromotionDecisionResponse;
+import com.grading.dto.response.CursorPage;
+import com.grading.dto.response.GoalResponse;
 import com.grading.dto.response.PromotionRequestResponse;
 import com.grading.dto.response.PromotionRequestFileResponse;
+import com.grading.dto.response.PromotionRequestSummaryResponse;
 import com.grading.entity.PromotionRequestFile;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.core.io.Resource;
@@ -14,15 +20,18 @@ public interface PromotionRequestService {
     PromotionRequestResponse updatePromotionRequest(Long id, PromotionRequestRequest request);
     PromotionRequestResponse updatePromotionRequestStatus(Long id, String status, Long changedById, String comment);
     PromotionRequestResponse approveOrRejectPromotion(Long id, String decision, String comment, Long approvedById);
+    BulkPromotionDecisionResponse decidePromotionRequests(List<PromotionDecisionRequest> decisions, Long decidedById);
     void deletePromotionRequest(Long id);
     PromotionRequestResponse getPromotionRequestById(Long id);
     List<PromotionRequestResponse> getPromotionRequestsByEmployeeId(Long employeeId);
-    List<PromotionRequestResponse> getPromotionRequestsByStatus(String status);
-    List<PromotionRequestResponse> getAllPromotionRequests();
+    CursorPage<PromotionRequestResponse> getPromotionRequestsByStatus(String status, String cursor, Integer size);
+    CursorPage<PromotionRequestResponse> getAllPromotionRequests(String cursor, Integer size);
+    CursorPage<PromotionRequestSummaryResponse> searchPromotionRequests(PromotionRequestSearchRequest search, String cursor, Integer size);
     void attachGoalsToPromotionRequest(Long promotionRequestId, List<Long> goalAssignmentIds);
     void detachGoalFromPromotionRequest(Long promotionRequestId, Long goalAssignmentId);
     PromotionRequestFileResponse uploadFile(Long promotionRequestId, MultipartFile file);
     List<PromotionRequestFileResponse> getPromotionRequestFiles(Long promotionRequestId);
+    List<GoalResponse> getPromotionRequestGoals(Long promotionRequestId);
     PromotionRequestFile getFileById(Long fileId);
     Resource downloadFile(Long fileId);
     void deleteFile(Long fileId);
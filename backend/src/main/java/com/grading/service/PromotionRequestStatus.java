@@ -0,0 +1,92 @@
+package com.grading.service;
+
+import com.grading.exception.BusinessLogicException;
+import com.grading.exception.ValidationException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Promotion request statuses and the transitions allowed between them. Status changes are applied
+ * as conditional updates ({@code WHERE status = :from}), so a transition only succeeds if nobody
+ * moved the request in the meantime.
+ */
+public final class PromotionRequestStatus {
+    public static final String PENDING = "pending";
+    public static final String UNDER_REVIEW = "under_review";
+    public static final String RETURNED_FOR_REVISION = "returned_for_revision";
+    public static final String READY_FOR_CALIBRATION = "ready_for_calibration";
+    public static final String IN_CALIBRATION = "in_calibration";
+    public static final String CALIBRATION_COMPLETED = "calibration_completed";
+    public static final String APPROVED = "approved";
+    public static final String REJECTED = "rejected";
+
+    /**
+     * Statuses that block a second request for the same employee and grade.
+     */
+    public static final List<String> ACTIVE = List.of(PENDING, UNDER_REVIEW, READY_FOR_CALIBRATION, IN_CALIBRATION);
+
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+        PENDING, Set.of(UNDER_REVIEW, RETURNED_FOR_REVISION, READY_FOR_CALIBRATION, IN_CALIBRATION, REJECTED),
+        UNDER_REVIEW, Set.of(PENDING, RETURNED_FOR_REVISION, READY_FOR_CALIBRATION, IN_CALIBRATION, REJECTED),
+        RETURNED_FOR_REVISION, Set.of(PENDING),
+        READY_FOR_CALIBRATION, Set.of(UNDER_REVIEW, RETURNED_FOR_REVISION, IN_CALIBRATION, REJECTED),
+        IN_CALIBRATION, Set.of(CALIBRATION_COMPLETED),
+        CALIBRATION_COMPLETED, Set.of(APPROVED, REJECTED),
+        APPROVED, Set.of(),
+        REJECTED, Set.of());
+
+    /**
+     * Targets owned by a dedicated flow (calibration package, calibration completion, decision)
+     * and therefore not reachable through a plain status change.
+     */
+    private static final Set<String> FLOW_TARGETS = Set.of(IN_CALIBRATION, CALIBRATION_COMPLETED, APPROVED);
+
+    private PromotionRequestStatus() {
+    }
+
+    /**
+     * Lower-cased status; throws {@code ValidationException} for an unknown value.
+     */
+    public static String parse(String status) {
+        String normalized = status == null ? "" : status.trim().toLowerCase(Locale.ROOT);
+        if (!TRANSITIONS.containsKey(normalized)) {
+            throw new ValidationException("Unknown promotion request status: " + status);
+        }
+        return normalized;
+    }
+
+    public static boolean canTransition(String from, String to) {
+        return TRANSITIONS.getOrDefault(from, Set.of()).contains(to);
+    }
+
+    /**
+     * Statuses from which {@code to} can be reached.
+     */
+    public static List<String> sourcesOf(String to) {
+        return TRANSITIONS.entrySet().stream()
+            .filter(entry -> entry.getValue().contains(to))
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+
+    public static void requireTransition(String from, String to) {
+        if (!canTransition(from, to)) {
+            throw new BusinessLogicException("Promotion request cannot move from '" + from + "' to '" + to + "'");
+        }
+    }
+
+    /**
+     * As {@link #requireTransition} for a manual status change, which cannot enter statuses owned by
+     * another flow.
+     */
+    public static void requireManualTransition(String from, String to) {
+        if (FLOW_TARGETS.contains(to)) {
+            throw new BusinessLogicException("Status '" + to + "' is set by its own flow and cannot be assigned directly");
+        }
+        requireTransition(from, to);
+    }
+}
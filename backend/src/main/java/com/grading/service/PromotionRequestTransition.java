@@ -0,0 +1,14 @@
+package com.grading.service;
+
+/**
+ * Outbox payload of a promotion request status change or decision. {@code changedById} is null
+ * when the change has no HR author (an edit reopening a returned request, a calibration finishing).
+ */
+public record PromotionRequestTransition(Long promotionRequestId,
+                                         Long employeeId,
+                                         Long requestedGradeId,
+                                         String fromStatus,
+                                         String toStatus,
+                                         Long changedById,
+                                         String comment) {
+}
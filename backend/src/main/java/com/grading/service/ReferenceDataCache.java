@@ -0,0 +1,79 @@
+package com.grading.service;
+
+import com.grading.dto.response.CursorPage;
+import com.grading.entity.Goal;
+import com.grading.entity.Grade;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory copy of the small, rarely changing reference tables: grades and goal templates. Reads
+ * never touch the database once the data is loaded; ids that are not (yet) known fall back to a
+ * single lookup.
+ */
+public interface ReferenceDataCache {
+    /**
+     * All grades, newest id first (the order of {@code GradeRepository.findAll}).
+     */
+    List<GradeRef> getGrades();
+
+    Optional<GradeRef> findGrade(Long id);
+
+    /**
+     * Throws {@code ResourceNotFoundException} for an unknown id.
+     */
+    GradeRef requireGrade(Long id);
+
+    Optional<GoalTemplateRef> findGoalTemplate(Long id);
+
+    /**
+     * Throws {@code ResourceNotFoundException} for an unknown id.
+     */
+    GoalTemplateRef requireGoalTemplate(Long id);
+
+    /**
+     * One page of goal templates ordered by {@code (createdAt DESC, id DESC)}; a null review period
+     * means all templates.
+     */
+    CursorPage<GoalTemplateRef> getGoalTemplatePage(String reviewPeriod, String cursor, int size);
+
+    /**
+     * Reloads both tables from the database and swaps them in.
+     */
+    void reload();
+
+    record GradeRef(Long id, String name, String description) {
+        public static GradeRef of(Grade grade) {
+            return new GradeRef(grade.getId(), grade.getName(), grade.getDescription());
+        }
+
+        /**
+         * A detached entity carrying this row, for use as an association target: it is written as a
+         * foreign key only, and reading its fields never triggers a query.
+         */
+        public Grade toEntity() {
+            Grade grade = new Grade();
+            grade.setId(id);
+            grade.setName(name);
+            grade.setDescription(description);
+            return grade;
+        }
+    }
+
+    record GoalTemplateRef(Long id, String title, String description, String metric, String reviewPeriod,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        public static GoalTemplateRef of(Goal goal) {
+            return new GoalTemplateRef(goal.getId(), goal.getTitle(), goal.getDescription(), goal.getMetric(),
+                goal.getReviewPeriod(), goal.getCreatedAt(), goal.getUpdatedAt());
+        }
+
+        /**
+         * A detached entity carrying this row; see {@link GradeRef#toEntity()}.
+         */
+        public Goal toEntity() {
+            return new Goal(id, title, description, metric, reviewPeriod, createdAt, updatedAt);
+        }
+    }
+}
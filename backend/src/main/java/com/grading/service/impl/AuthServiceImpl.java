@@ -1,21 +1,36 @@
 package com.grading.service.impl;
 
+import com.grading.dto.request.ChangePasswordRequest;
 import com.grading.dto.request.LoginRequest;
+import com.grading.dto.request.LogoutRequest;
+import com.grading.dto.request.RefreshTokenRequest;
 import com.grading.dto.request.RegisterRequest;
 import com.grading.dto.response.AuthResponse;
 import com.grading.entity.Employee;
 import com.grading.entity.Grade;
 import com.grading.entity.GradeHistory;
+import com.grading.entity.RefreshToken;
 import com.grading.entity.User;
 import com.grading.exception.BusinessLogicException;
 import com.grading.exception.ResourceNotFoundException;
+import com.grading.exception.UnauthorizedException;
 import com.grading.repository.EmployeeRepository;
 import com.grading.repository.GradeHistoryRepository;
-import com.grading.repository.GradeRepository;
+import com.grading.repository.RefreshTokenRepository;
 import com.grading.repository.UserRepository;
+import com.grading.security.AuthIdentity;
+import com.grading.security.AuthIdentityCache;
+import com.grading.security.AuthIdentityChangedEvent;
+import com.grading.security.AuthenticatedEmployee;
 import com.grading.security.JwtTokenProvider;
+import com.grading.security.TokenRevocationService;
+import com.grading.security.TokenVersionService;
 import com.grading.service.AuthService;
+import com.grading.service.EmployeeProfileSnapshotService;
+import com.grading.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -23,16 +38,36 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final UserRepository userRepository;
     private final EmployeeRepository employeeRepository;
-    private final GradeRepository gradeRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final GradeHistoryRepository gradeHistoryRepository;
+    private final EmployeeProfileSnapshotService profileSnapshotService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionService tokenVersionService;
+    private final AuthIdentityCache authIdentityCache;
+
+    @Value("${jwt.refresh-expiration:14d}")
+    private Duration refreshTokenExpiration;
 
     @Override
     public AuthResponse login(LoginRequest request) {
@@ -40,13 +75,13 @@ public class AuthServiceImpl implements AuthService {
             new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
 
-        String token = jwtTokenProvider.generateToken(authentication);
-        User user = userRepository.findByUsername(request.getUsername())
-            .orElseThrow(() -> new ResourceNotFoundException("User", request.getUsername()));
-        Employee employee = employeeRepository.findByUserId(user.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("Employee", user.getId()));
+        // The principal loaded during authentication already carries the ids and role
+        AuthenticatedEmployee principal = (AuthenticatedEmployee) authentication.getPrincipal();
+        if (!principal.hasEmployee()) {
+            throw new ResourceNotFoundException("Employee", principal.getUserId());
+        }
 
-        return new AuthResponse(token, user.getId(), employee.getId(), user.getUsername(), employee.getRole());
+        return issueTokens(authentication, principal);
     }
 
     @Override
@@ -56,8 +91,7 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessLogicException("Username already exists");
         }
 
-        Grade initialGrade = gradeRepository.findById(request.getInitialGradeId())
-            .orElseThrow(() -> new ResourceNotFoundException("Grade", request.getInitialGradeId()));
+        Grade initialGrade = referenceDataCache.requireGrade(request.getInitialGradeId()).toEntity();
 
         User user = new User();
         user.setUsername(request.getUsername());
@@ -81,7 +115,98 @@ public class AuthServiceImpl implements AuthService {
         gradeHistory.setChangedBy(employee);
         gradeHistory.setReason("Initial grade assignment");
         gradeHistoryRepository.save(gradeHistory);
+        profileSnapshotService.recordGradeChange(employee.getId(), initialGrade);
+
+        eventPublisher.publishEvent(new AuthIdentityChangedEvent(user.getUsername()));
 
         return new AuthResponse(null, user.getId(), employee.getId(), user.getUsername(), employee.getRole());
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(hashRefreshToken(request.getRefreshToken()))
+            .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshToken.getRevokedAt() != null) {
+            // A rotated token was presented again: treat it as stolen and end every session of the user
+            refreshTokenRepository.revokeAllForUser(refreshToken.getUser().getId(), now);
+            throw new UnauthorizedException("Refresh token has been revoked");
+        }
+        if (!refreshToken.getExpiresAt().isAfter(now)) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+        refreshToken.setRevokedAt(now);
+
+        AuthIdentity identity = authIdentityCache.get(refreshToken.getUser().getUsername());
+        if (identity == null || identity.employeeId() == null) {
+            throw new UnauthorizedException("User is no longer active");
+        }
+        AuthenticatedEmployee principal = identity.toPrincipal();
+        principal.eraseCredentials();
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        return issueTokens(authentication, principal);
+    }
+
+    @Override
+    @Transactional
+    public void logout(AuthenticatedEmployee currentEmployee, LogoutRequest request) {
+        if (currentEmployee.getTokenId() != null) {
+            tokenRevocationService.revoke(currentEmployee.getTokenId(), currentEmployee.getUserId(), currentEmployee.getTokenExpiresAt());
+        }
+
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenRepository.findByTokenHashWithUser(hashRefreshToken(request.getRefreshToken()))
+                .filter(token -> token.getUser().getId().equals(currentEmployee.getUserId()))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> token.setRevokedAt(LocalDateTime.now()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void changePassword(AuthenticatedEmployee currentEmployee, ChangePasswordRequest request) {
+        User user = userRepository.findById(currentEmployee.getUserId())
+            .orElseThrow(() -> new ResourceNotFoundException("User", currentEmployee.getUserId()));
+        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+            throw new BusinessLogicException("Current password is incorrect");
+        }
+
+        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        userRepository.save(user);
+
+        // New credentials end every existing session: access tokens fail the version check, refresh tokens are revoked
+        refreshTokenRepository.revokeAllForUser(user.getId(), LocalDateTime.now());
+        tokenVersionService.bump(user.getId(), user.getUsername());
+    }
+
+    private AuthResponse issueTokens(Authentication authentication, AuthenticatedEmployee principal) {
+        String token = jwtTokenProvider.generateToken(authentication);
+
+        byte[] secret = new byte[32];
+        SECURE_RANDOM.nextBytes(secret);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(userRepository.getReferenceById(principal.getUserId()));
+        refreshToken.setTokenHash(hashRefreshToken(rawRefreshToken));
+        refreshToken.setExpiresAt(LocalDateTime.now().plus(refreshTokenExpiration));
+        refreshTokenRepository.save(refreshToken);
+
+        AuthResponse response = new AuthResponse(token, principal.getUserId(), principal.getId(), principal.getUsername(), principal.getRole());
+        response.setRefreshToken(rawRefreshToken);
+        return response;
+    }
+
+    // Only a digest is stored, so a leaked table cannot be replayed
+    private static String hashRefreshToken(String rawToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
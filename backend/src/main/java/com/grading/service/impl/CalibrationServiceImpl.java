@@ -1,35 +1,51 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
 import com.grading.dto.request.CreateCalibrationPackageRequest;
 import com.grading.dto.response.CalibrationResponse;
 import com.grading.dto.response.CandidateRankingResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.entity.*;
 import com.grading.exception.BusinessLogicException;
+import com.grading.exception.ConflictException;
 import com.grading.exception.ResourceNotFoundException;
 import com.grading.repository.*;
+import com.grading.service.CalibrationCompletion;
 import com.grading.service.CalibrationService;
+import com.grading.service.OutboxService;
+import com.grading.service.PromotionRequestStatus;
+import com.grading.service.PromotionRequestTransition;
+import com.grading.service.ReferenceDataCache;
+import com.grading.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CalibrationServiceImpl implements CalibrationService {
     private final CalibrationRepository calibrationRepository;
-    private final GradeRepository gradeRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final EmployeeRepository employeeRepository;
     private final PromotionRequestRepository promotionRequestRepository;
     private final CalibrationEvaluatorRepository calibrationEvaluatorRepository;
     private final ComparisonRepository comparisonRepository;
+    private final PaginationSettings paginationSettings;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
     public Calibration createCalibration(Long gradeId, Long createdById) {
-        Grade grade = gradeRepository.findById(gradeId)
-            .orElseThrow(() -> new RuntimeException("Grade not found"));
+        Grade grade = referenceDataCache.findGrade(gradeId)
+            .orElseThrow(() -> new RuntimeException("Grade not found"))
+            .toEntity();
         Employee createdBy = employeeRepository.findById(createdById)
             .orElseThrow(() -> new RuntimeException("Employee not found"));
 
@@ -47,8 +63,45 @@ public class CalibrationServiceImpl implements CalibrationService {
         Calibration calibration = calibrationRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Calibration", id));
 
+        boolean completing = "completed".equals(status) && !"completed".equals(calibration.getStatus());
         calibration.setStatus(status);
-        return calibrationRepository.save(calibration);
+        Calibration saved = calibrationRepository.save(calibration);
+        if (!completing) {
+            return saved;
+        }
+
+        Long gradeId = calibration.getGrade().getId();
+        completePromotionRequests(id);
+        outboxService.publish(OutboxService.CALIBRATION_COMPLETED, OutboxService.CALIBRATION, id,
+            new CalibrationCompletion(id, gradeId));
+        // The conditional update cleared the persistence context
+        return calibrationRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Calibration", id));
+    }
+
+    /**
+     * Moves the calibration's requests to calibration_completed with one conditional update and
+     * writes a status-change event per request. If a request left in_calibration concurrently,
+     * fewer rows match and the status change rolls back.
+     */
+    private void completePromotionRequests(Long calibrationId) {
+        Map<Long, PromotionRequestTransition> transitions = new LinkedHashMap<>();
+        for (PromotionRequest pr : promotionRequestRepository.findByCalibrationIdWithEmployee(calibrationId)) {
+            if (PromotionRequestStatus.IN_CALIBRATION.equals(pr.getStatus())) {
+                transitions.put(pr.getId(), new PromotionRequestTransition(pr.getId(), pr.getEmployee().getId(),
+                    pr.getRequestedGrade().getId(), PromotionRequestStatus.IN_CALIBRATION,
+                    PromotionRequestStatus.CALIBRATION_COMPLETED, null, null));
+            }
+        }
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        int completed = promotionRequestRepository.completeCalibration(transitions.keySet());
+        if (completed != transitions.size()) {
+            throw new ConflictException("Promotion requests changed while the calibration was being completed; reload them and retry");
+        }
+        outboxService.publishAll(OutboxService.PROMOTION_REQUEST_STATUS_CHANGED, OutboxService.PROMOTION_REQUEST, transitions);
     }
 
     @Override
@@ -70,8 +123,7 @@ public class CalibrationServiceImpl implements CalibrationService {
     @Override
     @Transactional
     public CalibrationResponse createCalibrationPackage(CreateCalibrationPackageRequest request, Long createdById) {
-        Grade grade = gradeRepository.findById(request.getGradeId())
-            .orElseThrow(() -> new ResourceNotFoundException("Grade", request.getGradeId()));
+        Grade grade = referenceDataCache.requireGrade(request.getGradeId()).toEntity();
 
         Employee createdBy = employeeRepository.findById(createdById)
             .orElseThrow(() -> new ResourceNotFoundException("Employee", createdById));
@@ -90,9 +142,7 @@ public class CalibrationServiceImpl implements CalibrationService {
                 throw new BusinessLogicException("All promotion requests must be for the same grade");
             }
             String status = pr.getStatus();
-            if (!status.equals("ready_for_calibration") && 
-                !status.equals("pending") && 
-                !status.equals("under_review")) {
+            if (!PromotionRequestStatus.canTransition(status, PromotionRequestStatus.IN_CALIBRATION)) {
                 throw new BusinessLogicException("Promotion request " + pr.getId() + " is not ready for calibration (status: " + status + ")");
             }
             if (pr.getCalibration() != null) {
@@ -117,12 +167,6 @@ public class CalibrationServiceImpl implements CalibrationService {
         
         final Long calibrationId = calibration.getId();
 
-        for (PromotionRequest pr : promotionRequests) {
-            pr.setCalibration(calibration);
-            pr.setStatus("in_calibration");
-            promotionRequestRepository.save(pr);
-        }
-
         for (Employee evaluator : evaluators) {
             CalibrationEvaluator ce = new CalibrationEvaluator();
             ce.setCalibration(calibration);
@@ -130,6 +174,20 @@ public class CalibrationServiceImpl implements CalibrationService {
             calibrationEvaluatorRepository.save(ce);
         }
 
+        // One conditional update for the whole package: if any request was moved or packaged
+        // concurrently since the checks above, fewer rows match and the whole package rolls back
+        Set<Long> promotionRequestIds = new HashSet<>(request.getPromotionRequestIds());
+        int assigned = promotionRequestRepository.assignToCalibration(promotionRequestIds, calibration,
+            PromotionRequestStatus.sourcesOf(PromotionRequestStatus.IN_CALIBRATION));
+        if (assigned != promotionRequestIds.size()) {
+            throw new ConflictException("Promotion requests changed while the calibration package was being created; reload them and retry");
+        }
+        for (PromotionRequest pr : promotionRequests) {
+            outboxService.publish(OutboxService.PROMOTION_REQUEST_STATUS_CHANGED, OutboxService.PROMOTION_REQUEST, pr.getId(),
+                new PromotionRequestTransition(pr.getId(), pr.getEmployee().getId(), pr.getRequestedGrade().getId(),
+                    pr.getStatus(), PromotionRequestStatus.IN_CALIBRATION, createdById, null));
+        }
+
         Calibration savedCalibration = calibrationRepository.findById(calibrationId)
             .orElseThrow(() -> new ResourceNotFoundException("Calibration", calibrationId));
         
@@ -143,10 +201,11 @@ public class CalibrationServiceImpl implements CalibrationService {
     }
 
     @Override
-    public List<CalibrationResponse> getCalibrationResponsesByStatus(String status) {
-        return getCalibrationsByStatus(status).stream()
-            .map(this::toCalibrationResponse)
-            .collect(Collectors.toList());
+    public CursorPage<CalibrationResponse> getCalibrationResponsesByStatus(String status, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Calibration> rows = calibrationRepository.findPageByStatus(status, after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, Calibration::getCreatedAt, Calibration::getId).map(this::toCalibrationResponse);
     }
 
     @Override
@@ -0,0 +1,100 @@
+package com.grading.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grading.dto.response.DepartmentSummaryResponse;
+import com.grading.repository.EmployeeRepository;
+import com.grading.repository.GradeHistoryRepository;
+import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.repository.PromotionRequestRepository;
+import com.grading.service.DepartmentSummaryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-department headcount, current grade distribution, average latest score and open promotion
+ * requests, computed with four grouped queries. Results are cached per review period for a short
+ * TTL, so dashboards polling the endpoint do not re-run the aggregation on every request.
+ */
+@Service
+public class DepartmentSummaryServiceImpl implements DepartmentSummaryService {
+    private static final String CACHE_NAME = "department.summary";
+    private static final String ALL_PERIODS = "";
+    private static final String NO_GRADE = "N/A";
+    private static final List<String> OPEN_STATUSES = List.of("pending", "under_review", "ready_for_calibration", "in_calibration");
+
+    private final EmployeeRepository employeeRepository;
+    private final GradeHistoryRepository gradeHistoryRepository;
+    private final ManagerEvaluationRepository managerEvaluationRepository;
+    private final PromotionRequestRepository promotionRequestRepository;
+    private final Cache<String, List<DepartmentSummaryResponse>> cache;
+
+    public DepartmentSummaryServiceImpl(EmployeeRepository employeeRepository,
+                                        GradeHistoryRepository gradeHistoryRepository,
+                                        ManagerEvaluationRepository managerEvaluationRepository,
+                                        PromotionRequestRepository promotionRequestRepository,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${employee.department-summary.cache-ttl:60s}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.gradeHistoryRepository = gradeHistoryRepository;
+        this.managerEvaluationRepository = managerEvaluationRepository;
+        this.promotionRequestRepository = promotionRequestRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public List<DepartmentSummaryResponse> getDepartmentSummaries(String reviewPeriod) {
+        String key = reviewPeriod == null || reviewPeriod.isBlank() ? ALL_PERIODS : reviewPeriod.trim();
+        return cache.get(key, this::compute);
+    }
+
+    private List<DepartmentSummaryResponse> compute(String reviewPeriod) {
+        boolean allPeriods = ALL_PERIODS.equals(reviewPeriod);
+        Map<String, DepartmentSummaryResponse> summaries = new TreeMap<>();
+
+        for (Object[] row : employeeRepository.countByDepartment(allPeriods, reviewPeriod)) {
+            DepartmentSummaryResponse summary = summary(summaries, (String) row[0]);
+            summary.setHeadcount(((Number) row[1]).longValue());
+        }
+        for (Object[] row : gradeHistoryRepository.countCurrentGradesByDepartment(allPeriods, reviewPeriod)) {
+            summary(summaries, (String) row[0]).getGradeDistribution().put((String) row[1], ((Number) row[2]).longValue());
+        }
+        for (Object[] row : managerEvaluationRepository.averageLatestScoreByDepartment(allPeriods, reviewPeriod)) {
+            if (row[1] != null) {
+                summary(summaries, (String) row[0]).setAverageLastScore(
+                    BigDecimal.valueOf(((Number) row[1]).doubleValue()).setScale(2, RoundingMode.HALF_UP));
+            }
+        }
+        for (Object[] row : promotionRequestRepository.countByDepartmentAndStatusIn(OPEN_STATUSES, allPeriods, reviewPeriod)) {
+            summary(summaries, (String) row[0]).setOpenPromotionRequests(((Number) row[1]).longValue());
+        }
+
+        // Employees without grade history yet
+        for (DepartmentSummaryResponse summary : summaries.values()) {
+            long graded = summary.getGradeDistribution().values().stream().mapToLong(Long::longValue).sum();
+            if (summary.getHeadcount() > graded) {
+                summary.getGradeDistribution().put(NO_GRADE, summary.getHeadcount() - graded);
+            }
+        }
+        return List.copyOf(summaries.values());
+    }
+
+    private static DepartmentSummaryResponse summary(Map<String, DepartmentSummaryResponse> summaries, String department) {
+        return summaries.computeIfAbsent(department,
+            d -> new DepartmentSummaryResponse(d, 0, new TreeMap<>(), null, 0));
+    }
+}
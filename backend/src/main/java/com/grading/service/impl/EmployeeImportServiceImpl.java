@@ -0,0 +1,231 @@
+package com.grading.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grading.dto.request.RegisterRequest;
+import com.grading.dto.response.EmployeeImportResponse;
+import com.grading.exception.ValidationException;
+import com.grading.repository.EmployeeImportRepository;
+import com.grading.repository.EmployeeImportRepository.NewEmployee;
+import com.grading.security.BoundedPasswordEncoder;
+import com.grading.service.EmployeeImportService;
+import com.grading.service.ReferenceDataCache;
+import com.grading.util.CsvLineParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an employee file line by line: rows are parsed and validated as they arrive, collected
+ * into chunks of {@code employee-import.chunk-size}, hashed in parallel on the password hashing
+ * pool and written with batched inserts, one transaction per chunk. Only the current chunk and the
+ * usernames/emails seen so far (for in-file duplicate checks) are held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportServiceImpl.class);
+    private static final String IMPORT_REASON = "Initial grade assignment (bulk import)";
+    private static final List<String> CSV_COLUMNS = List.of(
+        "username", "password", "fullName", "email", "role", "hireDate", "department", "reviewPeriod", "initialGradeId");
+
+    private final EmployeeImportRepository employeeImportRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${employee-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public EmployeeImportResponse importEmployees(InputStream input, Format format, Long importedById) {
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        EmployeeImportResponse report = new EmployeeImportResponse();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            Function<String, RegisterRequest> parser;
+            if (format == Format.CSV) {
+                parser = csvParser(reader.readLine());
+                lineNumber++;
+            } else {
+                parser = this::parseJson;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.setTotalRows(report.getTotalRows() + 1);
+
+                RegisterRequest row;
+                try {
+                    row = parser.apply(line);
+                } catch (ValidationException e) {
+                    report.addError(lineNumber, null, e.getMessage());
+                    continue;
+                }
+
+                String error = validate(row);
+                if (error == null && !seenUsernames.add(row.getUsername())) {
+                    error = "Duplicate username in file";
+                }
+                if (error == null && !seenEmails.add(row.getEmail())) {
+                    error = "Duplicate email in file";
+                }
+                if (error != null) {
+                    report.addError(lineNumber, row.getUsername(), error);
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, row));
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, importedById, report);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, importedById, report);
+        } catch (IOException e) {
+            throw new ValidationException("Failed to read import data: " + e.getMessage());
+        }
+
+        logger.info("Employee import finished: {} rows, {} imported, {} failed",
+            report.getTotalRows(), report.getImportedCount(), report.getFailedCount());
+        return report;
+    }
+
+    private void writeChunk(List<ImportRow> chunk, Long importedById, EmployeeImportResponse report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingUsernames = employeeImportRepository.findExistingUsernames(
+            chunk.stream().map(r -> r.request().getUsername()).toList());
+        Set<String> existingEmails = employeeImportRepository.findExistingEmails(
+            chunk.stream().map(r -> r.request().getEmail()).toList());
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingUsernames.contains(row.request().getUsername())) {
+                report.addError(row.line(), row.request().getUsername(), "Username already exists");
+            } else if (existingEmails.contains(row.request().getEmail())) {
+                report.addError(row.line(), row.request().getUsername(), "Email already exists");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = passwordEncoder.encodeAll(accepted.stream().map(r -> r.request().getPassword()).toList());
+        List<NewEmployee> employees = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            RegisterRequest request = accepted.get(i).request();
+            employees.add(new NewEmployee(request.getUsername(), hashes.get(i), request.getFullName(), request.getEmail(),
+                request.getRole(), request.getHireDate(), request.getDepartment(), request.getReviewPeriod(),
+                request.getInitialGradeId()));
+        }
+
+        try {
+            int imported = employeeImportRepository.insertChunk(employees, importedById, IMPORT_REASON);
+            report.setImportedCount(report.getImportedCount() + imported);
+        } catch (DataAccessException e) {
+            logger.warn("Employee import chunk of {} rows failed: {}", accepted.size(), e.getMostSpecificCause().getMessage());
+            for (ImportRow row : accepted) {
+                report.addError(row.line(), row.request().getUsername(), "Chunk could not be written: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private String validate(RegisterRequest row) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (referenceDataCache.findGrade(row.getInitialGradeId()).isEmpty()) {
+            return "Grade not found with id: " + row.getInitialGradeId();
+        }
+        return null;
+    }
+
+    private Function<String, RegisterRequest> csvParser(String headerLine) {
+        if (headerLine == null) {
+            throw new ValidationException("CSV header row is required");
+        }
+        List<String> header = CsvLineParser.parse(headerLine);
+        if (!header.containsAll(CSV_COLUMNS)) {
+            throw new ValidationException("CSV header must contain columns: " + String.join(",", CSV_COLUMNS));
+        }
+        int[] index = CSV_COLUMNS.stream().mapToInt(header::indexOf).toArray();
+
+        return line -> {
+            List<String> fields = CsvLineParser.parse(line);
+            if (fields.size() != header.size()) {
+                throw new ValidationException("Expected " + header.size() + " fields but found " + fields.size());
+            }
+            RegisterRequest request = new RegisterRequest();
+            request.setUsername(emptyToNull(fields.get(index[0])));
+            request.setPassword(emptyToNull(fields.get(index[1])));
+            request.setFullName(emptyToNull(fields.get(index[2])));
+            request.setEmail(emptyToNull(fields.get(index[3])));
+            request.setRole(emptyToNull(fields.get(index[4])));
+            request.setDepartment(emptyToNull(fields.get(index[6])));
+            request.setReviewPeriod(emptyToNull(fields.get(index[7])));
+            try {
+                String hireDate = emptyToNull(fields.get(index[5]));
+                request.setHireDate(hireDate != null ? LocalDate.parse(hireDate) : null);
+            } catch (DateTimeParseException e) {
+                throw new ValidationException("Invalid hireDate: " + fields.get(index[5]));
+            }
+            try {
+                String gradeId = emptyToNull(fields.get(index[8]));
+                request.setInitialGradeId(gradeId != null ? Long.valueOf(gradeId) : null);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid initialGradeId: " + fields.get(index[8]));
+            }
+            return request;
+        };
+    }
+
+    private RegisterRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, RegisterRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private record ImportRow(long line, RegisterRequest request) {
+    }
+}
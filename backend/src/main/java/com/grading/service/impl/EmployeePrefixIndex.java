@@ -0,0 +1,118 @@
+package com.grading.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Optional in-memory token index for employee autocomplete. Words of the full name, the email and
+ * its local part and the department are mapped to employee ids in a sorted map, so a prefix lookup
+ * is a range scan without a database round trip. The map is rebuilt off the request path and
+ * swapped in whole; new employees appear after the next refresh.
+ */
+@Component
+public class EmployeePrefixIndex {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePrefixIndex.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile NavigableMap<String, long[]> index;
+
+    public EmployeePrefixIndex(JdbcTemplate jdbcTemplate,
+                               @Value("${employee-search.prefix-index.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * True once the index is enabled and has been built at least once.
+     */
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    /**
+     * Ids of employees with a token starting with the prefix. Shorter (closer) tokens come first.
+     */
+    public List<Long> lookup(String prefix, int limit) {
+        NavigableMap<String, long[]> current = index;
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        if (current == null || key.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<String, long[]>> matches = new ArrayList<>(
+            current.subMap(key, true, key + Character.MAX_VALUE, true).entrySet());
+        matches.sort(Map.Entry.comparingByKey((a, b) -> a.length() != b.length() ? a.length() - b.length() : a.compareTo(b)));
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Map.Entry<String, long[]> match : matches) {
+            for (long id : match.getValue()) {
+                ids.add(id);
+                if (ids.size() >= limit) {
+                    return new ArrayList<>(ids);
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${employee-search.prefix-index.refresh-interval:PT1M}",
+               initialDelayString = "${employee-search.prefix-index.refresh-interval:PT1M}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, List<Long>> tokens = new TreeMap<>();
+        jdbcTemplate.query("SELECT id, full_name, email, department FROM grading2.employees", rs -> {
+            long id = rs.getLong("id");
+            String email = rs.getString("email").toLowerCase(Locale.ROOT);
+            Set<String> employeeTokens = new LinkedHashSet<>(words(rs.getString("full_name")));
+            employeeTokens.add(email);
+            employeeTokens.addAll(words(email.substring(0, Math.max(email.indexOf('@'), 0))));
+            employeeTokens.add(rs.getString("department").toLowerCase(Locale.ROOT));
+            employeeTokens.addAll(words(rs.getString("department")));
+            for (String token : employeeTokens) {
+                if (!token.isEmpty()) {
+                    tokens.computeIfAbsent(token, t -> new ArrayList<>()).add(id);
+                }
+            }
+        });
+
+        NavigableMap<String, long[]> fresh = new TreeMap<>();
+        tokens.forEach((token, ids) -> fresh.put(token, ids.stream().mapToLong(Long::longValue).toArray()));
+        index = Collections.unmodifiableNavigableMap(fresh);
+        logger.debug("Employee prefix index rebuilt with {} tokens", fresh.size());
+    }
+
+    private static List<String> words(String value) {
+        List<String> words = new ArrayList<>();
+        for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
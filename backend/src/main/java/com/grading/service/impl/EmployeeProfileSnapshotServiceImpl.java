@@ -0,0 +1,91 @@
+package com.grading.service.impl;
+
+import com.grading.entity.Employee;
+import com.grading.entity.EmployeeProfileSnapshot;
+import com.grading.entity.Grade;
+import com.grading.entity.GradeHistory;
+import com.grading.entity.ManagerEvaluation;
+import com.grading.repository.EmployeeProfileSnapshotRepository;
+import com.grading.repository.EmployeeRepository;
+import com.grading.repository.GradeHistoryRepository;
+import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.service.EmployeeProfileSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps employee_profile_snapshot in step with grade history and evaluations. Changes are applied
+ * as atomic in-place updates; when an employee has no snapshot row yet, it is computed once from
+ * the source tables (which already include the change being recorded). If a concurrent transaction
+ * inserts the row first, its snapshot cannot see this uncommitted change, so the update is applied
+ * on top of it instead.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeProfileSnapshotServiceImpl implements EmployeeProfileSnapshotService {
+    private final EmployeeProfileSnapshotRepository snapshotRepository;
+    private final EmployeeRepository employeeRepository;
+    private final GradeHistoryRepository gradeHistoryRepository;
+    private final ManagerEvaluationRepository managerEvaluationRepository;
+
+    @Override
+    @Transactional
+    public void recordGradeChange(Long employeeId, Grade newGrade) {
+        if (snapshotRepository.applyGradeChange(employeeId, newGrade, LocalDateTime.now()) == 0 && !rebuild(employeeId)) {
+            snapshotRepository.applyGradeChange(employeeId, newGrade, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordEvaluationCreated(ManagerEvaluation evaluation) {
+        Long employeeId = evaluation.getEmployee().getId();
+        int updated = snapshotRepository.applyEvaluation(employeeId, evaluation.getId(), evaluation.getScore(),
+            evaluation.getCreatedAt(), LocalDateTime.now());
+        if (updated == 0 && !snapshotRepository.existsById(employeeId) && !rebuild(employeeId)) {
+            snapshotRepository.applyEvaluation(employeeId, evaluation.getId(), evaluation.getScore(),
+                evaluation.getCreatedAt(), LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordEvaluationUpdated(ManagerEvaluation evaluation) {
+        // Only matters when the edited evaluation is the one shown on the profile
+        snapshotRepository.applyEvaluationScore(evaluation.getEmployee().getId(), evaluation.getId(),
+            evaluation.getScore(), LocalDateTime.now());
+    }
+
+    @Override
+    public EmployeeProfileSnapshot computeSnapshot(Employee employee) {
+        GradeHistory latestGrade = gradeHistoryRepository.findLatestByEmployeeId(employee.getId()).orElse(null);
+        ManagerEvaluation latestEvaluation = managerEvaluationRepository.findLatestByEmployeeId(employee.getId()).orElse(null);
+
+        EmployeeProfileSnapshot snapshot = new EmployeeProfileSnapshot();
+        snapshot.setEmployee(employee);
+        snapshot.setCurrentGrade(latestGrade != null ? latestGrade.getNewGrade() : null);
+        snapshot.setGradeChangesCount((int) gradeHistoryRepository.countByEmployeeId(employee.getId()));
+        if (latestEvaluation != null) {
+            snapshot.setLastEvaluationId(latestEvaluation.getId());
+            snapshot.setLastScore(latestEvaluation.getScore());
+            snapshot.setLastReviewDate(latestEvaluation.getCreatedAt());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns false if the row was created concurrently (or the employee does not exist).
+     */
+    private boolean rebuild(Long employeeId) {
+        return employeeRepository.findById(employeeId)
+            .map(this::computeSnapshot)
+            .map(snapshot -> snapshotRepository.insertIfAbsent(employeeId,
+                snapshot.getCurrentGrade() != null ? snapshot.getCurrentGrade().getId() : null,
+                snapshot.getGradeChangesCount(), snapshot.getLastEvaluationId(), snapshot.getLastScore(),
+                snapshot.getLastReviewDate(), LocalDateTime.now()) > 0)
+            .orElse(false);
+    }
+}
@@ -1,58 +1,88 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.EmployeeProfileResponse;
 import com.grading.dto.response.EmployeeResponse;
 import com.grading.entity.Employee;
-import com.grading.entity.GradeHistory;
-import com.grading.entity.ManagerEvaluation;
+import com.grading.entity.EmployeeProfileSnapshot;
 import com.grading.exception.ResourceNotFoundException;
+import com.grading.exception.ValidationException;
+import com.grading.repository.EmployeeProfileSnapshotRepository;
 import com.grading.repository.EmployeeRepository;
-import com.grading.repository.GradeHistoryRepository;
-import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.repository.EmployeeSearchRepository;
+import com.grading.service.EmployeeProfileSnapshotService;
 import com.grading.service.EmployeeService;
+import com.grading.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
     private final EmployeeRepository employeeRepository;
-    private final GradeHistoryRepository gradeHistoryRepository;
-    private final ManagerEvaluationRepository managerEvaluationRepository;
+    private final EmployeeProfileSnapshotRepository snapshotRepository;
+    private final EmployeeProfileSnapshotService snapshotService;
+    private final EmployeeSearchRepository employeeSearchRepository;
+    private final EmployeePrefixIndex prefixIndex;
+    private final PaginationSettings paginationSettings;
+
+    @Value("${employee.profile-batch.max-size:200}")
+    private int profileBatchMaxSize;
 
     @Override
     public EmployeeProfileResponse getEmployeeProfile(Long employeeId) {
-        Employee employee = employeeRepository.findById(employeeId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee", employeeId));
+        EmployeeProfileSnapshot snapshot = snapshotRepository.findWithEmployeeById(employeeId)
+            .orElseGet(() -> snapshotService.computeSnapshot(employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", employeeId))));
+        return toProfileResponse(snapshot);
+    }
 
-        GradeHistory latestGrade = gradeHistoryRepository.findLatestByEmployeeId(employeeId).orElse(null);
-        ManagerEvaluation latestEvaluation = managerEvaluationRepository.findLatestByEmployeeId(employeeId).orElse(null);
-        List<GradeHistory> gradeHistories = gradeHistoryRepository.findByEmployeeIdOrderByChangedAtDesc(employeeId);
+    @Override
+    public List<EmployeeProfileResponse> getEmployeeProfiles(List<Long> employeeIds) {
+        List<Long> ids = employeeIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new ValidationException("At least one employee id is required");
+        }
+        if (ids.size() > profileBatchMaxSize) {
+            throw new ValidationException("At most " + profileBatchMaxSize + " employee ids can be requested at once");
+        }
 
-        EmployeeProfileResponse response = new EmployeeProfileResponse();
-        response.setId(employee.getId());
-        response.setFullName(employee.getFullName());
-        response.setEmail(employee.getEmail());
-        response.setRole(employee.getRole());
-        response.setHireDate(employee.getHireDate());
-        response.setDepartment(employee.getDepartment());
-        response.setReviewPeriod(employee.getReviewPeriod());
-        response.setCurrentGrade(latestGrade != null ? latestGrade.getNewGrade().getName() : "N/A");
-        response.setLastReviewDate(latestEvaluation != null ? latestEvaluation.getCreatedAt() : null);
-        response.setLastScore(latestEvaluation != null ? latestEvaluation.getScore() : null);
-        response.setGradeChangesCount(gradeHistories.size());
+        Map<Long, EmployeeProfileSnapshot> snapshots = new HashMap<>();
+        for (EmployeeProfileSnapshot snapshot : snapshotRepository.findAllWithEmployeeByIds(ids)) {
+            snapshots.put(snapshot.getEmployeeId(), snapshot);
+        }
+        // Employees without a snapshot row yet are computed from the source tables
+        List<Long> missing = ids.stream().filter(id -> !snapshots.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (Employee employee : employeeRepository.findAllById(missing)) {
+                snapshots.put(employee.getId(), snapshotService.computeSnapshot(employee));
+            }
+        }
 
-        return response;
+        return ids.stream()
+            .map(snapshots::get)
+            .filter(Objects::nonNull)
+            .map(this::toProfileResponse)
+            .toList();
     }
 
     @Override
-    public List<EmployeeResponse> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-            .map(this::toEmployeeResponse)
-            .collect(Collectors.toList());
+    public CursorPage<EmployeeResponse> getAllEmployees(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Employee> rows = employeeRepository.findPage(after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, Employee::getCreatedAt, Employee::getId).map(this::toEmployeeResponse);
     }
 
     @Override
@@ -63,10 +93,95 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    public List<EmployeeResponse> getEmployeesByDepartment(String department) {
-        return employeeRepository.findByDepartment(department).stream()
+    public CursorPage<EmployeeResponse> getEmployeesByDepartment(String department, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Employee> rows = employeeRepository.findPageByDepartment(department, after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, Employee::getCreatedAt, Employee::getId).map(this::toEmployeeResponse);
+    }
+
+    @Override
+    public CursorPage<EmployeeResponse> searchEmployees(String query, String cursor, Integer size) {
+        String normalized = requireSearchQuery(query);
+        int pageSize = paginationSettings.resolveSize(size);
+        int offset = decodeOffset(cursor);
+
+        // Ranked results have no stable key to seek on, so the cursor is the offset of the next page
+        List<Long> ids = employeeSearchRepository.search(normalized, pageSize + 1, offset);
+        String nextCursor = null;
+        if (ids.size() > pageSize) {
+            ids = ids.subList(0, pageSize);
+            nextCursor = String.valueOf(offset + pageSize);
+        }
+        return new CursorPage<>(loadInOrder(ids), nextCursor);
+    }
+
+    @Override
+    public List<EmployeeResponse> autocompleteEmployees(String prefix, Integer limit) {
+        String normalized = requireSearchQuery(prefix);
+        int resolvedLimit = limit == null || limit < 1 ? DEFAULT_AUTOCOMPLETE_LIMIT : Math.min(limit, MAX_AUTOCOMPLETE_LIMIT);
+        List<Long> ids = prefixIndex.isReady()
+            ? prefixIndex.lookup(normalized, resolvedLimit)
+            : employeeSearchRepository.search(normalized, resolvedLimit, 0);
+        return loadInOrder(ids);
+    }
+
+    private List<EmployeeResponse> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllById(ids)) {
+            employees.put(employee.getId(), employee);
+        }
+        return ids.stream()
+            .map(employees::get)
+            .filter(Objects::nonNull)
             .map(this::toEmployeeResponse)
-            .collect(Collectors.toList());
+            .toList();
+    }
+
+    private static String requireSearchQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        String trimmed = query.trim();
+        if (trimmed.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new ValidationException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset >= 0) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new ValidationException("Invalid cursor");
+    }
+
+    private EmployeeProfileResponse toProfileResponse(EmployeeProfileSnapshot snapshot) {
+        Employee employee = snapshot.getEmployee();
+        EmployeeProfileResponse response = new EmployeeProfileResponse();
+        response.setId(employee.getId());
+        response.setFullName(employee.getFullName());
+        response.setEmail(employee.getEmail());
+        response.setRole(employee.getRole());
+        response.setHireDate(employee.getHireDate());
+        response.setDepartment(employee.getDepartment());
+        response.setReviewPeriod(employee.getReviewPeriod());
+        response.setCurrentGrade(snapshot.getCurrentGrade() != null ? snapshot.getCurrentGrade().getName() : "N/A");
+        response.setLastReviewDate(snapshot.getLastReviewDate());
+        response.setLastScore(snapshot.getLastScore());
+        response.setGradeChangesCount(snapshot.getGradeChangesCount());
+        return response;
     }
 
     private EmployeeResponse toEmployeeResponse(Employee employee) {
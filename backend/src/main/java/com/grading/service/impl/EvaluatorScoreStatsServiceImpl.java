@@ -0,0 +1,236 @@
+package com.grading.service.impl;
+
+import com.grading.dto.response.EvaluatorScoreStatsResponse;
+import com.grading.dto.response.NormalizedScoreResponse;
+import com.grading.entity.ManagerEvaluation;
+import com.grading.repository.EvaluatorScoreBucketRepository;
+import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.service.EvaluatorScoreStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluator score statistics from running sums. Each evaluation adds (1, score, score^2) to the
+ * bucket of its (period, evaluator, score range); an update subtracts the old contribution and adds
+ * the new one. Reads only sum at most ten bucket rows per evaluator, so the stats endpoint is
+ * O(evaluators) and normalized scores need one pass over the period's evaluations.
+ */
+@Service
+@RequiredArgsConstructor
+public class EvaluatorScoreStatsServiceImpl implements EvaluatorScoreStatsService {
+    private static final int BUCKETS = 10;
+    private static final BigDecimal BUCKET_WIDTH = BigDecimal.TEN;
+    private static final BigDecimal MAX_SCORE = BigDecimal.valueOf(100);
+    private static final MathContext MC = MathContext.DECIMAL64;
+
+    private final EvaluatorScoreBucketRepository bucketRepository;
+    private final ManagerEvaluationRepository managerEvaluationRepository;
+
+    @Value("${evaluations.normalization.min-samples:3}")
+    private int minSamples;
+
+    @Override
+    @Transactional
+    public void recordEvaluationCreated(ManagerEvaluation evaluation) {
+        apply(evaluation.getReviewPeriod(), evaluation.getEvaluator().getId(), evaluation.getScore(), 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordEvaluationsCreated(List<ManagerEvaluation> evaluations) {
+        Map<BucketKey, Delta> deltas = new LinkedHashMap<>();
+        for (ManagerEvaluation evaluation : evaluations) {
+            BigDecimal score = evaluation.getScore();
+            BucketKey key = new BucketKey(evaluation.getReviewPeriod(), evaluation.getEvaluator().getId(), bucketOf(score));
+            deltas.merge(key, new Delta(1, score, score.multiply(score)), Delta::plus);
+        }
+        deltas.forEach((key, delta) -> {
+            bucketRepository.ensureBucket(key.reviewPeriod(), key.evaluatorId(), key.bucket());
+            bucketRepository.applyDelta(key.reviewPeriod(), key.evaluatorId(), key.bucket(),
+                delta.count(), delta.sum(), delta.sumSquares());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void recordEvaluationUpdated(ManagerEvaluation evaluation, String previousReviewPeriod, BigDecimal previousScore) {
+        if (previousReviewPeriod.equals(evaluation.getReviewPeriod()) && previousScore.compareTo(evaluation.getScore()) == 0) {
+            return;
+        }
+        Long evaluatorId = evaluation.getEvaluator().getId();
+        apply(previousReviewPeriod, evaluatorId, previousScore, -1);
+        apply(evaluation.getReviewPeriod(), evaluatorId, evaluation.getScore(), 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EvaluatorScoreStatsResponse> getStats(String reviewPeriod) {
+        return loadAccumulators(reviewPeriod).values().stream()
+            .map(Accumulator::toResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NormalizedScoreResponse> getNormalizedScores(String reviewPeriod) {
+        Map<Long, Accumulator> byEvaluator = loadAccumulators(reviewPeriod);
+        Accumulator period = new Accumulator(null, null);
+        byEvaluator.values().forEach(period::add);
+        BigDecimal periodMean = period.mean();
+        BigDecimal periodDeviation = period.standardDeviation();
+
+        List<Object[]> rows = managerEvaluationRepository.findScoresByReviewPeriod(reviewPeriod);
+        List<NormalizedScoreResponse> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long evaluatorId = (Long) row[3];
+            BigDecimal score = (BigDecimal) row[4];
+            Accumulator evaluator = byEvaluator.get(evaluatorId);
+
+            BigDecimal zScore = null;
+            BigDecimal normalized = score;
+            if (evaluator != null && evaluator.count >= minSamples && evaluator.standardDeviation().signum() > 0) {
+                zScore = score.subtract(evaluator.mean()).divide(evaluator.standardDeviation(), MC);
+                normalized = periodMean.add(zScore.multiply(periodDeviation, MC));
+                zScore = zScore.setScale(3, RoundingMode.HALF_UP);
+                normalized = normalized.setScale(2, RoundingMode.HALF_UP);
+            }
+            result.add(new NormalizedScoreResponse((Long) row[0], (Long) row[1], (String) row[2], evaluatorId,
+                score, zScore, normalized));
+        }
+        return result;
+    }
+
+    private void apply(String reviewPeriod, Long evaluatorId, BigDecimal score, int sign) {
+        int bucket = bucketOf(score);
+        bucketRepository.ensureBucket(reviewPeriod, evaluatorId, bucket);
+        BigDecimal signedScore = sign < 0 ? score.negate() : score;
+        bucketRepository.applyDelta(reviewPeriod, evaluatorId, bucket, sign, signedScore, signedScore.multiply(score));
+    }
+
+    /**
+     * Ten-point score range, clamped to 0..9 (a score of 100 falls into the last range). Must match
+     * the backfill in migration_010.
+     */
+    private static int bucketOf(BigDecimal score) {
+        if (score.signum() <= 0) {
+            return 0;
+        }
+        if (score.compareTo(MAX_SCORE) >= 0) {
+            return BUCKETS - 1;
+        }
+        return Math.min(score.intValue() / BUCKET_WIDTH.intValue(), BUCKETS - 1);
+    }
+
+    private Map<Long, Accumulator> loadAccumulators(String reviewPeriod) {
+        Map<Long, Accumulator> byEvaluator = new LinkedHashMap<>();
+        for (Object[] row : bucketRepository.findBucketsByReviewPeriod(reviewPeriod)) {
+            Accumulator accumulator = byEvaluator.computeIfAbsent((Long) row[0], id -> new Accumulator(id, (String) row[1]));
+            accumulator.addBucket((Integer) row[2], (Long) row[3], (BigDecimal) row[4], (BigDecimal) row[5]);
+        }
+        return byEvaluator;
+    }
+
+    private record BucketKey(String reviewPeriod, Long evaluatorId, int bucket) {
+    }
+
+    private record Delta(long count, BigDecimal sum, BigDecimal sumSquares) {
+        Delta plus(Delta other) {
+            return new Delta(count + other.count, sum.add(other.sum), sumSquares.add(other.sumSquares));
+        }
+    }
+
+    private static final class Accumulator {
+        private final Long evaluatorId;
+        private final String evaluatorName;
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal sumSquares = BigDecimal.ZERO;
+
+        Accumulator(Long evaluatorId, String evaluatorName) {
+            this.evaluatorId = evaluatorId;
+            this.evaluatorName = evaluatorName;
+        }
+
+        void addBucket(int bucket, long bucketCount, BigDecimal bucketSum, BigDecimal bucketSumSquares) {
+            counts[bucket] += bucketCount;
+            count += bucketCount;
+            sum = sum.add(bucketSum);
+            sumSquares = sumSquares.add(bucketSumSquares);
+        }
+
+        void add(Accumulator other) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += other.counts[bucket];
+            }
+            count += other.count;
+            sum = sum.add(other.sum);
+            sumSquares = sumSquares.add(other.sumSquares);
+        }
+
+        BigDecimal mean() {
+            return count == 0 ? BigDecimal.ZERO : sum.divide(BigDecimal.valueOf(count), MC);
+        }
+
+        BigDecimal variance() {
+            if (count == 0) {
+                return BigDecimal.ZERO;
+            }
+            BigDecimal n = BigDecimal.valueOf(count);
+            BigDecimal variance = sumSquares.subtract(sum.multiply(sum).divide(n, MC)).divide(n, MC);
+            return variance.signum() < 0 ? BigDecimal.ZERO : variance;
+        }
+
+        BigDecimal standardDeviation() {
+            return variance().sqrt(MC);
+        }
+
+        /**
+         * Linear interpolation inside the score range that contains the q-th fraction of evaluations.
+         */
+        BigDecimal percentile(double q) {
+            BigDecimal target = BigDecimal.valueOf(q).multiply(BigDecimal.valueOf(count));
+            long cumulative = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                long inBucket = counts[bucket];
+                if (inBucket > 0 && BigDecimal.valueOf(cumulative + inBucket).compareTo(target) >= 0) {
+                    BigDecimal fraction = target.subtract(BigDecimal.valueOf(cumulative))
+                        .divide(BigDecimal.valueOf(inBucket), MC);
+                    return BUCKET_WIDTH.multiply(BigDecimal.valueOf(bucket).add(fraction));
+                }
+                cumulative += inBucket;
+            }
+            return MAX_SCORE;
+        }
+
+        EvaluatorScoreStatsResponse toResponse() {
+            return new EvaluatorScoreStatsResponse(
+                evaluatorId,
+                evaluatorName,
+                count,
+                round(mean()),
+                round(variance()),
+                round(standardDeviation()),
+                round(percentile(0.25)),
+                round(percentile(0.5)),
+                round(percentile(0.75)),
+                round(percentile(0.9)),
+                Arrays.stream(counts).boxed().toList());
+        }
+
+        private static BigDecimal round(BigDecimal value) {
+            return value.setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.grading.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grading.repository.ExportRepository;
+import com.grading.service.ExportService;
+import com.grading.util.CsvLineWriter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Each export runs in one read-only transaction so the JDBC driver can page through a server-side
+ * cursor. Every row is written to the output as soon as it is read and then dropped; only the
+ * writer's buffer and one row of values are held at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEvaluations(String reviewPeriod, Format format, OutputStream output) {
+        long rows = export(ExportRepository.EVALUATION_COLUMNS, format, output,
+            handler -> exportRepository.streamEvaluations(reviewPeriod, handler));
+        logger.info("Exported {} evaluations as {} (review period: {})", rows, format, reviewPeriod);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPromotionRequests(String status, String reviewPeriod, Format format, OutputStream output) {
+        long rows = export(ExportRepository.PROMOTION_REQUEST_COLUMNS, format, output,
+            handler -> exportRepository.streamPromotionRequests(status, reviewPeriod, handler));
+        logger.info("Exported {} promotion requests as {} (status: {}, review period: {})", rows, format, status, reviewPeriod);
+        return rows;
+    }
+
+    private long export(List<String> columns, Format format, OutputStream output, Consumer<RowCallbackHandler> query) {
+        try (RowWriter writer = format == Format.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output)) {
+            writer.start(columns);
+            Object[] values = new Object[columns.size()];
+            long[] rows = {0};
+            query.accept(rs -> {
+                readRow(rs, values);
+                try {
+                    writer.write(columns, values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            return rows[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void readRow(ResultSet rs, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = rs.getObject(i + 1);
+            // Timestamps are written the way the JSON API renders LocalDateTime
+            values[i] = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+        }
+    }
+
+    /**
+     * Output format. {@link #close()} flushes what is buffered but leaves the response stream to
+     * the servlet container.
+     */
+    private interface RowWriter extends AutoCloseable {
+        void start(List<String> columns) throws IOException;
+
+        void write(List<String> columns, Object[] values) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream output) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void start(List<String> columns) throws IOException {
+            writer.write(CsvLineWriter.format(columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(List<String> columns, Object[] values) throws IOException {
+            writer.write(CsvLineWriter.format(Arrays.asList(values)));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream output) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start(List<String> columns) {
+        }
+
+        @Override
+        public void write(List<String> columns, Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
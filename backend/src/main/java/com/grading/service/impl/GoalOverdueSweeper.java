@@ -0,0 +1,75 @@
+package com.grading.service.impl;
+
+import com.grading.repository.GoalAssignmentBulkRepository;
+import com.grading.service.GoalAssignmentsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Periodically moves in-progress goal assignments whose due date has passed to "overdue". Work is
+ * done in chunks of {@code goals.overdue-sweep.chunk-size}, each its own transaction, so row locks
+ * are held only for one chunk at a time. Publishes {@code goals.overdue.sweep} (run duration) and
+ * {@code goals.overdue.marked} (rows updated).
+ */
+@Component
+public class GoalOverdueSweeper {
+    private static final Logger logger = LoggerFactory.getLogger(GoalOverdueSweeper.class);
+
+    private final GoalAssignmentBulkRepository goalAssignmentBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Timer sweepTimer;
+    private final Counter markedCounter;
+
+    public GoalOverdueSweeper(GoalAssignmentBulkRepository goalAssignmentBulkRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${goals.overdue-sweep.enabled:true}") boolean enabled,
+                              @Value("${goals.overdue-sweep.chunk-size:1000}") int chunkSize,
+                              @Value("${goals.overdue-sweep.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.goalAssignmentBulkRepository = goalAssignmentBulkRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.sweepTimer = meterRegistry.timer("goals.overdue.sweep");
+        this.markedCounter = meterRegistry.counter("goals.overdue.marked");
+    }
+
+    @Scheduled(fixedDelayString = "${goals.overdue-sweep.interval:PT15M}", initialDelayString = "${goals.overdue-sweep.initial-delay:PT1M}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        int marked = sweepTimer.record(this::sweepChunks);
+        if (marked > 0) {
+            logger.info("Marked {} goal assignments as overdue", marked);
+            eventPublisher.publishEvent(new GoalAssignmentsChangedEvent(null));
+        }
+    }
+
+    private int sweepChunks() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int updated = goalAssignmentBulkRepository.markOverdueChunk(today, chunkSize);
+            total += updated;
+            markedCounter.increment(updated);
+            if (updated < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,120 @@
+package com.grading.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grading.dto.response.GoalProgressResponse;
+import com.grading.repository.GoalAssignmentRepository;
+import com.grading.service.GoalAssignmentsChangedEvent;
+import com.grading.service.GoalProgressService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Goal progress per employee, computed for a whole review period with one grouped query and
+ * cached per period. Goal writes publish {@link GoalAssignmentsChangedEvent}, which drops the
+ * period after commit; the TTL bounds staleness for other nodes and for the overdue cut-off.
+ */
+@Service
+public class GoalProgressServiceImpl implements GoalProgressService {
+    private static final Logger logger = LoggerFactory.getLogger(GoalProgressServiceImpl.class);
+    private static final String CACHE_NAME = "goal.progress";
+
+    private final GoalAssignmentRepository goalAssignmentRepository;
+    private final Cache<String, PeriodProgress> cache;
+
+    public GoalProgressServiceImpl(GoalAssignmentRepository goalAssignmentRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${goals.progress-cache.max-periods:50}") long maxPeriods,
+                                   @Value("${goals.progress-cache.ttl:5m}") Duration ttl) {
+        this.goalAssignmentRepository = goalAssignmentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxPeriods)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public List<GoalProgressResponse> getProgress(String reviewPeriod, String department, List<Long> employeeIds) {
+        PeriodProgress progress = cache.get(reviewPeriod, this::load);
+
+        if (employeeIds != null && !employeeIds.isEmpty()) {
+            return employeeIds.stream()
+                .distinct()
+                .map(id -> progress.byEmployee().getOrDefault(id, empty(id)))
+                .toList();
+        }
+        if (department != null && !department.isBlank()) {
+            return progress.byDepartment().getOrDefault(department, List.of()).stream()
+                .map(progress.byEmployee()::get)
+                .filter(Objects::nonNull)
+                .toList();
+        }
+        return List.copyOf(progress.byEmployee().values());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalAssignmentsChanged(GoalAssignmentsChangedEvent event) {
+        if (event.reviewPeriod() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(event.reviewPeriod());
+        }
+    }
+
+    private PeriodProgress load(String reviewPeriod) {
+        Map<Long, GoalProgressResponse> byEmployee = new TreeMap<>();
+        Map<String, List<Long>> byDepartment = new HashMap<>();
+
+        for (Object[] row : goalAssignmentRepository.countByEmployeeAndStatus(reviewPeriod, LocalDate.now())) {
+            Long employeeId = (Long) row[0];
+            String status = (String) row[2];
+            long count = ((Number) row[3]).longValue();
+            long overdue = row[4] != null ? ((Number) row[4]).longValue() : 0;
+
+            GoalProgressResponse progress = byEmployee.get(employeeId);
+            if (progress == null) {
+                progress = empty(employeeId);
+                byEmployee.put(employeeId, progress);
+                byDepartment.computeIfAbsent((String) row[1], d -> new ArrayList<>()).add(employeeId);
+            }
+            progress.setTotal(progress.getTotal() + count);
+            progress.setOverdue(progress.getOverdue() + overdue);
+            switch (status) {
+                case "completed" -> progress.setCompleted(progress.getCompleted() + count);
+                case "in_progress" -> progress.setInProgress(progress.getInProgress() + count);
+                case "not_started" -> progress.setNotStarted(progress.getNotStarted() + count);
+                case "blocked" -> progress.setBlocked(progress.getBlocked() + count);
+                default -> {
+                    // Other statuses only count towards the total
+                }
+            }
+        }
+
+        byDepartment.values().forEach(ids -> ids.sort(null));
+        logger.debug("Goal progress for period {} computed for {} employees", reviewPeriod, byEmployee.size());
+        return new PeriodProgress(byEmployee, byDepartment);
+    }
+
+    private static GoalProgressResponse empty(Long employeeId) {
+        return new GoalProgressResponse(employeeId, 0, 0, 0, 0, 0, 0);
+    }
+
+    private record PeriodProgress(Map<Long, GoalProgressResponse> byEmployee, Map<String, List<Long>> byDepartment) {
+    }
+}
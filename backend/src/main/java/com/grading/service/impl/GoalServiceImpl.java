@@ -1,35 +1,53 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
 import com.grading.dto.request.AssignGoalRequest;
+import com.grading.dto.request.BulkAssignGoalRequest;
 import com.grading.dto.request.UpdateGoalStatusRequest;
+import com.grading.dto.response.BulkAssignGoalResponse;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.GoalResponse;
 import com.grading.entity.Employee;
 import com.grading.entity.Goal;
 import com.grading.entity.GoalAssignment;
 import com.grading.exception.ResourceNotFoundException;
+import com.grading.exception.ValidationException;
 import com.grading.repository.EmployeeRepository;
+import com.grading.repository.GoalAssignmentBulkRepository;
+import com.grading.repository.GoalAssignmentBulkRepository.EmployeeSelector;
 import com.grading.repository.GoalAssignmentRepository;
-import com.grading.repository.GoalRepository;
+import com.grading.service.GoalAssignmentsChangedEvent;
 import com.grading.service.GoalService;
+import com.grading.service.ReferenceDataCache;
+import com.grading.service.ReferenceDataCache.GoalTemplateRef;
+import com.grading.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GoalServiceImpl implements GoalService {
     private final GoalAssignmentRepository goalAssignmentRepository;
-    private final GoalRepository goalRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final EmployeeRepository employeeRepository;
+    private final GoalAssignmentBulkRepository goalAssignmentBulkRepository;
+    private final PaginationSettings paginationSettings;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${goals.bulk-assign.max-ids:10000}")
+    private int bulkAssignMaxIds;
 
     @Override
     @Transactional
     public GoalResponse assignGoal(AssignGoalRequest request) {
-        Goal goal = goalRepository.findById(request.getGoalId())
-            .orElseThrow(() -> new RuntimeException("Goal template not found"));
+        Goal goal = referenceDataCache.findGoalTemplate(request.getGoalId())
+            .orElseThrow(() -> new RuntimeException("Goal template not found"))
+            .toEntity();
         
         Employee employee = employeeRepository.findById(request.getEmployeeId())
             .orElseThrow(() -> new RuntimeException("Employee not found"));
@@ -41,9 +59,41 @@ public class GoalServiceImpl implements GoalService {
         assignment.setStatus("in_progress");
 
         GoalAssignment saved = goalAssignmentRepository.save(assignment);
+        eventPublisher.publishEvent(new GoalAssignmentsChangedEvent(goal.getReviewPeriod()));
         return toGoalResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public BulkAssignGoalResponse bulkAssignGoal(BulkAssignGoalRequest request) {
+        GoalTemplateRef goal = referenceDataCache.requireGoalTemplate(request.getGoalId());
+
+        EmployeeSelector selector = new EmployeeSelector(
+            blankToNull(request.getDepartment()),
+            blankToNull(request.getRole()),
+            blankToNull(request.getReviewPeriod()),
+            request.getEmployeeIds() != null ? request.getEmployeeIds().stream().distinct().toList() : null);
+        if (selector.department() == null && selector.role() == null && selector.reviewPeriod() == null
+                && selector.employeeIds() == null) {
+            throw new ValidationException("At least one of department, role, reviewPeriod or employeeIds is required");
+        }
+        if (selector.employeeIds() != null) {
+            if (selector.employeeIds().isEmpty()) {
+                throw new ValidationException("employeeIds must not be empty");
+            }
+            if (selector.employeeIds().size() > bulkAssignMaxIds) {
+                throw new ValidationException("At most " + bulkAssignMaxIds + " employee ids can be given");
+            }
+        }
+
+        int matched = goalAssignmentBulkRepository.countMatching(selector);
+        int assigned = goalAssignmentBulkRepository.assignMissing(request.getGoalId(), request.getDueDate(), "in_progress", selector);
+        if (assigned > 0) {
+            eventPublisher.publishEvent(new GoalAssignmentsChangedEvent(goal.reviewPeriod()));
+        }
+        return new BulkAssignGoalResponse(request.getGoalId(), matched, assigned, matched - assigned);
+    }
+
     @Override
     @Transactional
     public GoalResponse updateGoalStatus(Long id, UpdateGoalStatusRequest request) {
@@ -53,41 +103,41 @@ public class GoalServiceImpl implements GoalService {
         assignment.setStatus(request.getStatus());
 
         GoalAssignment saved = goalAssignmentRepository.save(assignment);
+        eventPublisher.publishEvent(new GoalAssignmentsChangedEvent(assignment.getGoal().getReviewPeriod()));
         return toGoalResponse(saved);
     }
 
     @Override
     @Transactional
     public void deleteGoalAssignment(Long id) {
-        goalAssignmentRepository.deleteById(id);
+        goalAssignmentRepository.findById(id).ifPresent(assignment -> {
+            goalAssignmentRepository.delete(assignment);
+            eventPublisher.publishEvent(new GoalAssignmentsChangedEvent(assignment.getGoal().getReviewPeriod()));
+        });
     }
 
     @Override
     public GoalResponse getGoalAssignmentById(Long id) {
-        GoalAssignment assignment = goalAssignmentRepository.findById(id)
+        return goalAssignmentRepository.findResponseById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Goal assignment", id));
-        return toGoalResponse(assignment);
     }
 
     @Override
     public List<GoalResponse> getGoalsByEmployeeId(Long employeeId) {
-        return goalAssignmentRepository.findByEmployeeId(employeeId).stream()
-            .map(this::toGoalResponse)
-            .collect(Collectors.toList());
+        return goalAssignmentRepository.findResponsesByEmployeeId(employeeId);
     }
 
     @Override
     public List<GoalResponse> getGoalsByEmployeeIdAndReviewPeriod(Long employeeId, String reviewPeriod) {
-        return goalAssignmentRepository.findByEmployeeIdAndReviewPeriod(employeeId, reviewPeriod).stream()
-            .map(this::toGoalResponse)
-            .collect(Collectors.toList());
+        return goalAssignmentRepository.findResponsesByEmployeeIdAndReviewPeriod(employeeId, reviewPeriod);
     }
 
     @Override
-    public List<GoalResponse> getAllGoalAssignments() {
-        return goalAssignmentRepository.findAllWithRelations().stream()
-            .map(this::toGoalResponse)
-            .collect(Collectors.toList());
+    public CursorPage<GoalResponse> getAllGoalAssignments(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<GoalResponse> rows = goalAssignmentRepository.findResponsePage(after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, GoalResponse::getCreatedAt, GoalResponse::getId);
     }
 
     private GoalResponse toGoalResponse(GoalAssignment assignment) {
@@ -109,9 +159,10 @@ public class GoalServiceImpl implements GoalService {
 
     @Override
     public List<GoalResponse> getGoalsByEmployeeIdAndStatus(Long employeeId, String status) {
-        List<GoalAssignment> assignments = goalAssignmentRepository.findByEmployeeIdAndStatus(employeeId, status);
-        return assignments.stream()
-            .map(this::toGoalResponse)
-            .collect(Collectors.toList());
+        return goalAssignmentRepository.findResponsesByEmployeeIdAndStatus(employeeId, status);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
-}
\ No newline at end of file
+}
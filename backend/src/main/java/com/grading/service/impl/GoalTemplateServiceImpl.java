@@ -1,22 +1,31 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
 import com.grading.dto.request.CreateGoalRequest;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.GoalTemplateResponse;
 import com.grading.entity.Goal;
-import com.grading.exception.ResourceNotFoundException;
 import com.grading.repository.GoalRepository;
+import com.grading.service.GoalTemplateChangedEvent;
 import com.grading.service.GoalTemplateService;
+import com.grading.service.ReferenceDataCache;
+import com.grading.service.ReferenceDataCache.GoalTemplateRef;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * Writes go to the database and are published as {@link GoalTemplateChangedEvent}; reads are served
+ * from {@link ReferenceDataCache}.
+ */
 @Service
 @RequiredArgsConstructor
 public class GoalTemplateServiceImpl implements GoalTemplateService {
     private final GoalRepository goalRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final PaginationSettings paginationSettings;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -27,7 +36,8 @@ public class GoalTemplateServiceImpl implements GoalTemplateService {
         goal.setMetric(request.getMetric());
         goal.setReviewPeriod(request.getReviewPeriod());
 
-        Goal saved = goalRepository.save(goal);
+        GoalTemplateRef saved = GoalTemplateRef.of(goalRepository.saveAndFlush(goal));
+        eventPublisher.publishEvent(new GoalTemplateChangedEvent(saved.id(), saved));
         return toGoalTemplateResponse(saved);
     }
 
@@ -42,7 +52,8 @@ public class GoalTemplateServiceImpl implements GoalTemplateService {
         goal.setMetric(request.getMetric());
         goal.setReviewPeriod(request.getReviewPeriod());
 
-        Goal saved = goalRepository.save(goal);
+        GoalTemplateRef saved = GoalTemplateRef.of(goalRepository.saveAndFlush(goal));
+        eventPublisher.publishEvent(new GoalTemplateChangedEvent(saved.id(), saved));
         return toGoalTemplateResponse(saved);
     }
 
@@ -50,38 +61,35 @@ public class GoalTemplateServiceImpl implements GoalTemplateService {
     @Transactional
     public void deleteGoalTemplate(Long id) {
         goalRepository.deleteById(id);
+        eventPublisher.publishEvent(new GoalTemplateChangedEvent(id, null));
     }
 
     @Override
     public GoalTemplateResponse getGoalTemplateById(Long id) {
-        Goal goal = goalRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Goal template", id));
-        return toGoalTemplateResponse(goal);
+        return toGoalTemplateResponse(referenceDataCache.requireGoalTemplate(id));
     }
 
     @Override
-    public List<GoalTemplateResponse> getAllGoalTemplates() {
-        return goalRepository.findAll().stream()
-            .map(this::toGoalTemplateResponse)
-            .collect(Collectors.toList());
+    public CursorPage<GoalTemplateResponse> getAllGoalTemplates(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        return referenceDataCache.getGoalTemplatePage(null, cursor, pageSize).map(this::toGoalTemplateResponse);
     }
 
     @Override
-    public List<GoalTemplateResponse> getGoalTemplatesByReviewPeriod(String reviewPeriod) {
-        return goalRepository.findByReviewPeriod(reviewPeriod).stream()
-            .map(this::toGoalTemplateResponse)
-            .collect(Collectors.toList());
+    public CursorPage<GoalTemplateResponse> getGoalTemplatesByReviewPeriod(String reviewPeriod, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        return referenceDataCache.getGoalTemplatePage(reviewPeriod, cursor, pageSize).map(this::toGoalTemplateResponse);
     }
 
-    private GoalTemplateResponse toGoalTemplateResponse(Goal goal) {
+    private GoalTemplateResponse toGoalTemplateResponse(GoalTemplateRef goal) {
         GoalTemplateResponse response = new GoalTemplateResponse();
-        response.setId(goal.getId());
-        response.setTitle(goal.getTitle());
-        response.setDescription(goal.getDescription());
-        response.setMetric(goal.getMetric());
-        response.setReviewPeriod(goal.getReviewPeriod());
-        response.setCreatedAt(goal.getCreatedAt());
-        response.setUpdatedAt(goal.getUpdatedAt());
+        response.setId(goal.id());
+        response.setTitle(goal.title());
+        response.setDescription(goal.description());
+        response.setMetric(goal.metric());
+        response.setReviewPeriod(goal.reviewPeriod());
+        response.setCreatedAt(goal.createdAt());
+        response.setUpdatedAt(goal.updatedAt());
         return response;
     }
 }
@@ -0,0 +1,59 @@
+package com.grading.service.impl;
+
+import com.grading.entity.Grade;
+import com.grading.entity.GradeHistory;
+import com.grading.entity.OutboxEvent;
+import com.grading.repository.EmployeeRepository;
+import com.grading.repository.GradeHistoryRepository;
+import com.grading.service.EmployeeProfileSnapshotService;
+import com.grading.service.OutboxEventHandler;
+import com.grading.service.OutboxService;
+import com.grading.service.PromotionRequestStatus;
+import com.grading.service.PromotionRequestTransition;
+import com.grading.service.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * The single writer of grade history for approved promotion requests (the old database trigger
+ * that wrote a second row is dropped), followed by the profile snapshot refresh.
+ */
+@Component
+@RequiredArgsConstructor
+public class GradeHistoryOutboxHandler implements OutboxEventHandler {
+    private final OutboxService outboxService;
+    private final GradeHistoryRepository gradeHistoryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final EmployeeProfileSnapshotService profileSnapshotService;
+
+    @Override
+    public boolean supports(String eventType) {
+        return OutboxService.PROMOTION_REQUEST_DECIDED.equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        PromotionRequestTransition decision = outboxService.readPayload(event, PromotionRequestTransition.class);
+        if (!PromotionRequestStatus.APPROVED.equals(decision.toStatus())) {
+            return;
+        }
+
+        GradeHistory currentGradeHistory = gradeHistoryRepository
+            .findTopByEmployeeIdOrderByChangedAtDesc(decision.employeeId())
+            .orElse(null);
+
+        Grade newGrade = referenceDataCache.requireGrade(decision.requestedGradeId()).toEntity();
+
+        GradeHistory gradeHistory = new GradeHistory();
+        gradeHistory.setEmployee(employeeRepository.getReferenceById(decision.employeeId()));
+        // old_grade_id is NOT NULL; without history, start from the new grade as registration does
+        gradeHistory.setOldGrade(currentGradeHistory != null ? currentGradeHistory.getNewGrade() : newGrade);
+        gradeHistory.setNewGrade(newGrade);
+        gradeHistory.setChangedBy(employeeRepository.getReferenceById(decision.changedById()));
+        gradeHistory.setReason("Promotion request approved: " + decision.promotionRequestId());
+        gradeHistoryRepository.save(gradeHistory);
+
+        profileSnapshotService.recordGradeChange(decision.employeeId(), newGrade);
+    }
+}
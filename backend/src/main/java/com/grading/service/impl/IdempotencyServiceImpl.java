@@ -0,0 +1,167 @@
+package com.grading.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grading.entity.IdempotencyKey;
+import com.grading.repository.IdempotencyKeyRepository;
+import com.grading.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency keys stored in {@code idempotency_keys}, with completed responses also held in a
+ * bounded in-memory cache so most retries are answered without a database round trip. A key is
+ * claimed by inserting it; the unique (owner, key) constraint decides which of two concurrent
+ * requests runs. Every store operation commits on its own, independent of the request's
+ * transaction. A key left in progress longer than {@code idempotency.in-progress-timeout} (the node
+ * died mid-request) can be claimed again. Expired keys are deleted in batches by {@link #purgeExpired()}.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+    private static final String IN_PROGRESS = "in_progress";
+    private static final String COMPLETED = "completed";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatchesPerRun;
+    private final Cache<String, CachedResponse> completed;
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${idempotency.in-progress-timeout:1m}") Duration inProgressTimeout,
+                                  @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize,
+                                  @Value("${idempotency.purge.batch-size:1000}") int purgeBatchSize,
+                                  @Value("${idempotency.purge.max-batches-per-run:100}") int purgeMaxBatchesPerRun) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatchesPerRun = purgeMaxBatchesPerRun;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency.responses");
+    }
+
+    @Override
+    public Claim begin(String owner, String key, String fingerprint) {
+        Claim claim = claim(owner, key, fingerprint);
+        meterRegistry.counter("idempotency.requests", "outcome", claim.outcome().name().toLowerCase()).increment();
+        return claim;
+    }
+
+    @Override
+    public void complete(String owner, String key, String fingerprint, StoredResponse response) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        Integer updated = transactionTemplate.execute(status -> idempotencyKeyRepository.complete(
+            owner, key, response.status(), response.contentType(), response.body(), expiresAt));
+        if (updated == null || updated == 0) {
+            // Reclaimed by another request after our claim went stale; that request owns the key now
+            logger.warn("Idempotency key {} of {} was no longer in progress when its request completed", key, owner);
+            return;
+        }
+        completed.put(cacheKey(owner, key), new CachedResponse(fingerprint, response));
+    }
+
+    @Override
+    public void release(String owner, String key) {
+        transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.release(owner, key));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${idempotency.purge.interval:PT10M}", initialDelayString = "${idempotency.purge.interval:PT10M}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int batch = 0; batch < purgeMaxBatchesPerRun; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteExpiredBatch(now, purgeBatchSize));
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+            if (count < purgeBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Purged {} expired idempotency keys", total);
+        }
+        return total;
+    }
+
+    private Claim claim(String owner, String key, String fingerprint) {
+        CachedResponse cached = completed.getIfPresent(cacheKey(owner, key));
+        if (cached != null) {
+            return cached.fingerprint().equals(fingerprint)
+                ? new Claim(Outcome.REPLAY, cached.response())
+                : Claim.of(Outcome.FINGERPRINT_MISMATCH);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.saveAndFlush(
+                new IdempotencyKey(null, owner, key, fingerprint, IN_PROGRESS, null, null, null, now, now.plus(ttl))));
+            return Claim.of(Outcome.ACQUIRED);
+        } catch (DataIntegrityViolationException e) {
+            // The key exists already; fall through and look at what it holds
+        }
+
+        Optional<IdempotencyKey> existing = transactionTemplate.execute(status ->
+            idempotencyKeyRepository.findByOwnerAndIdempotencyKey(owner, key));
+        if (existing == null || existing.isEmpty()) {
+            // Released or purged between the insert and the lookup; the client may simply retry
+            return Claim.of(Outcome.IN_PROGRESS);
+        }
+        IdempotencyKey stored = existing.get();
+        if (stored.getExpiresAt().isBefore(now)
+                || (IN_PROGRESS.equals(stored.getStatus()) && stored.getCreatedAt().isBefore(now.minus(inProgressTimeout)))) {
+            return reclaim(stored, fingerprint, now);
+        }
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            return Claim.of(Outcome.FINGERPRINT_MISMATCH);
+        }
+        if (!COMPLETED.equals(stored.getStatus())) {
+            return Claim.of(Outcome.IN_PROGRESS);
+        }
+        StoredResponse response = new StoredResponse(
+            stored.getResponseStatus(), stored.getResponseContentType(), stored.getResponseBody());
+        completed.put(cacheKey(owner, key), new CachedResponse(stored.getFingerprint(), response));
+        return new Claim(Outcome.REPLAY, response);
+    }
+
+    private Claim reclaim(IdempotencyKey stored, String fingerprint, LocalDateTime now) {
+        Integer updated = transactionTemplate.execute(status -> idempotencyKeyRepository.reclaim(
+            stored.getId(), fingerprint, now, now.minus(inProgressTimeout), now.plus(ttl)));
+        return updated != null && updated > 0 ? Claim.of(Outcome.ACQUIRED) : Claim.of(Outcome.IN_PROGRESS);
+    }
+
+    private static String cacheKey(String owner, String key) {
+        return owner + '\n' + key;
+    }
+
+    private record CachedResponse(String fingerprint, StoredResponse response) {
+    }
+}
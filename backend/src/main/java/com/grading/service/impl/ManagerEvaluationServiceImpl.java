@@ -1,25 +1,53 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
 import com.grading.dto.request.ManagerEvaluationRequest;
+import com.grading.dto.response.BulkEvaluationResponse;
+import com.grading.dto.response.BulkEvaluationResponse.ItemResult;
+import com.grading.dto.response.CursorPage;
 import com.grading.dto.response.ReviewResponse;
 import com.grading.entity.Employee;
 import com.grading.entity.ManagerEvaluation;
 import com.grading.exception.ResourceNotFoundException;
+import com.grading.exception.ValidationException;
 import com.grading.repository.EmployeeRepository;
+import com.grading.repository.ManagerEvaluationBulkRepository;
 import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.service.EmployeeProfileSnapshotService;
+import com.grading.service.EvaluatorScoreStatsService;
 import com.grading.service.ManagerEvaluationService;
+import com.grading.util.KeysetCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ManagerEvaluationServiceImpl implements ManagerEvaluationService {
     private final ManagerEvaluationRepository managerEvaluationRepository;
+    private final ManagerEvaluationBulkRepository managerEvaluationBulkRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeProfileSnapshotService profileSnapshotService;
+    private final EvaluatorScoreStatsService scoreStatsService;
+    private final PaginationSettings paginationSettings;
+    private final Validator validator;
+
+    @Value("${evaluations.bulk.max-size:500}")
+    private int bulkMaxSize;
 
     @Override
     @Transactional
@@ -38,14 +66,93 @@ public class ManagerEvaluationServiceImpl implements ManagerEvaluationService {
         evaluation.setNominatedForPromotion(request.getNominatedForPromotion());
 
         ManagerEvaluation saved = managerEvaluationRepository.save(evaluation);
+        profileSnapshotService.recordEvaluationCreated(saved);
+        scoreStatsService.recordEvaluationCreated(saved);
         return toReviewResponse(saved);
     }
 
+    /**
+     * Validates every item up front (employees resolved with one query), then writes the valid
+     * ones with batched JDBC in this transaction. Invalid items are reported and skipped.
+     */
+    @Override
+    @Transactional
+    public BulkEvaluationResponse createEvaluations(List<ManagerEvaluationRequest> requests, Long evaluatorId) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("At least one evaluation is required");
+        }
+        if (requests.size() > bulkMaxSize) {
+            throw new ValidationException("At most " + bulkMaxSize + " evaluations can be submitted at once");
+        }
+
+        Set<Long> employeeIds = new HashSet<>();
+        employeeIds.add(evaluatorId);
+        requests.stream()
+            .filter(Objects::nonNull)
+            .map(ManagerEvaluationRequest::getEmployeeId)
+            .filter(Objects::nonNull)
+            .forEach(employeeIds::add);
+        Map<Long, Employee> employees = employeeRepository.findAllById(employeeIds).stream()
+            .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Employee evaluator = employees.get(evaluatorId);
+        if (evaluator == null) {
+            throw new ResourceNotFoundException("Employee", evaluatorId);
+        }
+
+        BulkEvaluationResponse response = new BulkEvaluationResponse();
+        response.setSubmittedCount(requests.size());
+        List<ManagerEvaluation> accepted = new ArrayList<>();
+        List<ItemResult> acceptedResults = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.size(); i++) {
+            ManagerEvaluationRequest request = requests.get(i);
+            String error = validate(request, employees);
+            ItemResult result = new ItemResult(i, request != null ? request.getEmployeeId() : null, null, error);
+            response.getResults().add(result);
+            if (error != null) {
+                response.setFailedCount(response.getFailedCount() + 1);
+                continue;
+            }
+
+            ManagerEvaluation evaluation = new ManagerEvaluation();
+            evaluation.setEvaluator(evaluator);
+            evaluation.setEmployee(employees.get(request.getEmployeeId()));
+            evaluation.setReviewPeriod(request.getReviewPeriod());
+            evaluation.setScore(request.getScore());
+            evaluation.setComment(request.getComment());
+            evaluation.setNominatedForPromotion(request.getNominatedForPromotion());
+            evaluation.setCreatedAt(now);
+            evaluation.setUpdatedAt(now);
+            accepted.add(evaluation);
+            acceptedResults.add(result);
+        }
+        if (accepted.isEmpty()) {
+            return response;
+        }
+
+        managerEvaluationBulkRepository.insertAll(accepted);
+        for (int i = 0; i < accepted.size(); i++) {
+            acceptedResults.get(i).setEvaluationId(accepted.get(i).getId());
+        }
+        int[] snapshotUpdates = managerEvaluationBulkRepository.applyToProfileSnapshots(accepted);
+        for (int i = 0; i < accepted.size(); i++) {
+            if (snapshotUpdates[i] == 0) {
+                // Snapshot row missing (or already newer): let the snapshot service handle it
+                profileSnapshotService.recordEvaluationCreated(accepted.get(i));
+            }
+        }
+        scoreStatsService.recordEvaluationsCreated(accepted);
+        response.setCreatedCount(accepted.size());
+        return response;
+    }
+
     @Override
     @Transactional
     public ReviewResponse updateEvaluation(Long id, ManagerEvaluationRequest request) {
         ManagerEvaluation evaluation = managerEvaluationRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Evaluation not found"));
+        String previousReviewPeriod = evaluation.getReviewPeriod();
+        BigDecimal previousScore = evaluation.getScore();
 
         evaluation.setReviewPeriod(request.getReviewPeriod());
         evaluation.setScore(request.getScore());
@@ -53,6 +160,8 @@ public class ManagerEvaluationServiceImpl implements ManagerEvaluationService {
         evaluation.setNominatedForPromotion(request.getNominatedForPromotion());
 
         ManagerEvaluation saved = managerEvaluationRepository.save(evaluation);
+        profileSnapshotService.recordEvaluationUpdated(saved);
+        scoreStatsService.recordEvaluationUpdated(saved, previousReviewPeriod, previousScore);
         return toReviewResponse(saved);
     }
 
@@ -71,17 +180,36 @@ public class ManagerEvaluationServiceImpl implements ManagerEvaluationService {
     }
 
     @Override
-    public List<ReviewResponse> getEvaluationsByReviewPeriod(String reviewPeriod) {
-        return managerEvaluationRepository.findByReviewPeriod(reviewPeriod).stream()
-            .map(this::toReviewResponse)
-            .collect(Collectors.toList());
+    public CursorPage<ReviewResponse> getEvaluationsByReviewPeriod(String reviewPeriod, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<ManagerEvaluation> rows = managerEvaluationRepository.findPageByReviewPeriod(reviewPeriod, after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, ManagerEvaluation::getCreatedAt, ManagerEvaluation::getId).map(this::toReviewResponse);
     }
 
     @Override
-    public List<ReviewResponse> getAllEvaluations() {
-        return managerEvaluationRepository.findAll().stream()
-            .map(this::toReviewResponse)
-            .collect(Collectors.toList());
+    public CursorPage<ReviewResponse> getAllEvaluations(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<ManagerEvaluation> rows = managerEvaluationRepository.findPage(after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, ManagerEvaluation::getCreatedAt, ManagerEvaluation::getId).map(this::toReviewResponse);
+    }
+
+    private String validate(ManagerEvaluationRequest request, Map<Long, Employee> employees) {
+        if (request == null) {
+            return "Evaluation is required";
+        }
+        Set<ConstraintViolation<ManagerEvaluationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (!employees.containsKey(request.getEmployeeId())) {
+            return "Employee not found with id: " + request.getEmployeeId();
+        }
+        return null;
     }
 
     private ReviewResponse toReviewResponse(ManagerEvaluation evaluation) {
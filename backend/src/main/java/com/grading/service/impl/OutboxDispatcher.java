@@ -0,0 +1,117 @@
+package com.grading.service.impl;
+
+import com.grading.entity.OutboxEvent;
+import com.grading.repository.OutboxEventRepository;
+import com.grading.service.OutboxEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delivers claimed outbox events to every handler that supports them. A batch is claimed, handled
+ * and marked processed in one transaction; if a handler fails, the batch rolls back and only the
+ * failing event is pushed back with exponential backoff, the rest are picked up again by the next
+ * batch.
+ */
+@Component
+public class OutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlers,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retry-backoff:10s}") Duration retryBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Claims and handles up to {@code limit} due events. Returns the number processed; throws
+     * {@link DispatchFailure} (after rolling back) when a handler fails.
+     */
+    @Transactional
+    public int processBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.claimBatch(now, limit);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        for (OutboxEvent event : events) {
+            try {
+                dispatch(event);
+            } catch (RuntimeException e) {
+                throw new DispatchFailure(event, e);
+            }
+        }
+        outboxEventRepository.markProcessed(events.stream().map(OutboxEvent::getId).toList(), now);
+        return events.size();
+    }
+
+    /**
+     * Runs every supporting handler for one event in the caller's transaction.
+     */
+    public void dispatch(OutboxEvent event) {
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.supports(event.getEventType())) {
+                handler.handle(event);
+            }
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(DispatchFailure failure) {
+        OutboxEvent event = failure.getEvent();
+        int attempts = event.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        String error = String.valueOf(failure.getCause());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        outboxEventRepository.recordFailure(event.getId(), exhausted ? "failed" : "pending", error,
+            LocalDateTime.now().plus(backoff));
+        if (exhausted) {
+            logger.error("Outbox event {} ({}) failed {} times and is given up", event.getId(), event.getEventType(), attempts, failure.getCause());
+        } else {
+            logger.warn("Outbox event {} ({}) failed, attempt {} of {}, retrying in {}", event.getId(), event.getEventType(),
+                attempts, maxAttempts, backoff, failure.getCause());
+        }
+    }
+
+    @Transactional
+    public int purgeProcessedBefore(LocalDateTime before) {
+        return outboxEventRepository.deleteProcessedBefore(before);
+    }
+
+    public static class DispatchFailure extends RuntimeException {
+        private final transient OutboxEvent event;
+
+        DispatchFailure(OutboxEvent event, Throwable cause) {
+            super("Outbox event " + event.getId() + " (" + event.getEventType() + ") failed", cause);
+            this.event = event;
+        }
+
+        public OutboxEvent getEvent() {
+            return event;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.grading.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox on its own single thread, so handler work never competes with request threads
+ * or the shared scheduler. Each run processes batches of {@code outbox.batch-size} until the outbox
+ * is empty or {@code outbox.max-batches-per-run} is reached, then waits {@code outbox.poller.interval}.
+ * Processed events older than {@code outbox.retention} are deleted periodically. Publishes
+ * {@code outbox.poll} (run duration), {@code outbox.dispatched} and {@code outbox.failures}.
+ */
+@Component
+public class OutboxPoller {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPoller.class);
+
+    private final OutboxDispatcher dispatcher;
+    private final boolean enabled;
+    private final Duration interval;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final Duration purgeInterval;
+    private final Timer pollTimer;
+    private final Counter dispatchedCounter;
+    private final Counter failureCounter;
+    private final ScheduledExecutorService executor;
+
+    public OutboxPoller(OutboxDispatcher dispatcher,
+                        MeterRegistry meterRegistry,
+                        @Value("${outbox.poller.enabled:true}") boolean enabled,
+                        @Value("${outbox.poller.interval:1s}") Duration interval,
+                        @Value("${outbox.batch-size:100}") int batchSize,
+                        @Value("${outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+                        @Value("${outbox.retention:7d}") Duration retention,
+                        @Value("${outbox.purge-interval:1h}") Duration purgeInterval) {
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+        this.purgeInterval = purgeInterval;
+        this.pollTimer = meterRegistry.timer("outbox.poll");
+        this.dispatchedCounter = meterRegistry.counter("outbox.dispatched");
+        this.failureCounter = meterRegistry.counter("outbox.failures");
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Outbox poller is disabled");
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::purge, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Outbox poller started with interval {} and batch size {}", interval, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One drain run. Exceptions are logged, never propagated: an escaping exception would cancel
+     * the scheduled task for good.
+     */
+    void poll() {
+        try {
+            pollTimer.record(this::drain);
+        } catch (RuntimeException e) {
+            logger.error("Outbox poll failed", e);
+        }
+    }
+
+    private void drain() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int processed;
+            try {
+                processed = dispatcher.processBatch(batchSize);
+            } catch (OutboxDispatcher.DispatchFailure failure) {
+                failureCounter.increment();
+                dispatcher.recordFailure(failure);
+                continue;
+            }
+            dispatchedCounter.increment(processed);
+            if (processed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void purge() {
+        try {
+            int deleted = dispatcher.purgeProcessedBefore(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                logger.debug("Purged {} processed outbox events", deleted);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Outbox purge failed", e);
+        }
+    }
+}
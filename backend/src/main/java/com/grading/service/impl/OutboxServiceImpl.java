@@ -0,0 +1,67 @@
+package com.grading.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grading.entity.OutboxEvent;
+import com.grading.repository.OutboxEventBulkRepository;
+import com.grading.repository.OutboxEventRepository;
+import com.grading.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventBulkRepository outboxEventBulkRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, String aggregateType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(newEvent(eventType, aggregateType, aggregateId, payload, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(String eventType, String aggregateType, Map<Long, ?> payloadsByAggregateId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) ->
+            events.add(newEvent(eventType, aggregateType, aggregateId, payload, now)));
+        outboxEventBulkRepository.insertAll(events);
+    }
+
+    private OutboxEvent newEvent(String eventType, String aggregateType, Long aggregateId, Object payload, LocalDateTime now) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setStatus("pending");
+        event.setAttempts(0);
+        event.setCreatedAt(now);
+        event.setAvailableAt(now);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType + " payload", e);
+        }
+        return event;
+    }
+
+    @Override
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read payload of outbox event " + event.getId(), e);
+        }
+    }
+}
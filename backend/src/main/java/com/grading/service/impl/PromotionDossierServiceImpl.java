@@ -0,0 +1,149 @@
+package com.grading.service.impl;
+
+import com.grading.dto.response.CalibrationSummaryResponse;
+import com.grading.dto.response.GoalResponse;
+import com.grading.dto.response.GradeHistoryResponse;
+import com.grading.dto.response.PromotionDossierResponse;
+import com.grading.dto.response.PromotionRequestFileResponse;
+import com.grading.dto.response.PromotionRequestResponse;
+import com.grading.dto.response.ReviewResponse;
+import com.grading.exception.ServiceUnavailableException;
+import com.grading.repository.CalibrationRepository;
+import com.grading.repository.GoalAssignmentRepository;
+import com.grading.repository.GradeHistoryRepository;
+import com.grading.repository.ManagerEvaluationRepository;
+import com.grading.repository.PromotionRequestFileRepository;
+import com.grading.service.PromotionDossierService;
+import com.grading.service.PromotionRequestService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the promotion request dossier from six DTO projections: the request first (the other
+ * parts need its employee and calibration), then goals, files, evaluations, grade history and the
+ * calibration summary in parallel on a small dedicated pool. Projections never touch lazy state, so
+ * each part can run on any thread with its own short-lived EntityManager.
+ * <p>
+ * Inside an existing transaction the parts run sequentially on the calling thread, because other
+ * threads cannot see that transaction's uncommitted rows. When the pool and its queue are full a
+ * part also runs on the calling thread, so the pool never adds more than
+ * {@code promotion-requests.dossier.threads} database connections.
+ */
+@Service
+public class PromotionDossierServiceImpl implements PromotionDossierService {
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PromotionRequestService promotionRequestService;
+    private final GoalAssignmentRepository goalAssignmentRepository;
+    private final PromotionRequestFileRepository promotionRequestFileRepository;
+    private final ManagerEvaluationRepository managerEvaluationRepository;
+    private final GradeHistoryRepository gradeHistoryRepository;
+    private final CalibrationRepository calibrationRepository;
+    private final int evaluationsLimit;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    public PromotionDossierServiceImpl(PromotionRequestService promotionRequestService,
+                                       GoalAssignmentRepository goalAssignmentRepository,
+                                       PromotionRequestFileRepository promotionRequestFileRepository,
+                                       ManagerEvaluationRepository managerEvaluationRepository,
+                                       GradeHistoryRepository gradeHistoryRepository,
+                                       CalibrationRepository calibrationRepository,
+                                       @Value("${promotion-requests.dossier.threads:8}") int threads,
+                                       @Value("${promotion-requests.dossier.queue-capacity:100}") int queueCapacity,
+                                       @Value("${promotion-requests.dossier.evaluations-limit:5}") int evaluationsLimit,
+                                       @Value("${promotion-requests.dossier.timeout:5s}") Duration timeout) {
+        this.promotionRequestService = promotionRequestService;
+        this.goalAssignmentRepository = goalAssignmentRepository;
+        this.promotionRequestFileRepository = promotionRequestFileRepository;
+        this.managerEvaluationRepository = managerEvaluationRepository;
+        this.gradeHistoryRepository = gradeHistoryRepository;
+        this.calibrationRepository = calibrationRepository;
+        this.evaluationsLimit = evaluationsLimit;
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dossier-loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public PromotionDossierResponse getDossier(Long promotionRequestId) {
+        PromotionRequestResponse request = promotionRequestService.getPromotionRequestById(promotionRequestId);
+        Long employeeId = request.getEmployeeId();
+        Long calibrationId = request.getCalibrationId();
+
+        CompletableFuture<List<GoalResponse>> goals =
+            load(() -> goalAssignmentRepository.findResponsesByPromotionRequestId(promotionRequestId));
+        CompletableFuture<List<PromotionRequestFileResponse>> files =
+            load(() -> promotionRequestFileRepository.findResponsesByPromotionRequestId(promotionRequestId));
+        CompletableFuture<List<ReviewResponse>> evaluations =
+            load(() -> managerEvaluationRepository.findLatestResponsesByEmployeeId(employeeId, PageRequest.of(0, evaluationsLimit)));
+        CompletableFuture<List<GradeHistoryResponse>> gradeHistory =
+            load(() -> gradeHistoryRepository.findResponsesByEmployeeId(employeeId));
+        CompletableFuture<CalibrationSummaryResponse> calibration = calibrationId == null
+            ? CompletableFuture.completedFuture(null)
+            : load(() -> calibrationRepository.findSummaryById(calibrationId).orElse(null));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return new PromotionDossierResponse(
+            request,
+            await(goals, deadline),
+            await(files, deadline),
+            await(evaluations, deadline),
+            await(gradeHistory, deadline),
+            await(calibration, deadline));
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> part) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CompletableFuture.completedFuture(part.get());
+        }
+        return CompletableFuture.supplyAsync(part, executor);
+    }
+
+    private static <T> T await(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Promotion request dossier took too long to load", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Promotion request dossier loading was interrupted", RETRY_AFTER_SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Promotion request dossier loading failed", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
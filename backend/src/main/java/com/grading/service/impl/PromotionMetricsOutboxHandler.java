@@ -0,0 +1,42 @@
+package com.grading.service.impl;
+
+import com.grading.entity.OutboxEvent;
+import com.grading.service.OutboxEventHandler;
+import com.grading.service.OutboxService;
+import com.grading.service.PromotionRequestTransition;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Analytics counters for the promotion workflow: {@code promotion_requests.transitions} tagged
+ * with the source and target status, and {@code calibrations.completed}. Counters are not part of
+ * the transaction, so an event in a retried batch may be counted twice.
+ */
+@Component
+public class PromotionMetricsOutboxHandler implements OutboxEventHandler {
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+
+    public PromotionMetricsOutboxHandler(OutboxService outboxService, MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return OutboxService.PROMOTION_REQUEST_STATUS_CHANGED.equals(eventType)
+            || OutboxService.PROMOTION_REQUEST_DECIDED.equals(eventType)
+            || OutboxService.CALIBRATION_COMPLETED.equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (OutboxService.CALIBRATION_COMPLETED.equals(event.getEventType())) {
+            meterRegistry.counter("calibrations.completed").increment();
+            return;
+        }
+        PromotionRequestTransition transition = outboxService.readPayload(event, PromotionRequestTransition.class);
+        meterRegistry.counter("promotion_requests.transitions",
+            "from", transition.fromStatus(), "to", transition.toStatus()).increment();
+    }
+}
@@ -1,26 +1,40 @@
 package com.grading.service.impl;
 
+import com.grading.config.PaginationSettings;
+import com.grading.dto.request.PromotionDecisionRequest;
 import com.grading.dto.request.PromotionRequestRequest;
-import com.grading.dto.response.PromotionRequestResponse;
+import com.grading.dto.request.PromotionRequestSearchRequest;
+import com.grading.dto.response.BulkPromotionDecisionResponse;
+import com.grading.dto.response.BulkPromotionDecisionResponse.ItemResult;
+import com.grading.dto.response.CursorPage;
+import com.grading.dto.response.GoalResponse;
 import com.grading.dto.response.PromotionRequestFileResponse;
+import com.grading.dto.response.PromotionRequestResponse;
+import com.grading.dto.response.PromotionRequestSummaryResponse;
 import com.grading.entity.Employee;
+import com.grading.entity.GoalAssignment;
 import com.grading.entity.Grade;
-import com.grading.entity.GradeHistory;
 import com.grading.entity.PromotionRequest;
 import com.grading.entity.PromotionRequestFile;
-import com.grading.entity.GoalAssignment;
 import com.grading.exception.BusinessLogicException;
+import com.grading.exception.ConflictException;
 import com.grading.exception.ResourceNotFoundException;
 import com.grading.exception.ValidationException;
 import com.grading.model.PromotionRequestGoal;
 import com.grading.repository.EmployeeRepository;
-import com.grading.repository.GradeRepository;
-import com.grading.repository.GradeHistoryRepository;
-import com.grading.repository.PromotionRequestRepository;
 import com.grading.repository.GoalAssignmentRepository;
-import com.grading.repository.PromotionRequestGoalRepository;
+import com.grading.repository.PromotionRequestBulkRepository;
+import com.grading.repository.PromotionRequestBulkRepository.Decision;
 import com.grading.repository.PromotionRequestFileRepository;
+import com.grading.repository.PromotionRequestGoalRepository;
+import com.grading.repository.PromotionRequestRepository;
+import com.grading.repository.PromotionRequestSearchRepository;
+import com.grading.service.OutboxService;
 import com.grading.service.PromotionRequestService;
+import com.grading.service.PromotionRequestStatus;
+import com.grading.service.PromotionRequestTransition;
+import com.grading.service.ReferenceDataCache;
+import com.grading.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,10 +51,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -58,28 +77,32 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
 
     private final PromotionRequestRepository promotionRequestRepository;
+    private final PromotionRequestBulkRepository promotionRequestBulkRepository;
+    private final PromotionRequestSearchRepository promotionRequestSearchRepository;
     private final EmployeeRepository employeeRepository;
-    private final GradeRepository gradeRepository;
-    private final GradeHistoryRepository gradeHistoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final OutboxService outboxService;
     private final GoalAssignmentRepository goalAssignmentRepository;
     private final PromotionRequestGoalRepository promotionRequestGoalRepository;
     private final PromotionRequestFileRepository promotionRequestFileRepository;
+    private final PaginationSettings paginationSettings;
 
     @Value("${file.upload-dir:./uploads}")
     private String uploadDir;
 
+    @Value("${promotion-requests.bulk-decision.max-size:500}")
+    private int bulkDecisionMaxSize;
+
     @Override
     @Transactional
     public PromotionRequestResponse createPromotionRequest(PromotionRequestRequest request, Long submittedById) {
         Employee employee = employeeRepository.findById(request.getEmployeeId())
             .orElseThrow(() -> new ResourceNotFoundException("Employee", request.getEmployeeId()));
-        Grade requestedGrade = gradeRepository.findById(request.getRequestedGradeId())
-            .orElseThrow(() -> new ResourceNotFoundException("Grade", request.getRequestedGradeId()));
+        Grade requestedGrade = referenceDataCache.requireGrade(request.getRequestedGradeId()).toEntity();
         Employee submittedBy = employeeRepository.findById(submittedById)
             .orElseThrow(() -> new ResourceNotFoundException("Employee", submittedById));
 
-        List<String> activeStatuses = Arrays.asList("pending", "under_review", "ready_for_calibration", "in_calibration");
-        if (promotionRequestRepository.existsActiveRequest(request.getEmployeeId(), request.getRequestedGradeId(), activeStatuses)) {
+        if (promotionRequestRepository.existsActiveRequest(request.getEmployeeId(), request.getRequestedGradeId(), PromotionRequestStatus.ACTIVE)) {
             throw new BusinessLogicException("Active promotion request already exists for this employee and grade");
         }
 
@@ -92,7 +115,7 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
         promotionRequest.setJustification(request.getJustification());
         promotionRequest.setEvidence(request.getEvidence());
         promotionRequest.setReviewPeriod(request.getReviewPeriod());
-        promotionRequest.setStatus("pending");
+        promotionRequest.setStatus(PromotionRequestStatus.PENDING);
 
         PromotionRequest saved = promotionRequestRepository.save(promotionRequest);
         return toPromotionRequestResponse(saved);
@@ -103,41 +126,41 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
     public PromotionRequestResponse updatePromotionRequest(Long id, PromotionRequestRequest request) {
         PromotionRequest promotionRequest = promotionRequestRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Promotion request", id));
+        if (request.getVersion() != null && !request.getVersion().equals(promotionRequest.getVersion())) {
+            throw conflict(id);
+        }
         
-        Grade requestedGrade = gradeRepository.findById(request.getRequestedGradeId())
-            .orElseThrow(() -> new ResourceNotFoundException("Grade", request.getRequestedGradeId()));
+        Grade requestedGrade = referenceDataCache.requireGrade(request.getRequestedGradeId()).toEntity();
         
         promotionRequest.setRequestedGrade(requestedGrade);
         promotionRequest.setJustification(request.getJustification());
         promotionRequest.setEvidence(request.getEvidence());
         promotionRequest.setReviewPeriod(request.getReviewPeriod());
+        // Version-checked at flush: a concurrent edit or status change fails with 409
+        promotionRequestRepository.saveAndFlush(promotionRequest);
         
-        if ("returned_for_revision".equalsIgnoreCase(promotionRequest.getStatus())) {
-            promotionRequest.setStatus("pending");
-            promotionRequest.setHrComment(null);
+        if (PromotionRequestStatus.RETURNED_FOR_REVISION.equals(promotionRequest.getStatus())) {
+            if (promotionRequestRepository.reopenReturnedRequest(id) == 0) {
+                throw conflict(id);
+            }
+            publishTransition(promotionRequest, PromotionRequestStatus.PENDING, null, null);
         }
         
-        PromotionRequest saved = promotionRequestRepository.save(promotionRequest);
-        return toPromotionRequestResponse(saved);
+        return toPromotionRequestResponse(reload(id));
     }
 
     @Override
     @Transactional
     public PromotionRequestResponse updatePromotionRequestStatus(Long id, String status, Long changedById, String comment) {
+        String target = PromotionRequestStatus.parse(status);
         PromotionRequest promotionRequest = promotionRequestRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Promotion request", id));
         Employee changedBy = employeeRepository.findById(changedById)
             .orElseThrow(() -> new ResourceNotFoundException("Employee", changedById));
 
-        promotionRequest.setStatus(status);
-        promotionRequest.setStatusChangedBy(changedBy);
-        
-        if ("returned_for_revision".equalsIgnoreCase(status) && comment != null) {
-            promotionRequest.setHrComment(comment);
-        }
-
-        PromotionRequest saved = promotionRequestRepository.save(promotionRequest);
-        return toPromotionRequestResponse(saved);
+        PromotionRequestStatus.requireManualTransition(promotionRequest.getStatus(), target);
+        String hrComment = PromotionRequestStatus.RETURNED_FOR_REVISION.equals(target) ? comment : null;
+        return toPromotionRequestResponse(transition(promotionRequest, target, changedBy, hrComment));
     }
 
     @Override
@@ -150,41 +173,156 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
             .orElseThrow(() -> new ResourceNotFoundException("Employee", approvedById));
 
         // Проверяем, что заявка находится в статусе calibration_completed
-        if (!"calibration_completed".equalsIgnoreCase(promotionRequest.getStatus())) {
+        if (!PromotionRequestStatus.CALIBRATION_COMPLETED.equals(promotionRequest.getStatus())) {
             throw new BusinessLogicException("Promotion request must be in 'calibration_completed' status to approve or reject");
         }
 
+        // Запись в grade_history и обновление профиля выполняет обработчик outbox-события
         if ("approved".equalsIgnoreCase(decision)) {
             // Одобряем повышение
-            promotionRequest.setStatus("approved");
-            promotionRequest.setStatusChangedBy(approvedBy);
-            promotionRequest.setHrComment(comment);
-            
-            // Создаем запись в grade_history
-            GradeHistory currentGradeHistory = gradeHistoryRepository.findTopByEmployeeIdOrderByChangedAtDesc(
-                promotionRequest.getEmployee().getId()
-            ).orElse(null);
-            
-            GradeHistory gradeHistory = new GradeHistory();
-            gradeHistory.setEmployee(promotionRequest.getEmployee());
-            gradeHistory.setOldGrade(currentGradeHistory != null ? currentGradeHistory.getNewGrade() : null);
-            gradeHistory.setNewGrade(promotionRequest.getRequestedGrade());
-            gradeHistory.setChangedBy(approvedBy);
-            gradeHistory.setReason("Promotion request approved: " + id);
-            
-            gradeHistoryRepository.save(gradeHistory);
-            
+            return toPromotionRequestResponse(
+                transition(promotionRequest, PromotionRequestStatus.APPROVED, approvedBy, comment));
         } else if ("rejected".equalsIgnoreCase(decision)) {
             // Отклоняем повышение
-            promotionRequest.setStatus("rejected");
-            promotionRequest.setStatusChangedBy(approvedBy);
-            promotionRequest.setHrComment(comment != null ? comment : "Rejected");
+            return toPromotionRequestResponse(transition(promotionRequest, PromotionRequestStatus.REJECTED, approvedBy,
+                comment != null ? comment : "Rejected"));
         } else {
             throw new ValidationException("Invalid decision. Must be 'approved' or 'rejected'");
         }
+    }
 
-        PromotionRequest saved = promotionRequestRepository.save(promotionRequest);
-        return toPromotionRequestResponse(saved);
+    /**
+     * Decides a batch of calibrated requests in one transaction: the requests are loaded in one
+     * query, all decisions go out as one batch of compare-and-set updates and the outbox events as
+     * one batched insert. Invalid items and lost races are reported per item without
+     * affecting the rest; grade history is written by the outbox handler as for single decisions.
+     */
+    @Override
+    @Transactional
+    public BulkPromotionDecisionResponse decidePromotionRequests(List<PromotionDecisionRequest> decisions, Long decidedById) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new ValidationException("At least one decision is required");
+        }
+        if (decisions.size() > bulkDecisionMaxSize) {
+            throw new ValidationException("At most " + bulkDecisionMaxSize + " decisions can be submitted at once");
+        }
+        Employee decidedBy = employeeRepository.findById(decidedById)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee", decidedById));
+
+        Set<Long> ids = new HashSet<>();
+        decisions.stream()
+            .filter(Objects::nonNull)
+            .map(PromotionDecisionRequest::getPromotionRequestId)
+            .filter(Objects::nonNull)
+            .forEach(ids::add);
+        Map<Long, PromotionRequest> requests = ids.isEmpty() ? Map.of()
+            : promotionRequestRepository.findAllWithEmployeeAndGradeByIdIn(ids).stream()
+                .collect(Collectors.toMap(PromotionRequest::getId, Function.identity()));
+
+        BulkPromotionDecisionResponse response = new BulkPromotionDecisionResponse();
+        response.setSubmittedCount(decisions.size());
+        List<Decision> accepted = new ArrayList<>();
+        List<ItemResult> acceptedResults = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < decisions.size(); i++) {
+            PromotionDecisionRequest item = decisions.get(i);
+            Long id = item != null ? item.getPromotionRequestId() : null;
+            String target = item != null ? decisionStatus(item.getDecision()) : null;
+            String error = validateDecision(item, target, requests.get(id), seen);
+            ItemResult result = new ItemResult(i, id, null, error);
+            response.getResults().add(result);
+            if (error != null) {
+                response.setFailedCount(response.getFailedCount() + 1);
+                continue;
+            }
+            String comment = PromotionRequestStatus.REJECTED.equals(target) && item.getComment() == null
+                ? "Rejected" : item.getComment();
+            accepted.add(new Decision(id, target, comment));
+            acceptedResults.add(result);
+        }
+
+        int[] updated = promotionRequestBulkRepository.decideAll(accepted, PromotionRequestStatus.CALIBRATION_COMPLETED, decidedById);
+        Map<Long, PromotionRequestTransition> decided = new LinkedHashMap<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            Decision decision = accepted.get(i);
+            ItemResult result = acceptedResults.get(i);
+            if (updated[i] == 0) {
+                result.setError(conflict(decision.promotionRequestId()).getMessage());
+                response.setFailedCount(response.getFailedCount() + 1);
+                continue;
+            }
+            result.setStatus(decision.status());
+            if (PromotionRequestStatus.APPROVED.equals(decision.status())) {
+                response.setApprovedCount(response.getApprovedCount() + 1);
+            } else {
+                response.setRejectedCount(response.getRejectedCount() + 1);
+            }
+            PromotionRequest pr = requests.get(decision.promotionRequestId());
+            decided.put(pr.getId(), new PromotionRequestTransition(pr.getId(), pr.getEmployee().getId(),
+                pr.getRequestedGrade().getId(), pr.getStatus(), decision.status(), decidedBy.getId(), decision.comment()));
+        }
+        outboxService.publishAll(OutboxService.PROMOTION_REQUEST_DECIDED, OutboxService.PROMOTION_REQUEST, decided);
+        return response;
+    }
+
+    private static String decisionStatus(String decision) {
+        if ("approved".equalsIgnoreCase(decision)) {
+            return PromotionRequestStatus.APPROVED;
+        }
+        if ("rejected".equalsIgnoreCase(decision)) {
+            return PromotionRequestStatus.REJECTED;
+        }
+        return null;
+    }
+
+    private static String validateDecision(PromotionDecisionRequest item, String target, PromotionRequest pr, Set<Long> seen) {
+        if (item == null || item.getPromotionRequestId() == null) {
+            return "Promotion request ID is required";
+        }
+        if (target == null) {
+            return "Invalid decision. Must be 'approved' or 'rejected'";
+        }
+        if (!seen.add(item.getPromotionRequestId())) {
+            return "Duplicate decision for promotion request " + item.getPromotionRequestId();
+        }
+        if (pr == null) {
+            return "Promotion request not found with id: " + item.getPromotionRequestId();
+        }
+        if (!PromotionRequestStatus.CALIBRATION_COMPLETED.equals(pr.getStatus())) {
+            return "Promotion request must be in 'calibration_completed' status to approve or reject";
+        }
+        return null;
+    }
+
+    /**
+     * Applies {@code to} only if the request is still in the status it was read with, records the
+     * change in the outbox and returns the fresh row. Losing the race is reported as a conflict.
+     */
+    private PromotionRequest transition(PromotionRequest promotionRequest, String to, Employee changedBy, String comment) {
+        Long id = promotionRequest.getId();
+        if (promotionRequestRepository.transitionStatus(id, promotionRequest.getStatus(), to, changedBy, comment) == 0) {
+            throw conflict(id);
+        }
+        publishTransition(promotionRequest, to, changedBy.getId(), comment);
+        return reload(id);
+    }
+
+    private void publishTransition(PromotionRequest promotionRequest, String to, Long changedById, String comment) {
+        String eventType = PromotionRequestStatus.APPROVED.equals(to) || PromotionRequestStatus.REJECTED.equals(to)
+            ? OutboxService.PROMOTION_REQUEST_DECIDED
+            : OutboxService.PROMOTION_REQUEST_STATUS_CHANGED;
+        outboxService.publish(eventType, OutboxService.PROMOTION_REQUEST, promotionRequest.getId(),
+            new PromotionRequestTransition(promotionRequest.getId(), promotionRequest.getEmployee().getId(),
+                promotionRequest.getRequestedGrade().getId(), promotionRequest.getStatus(), to, changedById, comment));
+    }
+
+    private PromotionRequest reload(Long id) {
+        return promotionRequestRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Promotion request", id));
+    }
+
+    private static ConflictException conflict(Long id) {
+        return new ConflictException("Promotion request " + id + " was changed concurrently; reload it and retry");
     }
 
     @Override
@@ -198,9 +336,8 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
 
     @Override
     public PromotionRequestResponse getPromotionRequestById(Long id) {
-        PromotionRequest promotionRequest = promotionRequestRepository.findById(id)
+        return promotionRequestRepository.findResponseById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Promotion request", id));
-        return toPromotionRequestResponse(promotionRequest);
     }
 
     @Override
@@ -211,17 +348,53 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
     }
 
     @Override
-    public List<PromotionRequestResponse> getPromotionRequestsByStatus(String status) {
-        return promotionRequestRepository.findByStatus(status).stream()
-            .map(this::toPromotionRequestResponse)
-            .collect(Collectors.toList());
+    public CursorPage<PromotionRequestResponse> getPromotionRequestsByStatus(String status, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<PromotionRequest> rows = promotionRequestRepository.findPageByStatus(status, after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, PromotionRequest::getCreatedAt, PromotionRequest::getId).map(this::toPromotionRequestResponse);
     }
 
     @Override
-    public List<PromotionRequestResponse> getAllPromotionRequests() {
-        return promotionRequestRepository.findAll().stream()
-            .map(this::toPromotionRequestResponse)
-            .collect(Collectors.toList());
+    public CursorPage<PromotionRequestResponse> getAllPromotionRequests(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<PromotionRequest> rows = promotionRequestRepository.findPage(after.createdAt(), after.id(), paginationSettings.lookahead(pageSize));
+        return CursorPage.of(rows, pageSize, PromotionRequest::getCreatedAt, PromotionRequest::getId).map(this::toPromotionRequestResponse);
+    }
+
+    @Override
+    public CursorPage<PromotionRequestSummaryResponse> searchPromotionRequests(PromotionRequestSearchRequest search, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolveSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<PromotionRequestSummaryResponse> rows = promotionRequestSearchRepository.search(
+            toSearchFilter(search), after, pageSize + 1);
+        return CursorPage.of(rows, pageSize, PromotionRequestSummaryResponse::getCreatedAt, PromotionRequestSummaryResponse::getId);
+    }
+
+    private static PromotionRequestSearchRepository.Filter toSearchFilter(PromotionRequestSearchRequest search) {
+        List<String> statuses = search.getStatus() == null ? List.of() : search.getStatus().stream()
+            .filter(s -> s != null && !s.isBlank())
+            .map(PromotionRequestStatus::parse)
+            .distinct()
+            .toList();
+        if (search.getCreatedFrom() != null && search.getCreatedTo() != null
+                && !search.getCreatedFrom().isBefore(search.getCreatedTo())) {
+            throw new ValidationException("createdFrom must be before createdTo");
+        }
+        return new PromotionRequestSearchRepository.Filter(
+            statuses.isEmpty() ? null : statuses,
+            blankToNull(search.getReviewPeriod()),
+            search.getRequestedGradeId(),
+            blankToNull(search.getDepartment()),
+            search.getSubmittedById(),
+            search.getCalibrationId(),
+            search.getCreatedFrom(),
+            search.getCreatedTo());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     private PromotionRequestResponse toPromotionRequestResponse(PromotionRequest pr) {
@@ -239,6 +412,8 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
         response.setStatus(pr.getStatus());
         response.setHrComment(pr.getHrComment());
         response.setCreatedAt(pr.getCreatedAt());
+        response.setVersion(pr.getVersion());
+        response.setCalibrationId(pr.getCalibration() != null ? pr.getCalibration().getId() : null);
         return response;
     }
 
@@ -356,10 +531,12 @@ public class PromotionRequestServiceImpl implements PromotionRequestService {
 
     @Override
     public List<PromotionRequestFileResponse> getPromotionRequestFiles(Long promotionRequestId) {
-        List<PromotionRequestFile> files = promotionRequestFileRepository.findByPromotionRequestId(promotionRequestId);
-        return files.stream()
-            .map(this::toFileResponse)
-            .collect(Collectors.toList());
+        return promotionRequestFileRepository.findResponsesByPromotionRequestId(promotionRequestId);
+    }
+
+    @Override
+    public List<GoalResponse> getPromotionRequestGoals(Long promotionRequestId) {
+        return goalAssignmentRepository.findResponsesByPromotionRequestId(promotionRequestId);
     }
 
     @Override
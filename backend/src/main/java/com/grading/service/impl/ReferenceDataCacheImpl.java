@@ -0,0 +1,179 @@
+package com.grading.service.impl;
+
+import com.grading.dto.response.CursorPage;
+import com.grading.exception.ResourceNotFoundException;
+import com.grading.repository.GoalRepository;
+import com.grading.repository.GradeRepository;
+import com.grading.service.GoalTemplateChangedEvent;
+import com.grading.service.ReferenceDataCache;
+import com.grading.util.KeysetCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Grades and goal templates held as immutable snapshots behind volatile references. Readers take
+ * the current snapshot without locking; every change builds a new snapshot and swaps it in whole
+ * (copy-on-write). Template writes on this node are applied after commit from
+ * {@link GoalTemplateChangedEvent}; changes made on other nodes or directly in the database are
+ * picked up by the periodic reload. An id missing from the snapshot is looked up once and added.
+ */
+@Service
+public class ReferenceDataCacheImpl implements ReferenceDataCache {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheImpl.class);
+    private static final Comparator<GradeRef> GRADE_ORDER =
+        Comparator.comparing(GradeRef::id, Comparator.reverseOrder());
+    private static final Comparator<GoalTemplateRef> TEMPLATE_ORDER =
+        Comparator.comparing(GoalTemplateRef::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(GoalTemplateRef::id, Comparator.reverseOrder());
+
+    private final GradeRepository gradeRepository;
+    private final GoalRepository goalRepository;
+    private final Counter gradeMisses;
+    private final Counter templateMisses;
+
+    private volatile Snapshot<GradeRef> grades = Snapshot.empty();
+    private volatile Snapshot<GoalTemplateRef> templates = Snapshot.empty();
+
+    public ReferenceDataCacheImpl(GradeRepository gradeRepository,
+                                  GoalRepository goalRepository,
+                                  MeterRegistry meterRegistry) {
+        this.gradeRepository = gradeRepository;
+        this.goalRepository = goalRepository;
+        this.gradeMisses = meterRegistry.counter("reference-data.misses", "type", "grade");
+        this.templateMisses = meterRegistry.counter("reference-data.misses", "type", "goal_template");
+    }
+
+    @Override
+    public List<GradeRef> getGrades() {
+        return grades.ordered();
+    }
+
+    @Override
+    public Optional<GradeRef> findGrade(Long id) {
+        GradeRef cached = grades.byId().get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        gradeMisses.increment();
+        Optional<GradeRef> loaded = gradeRepository.findById(id).map(GradeRef::of);
+        loaded.ifPresent(this::putGrade);
+        return loaded;
+    }
+
+    @Override
+    public GradeRef requireGrade(Long id) {
+        return findGrade(id).orElseThrow(() -> new ResourceNotFoundException("Grade", id));
+    }
+
+    @Override
+    public Optional<GoalTemplateRef> findGoalTemplate(Long id) {
+        GoalTemplateRef cached = templates.byId().get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        templateMisses.increment();
+        Optional<GoalTemplateRef> loaded = goalRepository.findById(id).map(GoalTemplateRef::of);
+        loaded.ifPresent(this::putGoalTemplate);
+        return loaded;
+    }
+
+    @Override
+    public GoalTemplateRef requireGoalTemplate(Long id) {
+        return findGoalTemplate(id).orElseThrow(() -> new ResourceNotFoundException("Goal template", id));
+    }
+
+    @Override
+    public CursorPage<GoalTemplateRef> getGoalTemplatePage(String reviewPeriod, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        GoalTemplateRef bound = new GoalTemplateRef(after.id(), null, null, null, null, after.createdAt(), null);
+        List<GoalTemplateRef> rows = templates.ordered().stream()
+            .filter(t -> reviewPeriod == null || reviewPeriod.equals(t.reviewPeriod()))
+            .filter(t -> TEMPLATE_ORDER.compare(t, bound) > 0)
+            .limit(size + 1L)
+            .toList();
+        return CursorPage.of(rows, size, GoalTemplateRef::createdAt, GoalTemplateRef::id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval:PT1M}",
+               initialDelayString = "${reference-data.refresh-interval:PT1M}")
+    public synchronized void reload() {
+        grades = Snapshot.of(gradeRepository.findAll().stream().map(GradeRef::of).toList(), GradeRef::id, GRADE_ORDER);
+        templates = Snapshot.of(goalRepository.findAll().stream().map(GoalTemplateRef::of).toList(), GoalTemplateRef::id, TEMPLATE_ORDER);
+        logger.debug("Reference data reloaded: {} grades, {} goal templates", grades.ordered().size(), templates.ordered().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalTemplateChanged(GoalTemplateChangedEvent event) {
+        if (event.template() == null) {
+            removeGoalTemplate(event.goalId());
+        } else {
+            putGoalTemplate(event.template());
+        }
+    }
+
+    private synchronized void putGrade(GradeRef grade) {
+        grades = grades.with(grade.id(), grade, GradeRef::id, GRADE_ORDER);
+    }
+
+    private synchronized void putGoalTemplate(GoalTemplateRef template) {
+        templates = templates.with(template.id(), template, GoalTemplateRef::id, TEMPLATE_ORDER);
+    }
+
+    private synchronized void removeGoalTemplate(Long id) {
+        templates = templates.with(id, null, GoalTemplateRef::id, TEMPLATE_ORDER);
+    }
+
+    /**
+     * Rows by id plus the same rows in display order. Never modified after construction.
+     */
+    private record Snapshot<T>(Map<Long, T> byId, List<T> ordered) {
+        static <T> Snapshot<T> empty() {
+            return new Snapshot<>(Map.of(), List.of());
+        }
+
+        static <T> Snapshot<T> of(Collection<T> rows, Function<T, Long> id, Comparator<T> order) {
+            Map<Long, T> byId = new HashMap<>();
+            for (T row : rows) {
+                byId.put(id.apply(row), row);
+            }
+            List<T> ordered = new ArrayList<>(byId.values());
+            ordered.sort(order);
+            return new Snapshot<>(Map.copyOf(byId), List.copyOf(ordered));
+        }
+
+        /**
+         * A copy with the row for {@code key} replaced, or removed when {@code row} is null.
+         */
+        Snapshot<T> with(Long key, T row, Function<T, Long> id, Comparator<T> order) {
+            Map<Long, T> copy = new HashMap<>(byId);
+            if (row == null) {
+                copy.remove(key);
+            } else {
+                copy.put(key, row);
+            }
+            return of(copy.values(), id, order);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.grading.util;
+
+import java.util.List;
+
+/**
+ * Formats one CSV record (RFC 4180 quoting, comma separator), the counterpart of
+ * {@link CsvLineParser}. Null fields are written empty; the line terminator is left to the caller.
+ */
+public final class CsvLineWriter {
+    private CsvLineWriter() {
+    }
+
+    public static String format(List<?> fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                appendField(line, field.toString());
+            }
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0
+            || (!value.isEmpty() && (Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1))));
+        if (!needsQuotes) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -1,38 +1,30 @@
 package com.grading.util;
 
-import com.grading.entity.Employee;
-import com.grading.exception.ResourceNotFoundException;
 import com.grading.exception.UnauthorizedException;
-import com.grading.repository.EmployeeRepository;
-import com.grading.repository.UserRepository;
+import com.grading.security.AuthenticatedEmployee;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SecurityUtils {
-    private final UserRepository userRepository;
-    private final EmployeeRepository employeeRepository;
 
-    public SecurityUtils(UserRepository userRepository, EmployeeRepository employeeRepository) {
-        this.userRepository = userRepository;
-        this.employeeRepository = employeeRepository;
-    }
-
-    public Employee getCurrentEmployee(Authentication authentication) {
+    /**
+     * Resolves the caller from the authenticated principal. The principal is built from signed
+     * token claims by {@code JwtAuthenticationFilter}, so this never touches the database.
+     */
+    public AuthenticatedEmployee getCurrentEmployee(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new UnauthorizedException("Authentication required");
         }
 
-        if (!(authentication.getPrincipal() instanceof UserDetails)) {
+        if (!(authentication.getPrincipal() instanceof AuthenticatedEmployee)) {
             throw new UnauthorizedException("Invalid authentication principal");
         }
 
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
-        
-        return userRepository.findByUsername(username)
-            .flatMap(user -> employeeRepository.findByUserId(user.getId()))
-            .orElseThrow(() -> new UnauthorizedException("Employee not found for user: " + username));
+        AuthenticatedEmployee principal = (AuthenticatedEmployee) authentication.getPrincipal();
+        if (!principal.hasEmployee()) {
+            throw new UnauthorizedException("Employee not found for user: " + principal.getUsername());
+        }
+        return principal;
     }
 }
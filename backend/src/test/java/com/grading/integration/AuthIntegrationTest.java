@@ -0,0 +1,176 @@
+package com.grading.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grading.dto.request.ChangePasswordRequest;
+import com.grading.dto.request.LoginRequest;
+import com.grading.dto.request.LogoutRequest;
+import com.grading.dto.request.RefreshTokenRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class AuthIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testLogin_ShouldReturnAccessAndRefreshTokens() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest("testuser", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").exists())
+                .andExpect(jsonPath("$.data.refreshToken").exists())
+                .andExpect(jsonPath("$.data.employeeId").value(testEmployee.getId()));
+    }
+
+    @Test
+    void testRefresh_ShouldRotateRefreshToken() throws Exception {
+        JsonNode login = login("testuser", "password123");
+        String refreshToken = login.path("refreshToken").asText();
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").exists())
+                .andExpect(jsonPath("$.data.refreshToken").exists());
+
+        // Used refresh tokens cannot be replayed
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testLogout_ShouldRevokeAccessAndRefreshTokens() throws Exception {
+        JsonNode login = login("testuser", "password123");
+        String accessToken = "Bearer " + login.path("token").asText();
+        String refreshToken = login.path("refreshToken").asText();
+
+        mockMvc.perform(get("/grades")
+                        .header("Authorization", accessToken))
+                .andExpect(status().isOk());
+
+        LogoutRequest logoutRequest = new LogoutRequest();
+        logoutRequest.setRefreshToken(refreshToken);
+        mockMvc.perform(post("/auth/logout")
+                        .header("Authorization", accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(logoutRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        mockMvc.perform(get("/grades")
+                        .header("Authorization", accessToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testChangePassword_ShouldBumpTokenVersionAndRevokeRefreshTokens() throws Exception {
+        JsonNode login = login("testuser", "password123");
+        String accessToken = "Bearer " + login.path("token").asText();
+        String refreshToken = login.path("refreshToken").asText();
+
+        ChangePasswordRequest request = new ChangePasswordRequest();
+        request.setCurrentPassword("password123");
+        request.setNewPassword("newPassword456");
+        mockMvc.perform(post("/auth/password")
+                        .header("Authorization", accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        com.grading.entity.User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertEquals(1, user.getTokenVersion());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testChangePassword_WithWrongCurrentPassword_ShouldReturnBadRequest() throws Exception {
+        ChangePasswordRequest request = new ChangePasswordRequest();
+        request.setCurrentPassword("wrongPassword");
+        request.setNewPassword("newPassword456");
+        mockMvc.perform(post("/auth/password")
+                        .header("Authorization", getAuthHeader("testuser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testChangePassword_ShouldEvictCachedIdentity() throws Exception {
+        authIdentityCache.get("testuser");
+        double misses = identityCacheMisses();
+        authIdentityCache.get("testuser");
+        assertEquals(misses, identityCacheMisses());
+
+        ChangePasswordRequest request = new ChangePasswordRequest();
+        request.setCurrentPassword("password123");
+        request.setNewPassword("newPassword456");
+        mockMvc.perform(post("/auth/password")
+                        .header("Authorization", getAuthHeader("testuser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Eviction runs once the surrounding transaction completes
+        TestTransaction.end();
+
+        authIdentityCache.get("testuser");
+        assertEquals(misses + 1, identityCacheMisses());
+    }
+
+    private JsonNode login(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private static LoginRequest loginRequest(String username, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+        return request;
+    }
+
+    private static RefreshTokenRequest refreshRequest(String refreshToken) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    private double identityCacheMisses() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "auth.identity")
+                .tag("result", "miss")
+                .functionCounter()
+                .count();
+    }
+}
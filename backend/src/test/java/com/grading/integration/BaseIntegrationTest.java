@@ -2,6 +2,7 @@ package com.grading.integration;
 
 import com.grading.entity.*;
 import com.grading.repository.*;
+import com.grading.security.AuthIdentityCache;
 import com.grading.security.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +10,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,7 +19,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
 
 @SpringBootTest
@@ -60,6 +60,12 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected PasswordEncoder passwordEncoder;
 
+    @Autowired
+    protected UserDetailsService userDetailsService;
+
+    @Autowired
+    protected AuthIdentityCache authIdentityCache;
+
     protected Employee testEmployee;
     protected Employee testHrEmployee;
     protected Employee testTeamLeadEmployee;
@@ -90,6 +96,8 @@ public abstract class BaseIntegrationTest {
         com.grading.entity.User user = new com.grading.entity.User();
         user.setUsername(username);
         user.setPasswordHash(passwordEncoder.encode(password));
+        // Test data is rolled back, so a previous test may have cached this username with another id
+        authIdentityCache.evict(username);
         return userRepository.save(user);
     }
 
@@ -168,13 +176,7 @@ public abstract class BaseIntegrationTest {
     }
 
     protected String generateToken(String username) {
-        com.grading.entity.User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found: " + username));
-        UserDetails userDetails = User.builder()
-                .username(user.getUsername())
-                .password(user.getPasswordHash())
-                .authorities(Collections.emptyList())
-                .build();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         return jwtTokenProvider.generateToken(authentication);
     }
@@ -3,19 +3,33 @@ package com.grading.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grading.dto.response.ApiResponse;
 import com.grading.dto.response.EmployeeProfileResponse;
+import com.grading.entity.Employee;
+import com.grading.entity.EmployeeProfileSnapshot;
+import com.grading.repository.EmployeeProfileSnapshotRepository;
+import com.grading.service.EmployeeProfileSnapshotService;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 public class EmployeeProfileIntegrationTest extends BaseIntegrationTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Autowired
+    private EmployeeProfileSnapshotService profileSnapshotService;
+
+    @Autowired
+    private EmployeeProfileSnapshotRepository snapshotRepository;
+
     @Test
     void testGetEmployeeProfile_WithGradeHistory_ShouldReturnCompleteProfile() throws Exception {
         createGradeHistory(testEmployee, testGrade1, testGrade2, testHrEmployee, "Promotion after successful review");
@@ -98,6 +112,39 @@ public class EmployeeProfileIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.lastScore").value(4.0));
     }
 
+    @Test
+    void testRecordGradeChange_WithoutSnapshot_ShouldInsertOnceAndKeepExistingRow() {
+        createGradeHistory(testEmployee, testGrade1, testGrade2, testHrEmployee, "Promotion");
+        profileSnapshotService.recordGradeChange(testEmployee.getId(), testGrade2);
+
+        // A second lazy insert for the same employee (a concurrent rebuild) must not fail or overwrite the row
+        assertEquals(0, snapshotRepository.insertIfAbsent(testEmployee.getId(), testGrade1.getId(), 5,
+                null, null, null, LocalDateTime.now()));
+
+        EmployeeProfileSnapshot snapshot = snapshotRepository.findWithEmployeeById(testEmployee.getId()).orElseThrow();
+        assertEquals(testGrade2.getId(), snapshot.getCurrentGrade().getId());
+        assertEquals(1, snapshot.getGradeChangesCount());
+    }
+
+    @Test
+    void testGetEmployeeProfiles_ShouldReturnProfilesInRequestedOrder() throws Exception {
+        createGradeHistory(testEmployee, testGrade1, testGrade2, testHrEmployee, "Promotion");
+
+        String token = getAuthHeader("hruser");
+
+        mockMvc.perform(get("/employees/profiles")
+                        .param("ids", testHrEmployee.getId() + "," + testEmployee.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(testHrEmployee.getId()))
+                .andExpect(jsonPath("$.data[1].id").value(testEmployee.getId()))
+                .andExpect(jsonPath("$.data[1].currentGrade").value(testGrade2.getName()))
+                .andExpect(jsonPath("$.data[1].gradeChangesCount").value(1));
+    }
+
     @Test
     void testGetAllEmployees_ShouldReturnList() throws Exception {
         String token = getAuthHeader("hruser");
@@ -136,5 +183,80 @@ public class EmployeeProfileIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
-}
 
+    @Test
+    void testGetDepartmentSummaries_ShouldAggregatePerDepartment() throws Exception {
+        createGradeHistory(testEmployee, testGrade1, testGrade2, testHrEmployee, "Promotion");
+        createManagerEvaluation(testHrEmployee, testEmployee, "2024-H1", new BigDecimal("4.0"), "Good", false);
+        createManagerEvaluation(testHrEmployee, testTeamLeadEmployee, "2024-H1", new BigDecimal("5.0"), "Great", false);
+
+        mockMvc.perform(get("/employees/departments/summary")
+                        .param("reviewPeriod", "2024-H1")
+                        .header("Authorization", getAuthHeader("hruser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].department").value("Engineering"))
+                .andExpect(jsonPath("$.data[0].headcount").value(2))
+                .andExpect(jsonPath("$.data[0].gradeDistribution.Middle").value(1))
+                .andExpect(jsonPath("$.data[0].gradeDistribution['N/A']").value(1))
+                .andExpect(jsonPath("$.data[0].averageLastScore").value(4.5))
+                .andExpect(jsonPath("$.data[1].department").value("HR"))
+                .andExpect(jsonPath("$.data[1].headcount").value(1));
+    }
+
+    @Test
+    void testSearchEmployees_ShouldRankPrefixMatchesAndFollowCursor() throws Exception {
+        String token = getAuthHeader("hruser");
+
+        mockMvc.perform(get("/employees/search")
+                        .param("q", "te")
+                        .param("size", "1")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].fullName").value("Team Lead"))
+                .andExpect(jsonPath("$.nextCursor").value("1"));
+
+        mockMvc.perform(get("/employees/search")
+                        .param("q", "te")
+                        .param("size", "1")
+                        .param("cursor", "1")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].fullName").value("Test Employee"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testImportEmployees_Csv_ShouldImportValidRowsAndReportErrors() throws Exception {
+        String csv = "username,password,fullName,email,role,hireDate,department,reviewPeriod,initialGradeId\n" +
+                "bulkuser1,secret1,\"Doe, Jane\",bulk1@example.com,employee,2024-01-15,Engineering,2024-H1," + testGrade1.getId() + "\n" +
+                "testuser,secret2,Duplicate User,dup@example.com,employee,2024-01-15,Engineering,2024-H1," + testGrade1.getId() + "\n" +
+                "bulkuser2,secret3,Bad Date,bulk2@example.com,employee,not-a-date,Engineering,2024-H1," + testGrade1.getId() + "\n";
+
+        mockMvc.perform(post("/employees/import")
+                        .header("Authorization", getAuthHeader("hruser"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.totalRows").value(3))
+                .andExpect(jsonPath("$.data.importedCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(2))
+                .andExpect(jsonPath("$.data.errors[?(@.line == 3)].message").value("Username already exists"))
+                .andExpect(jsonPath("$.data.errors[?(@.line == 4)].message").value("Invalid hireDate: not-a-date"));
+
+        Employee imported = employeeRepository.findByEmail("bulk1@example.com").orElseThrow();
+        assertEquals("Doe, Jane", imported.getFullName());
+        assertEquals(1, gradeHistoryRepository.countByEmployeeId(imported.getId()));
+    }
+
+    @Test
+    void testImportEmployees_AsEmployee_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/employees/import")
+                        .header("Authorization", getAuthHeader("testuser"))
+                        .contentType("application/x-ndjson")
+                        .content("{}\n"))
+                .andExpect(status().isForbidden());
+    }
+}
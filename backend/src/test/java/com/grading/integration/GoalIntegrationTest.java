@@ -2,15 +2,22 @@ package com.grading.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grading.dto.request.AssignGoalRequest;
+import com.grading.dto.request.BulkAssignGoalRequest;
 import com.grading.dto.request.UpdateGoalStatusRequest;
 import com.grading.entity.Goal;
 import com.grading.entity.GoalAssignment;
+import com.grading.service.ReferenceDataCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.transaction.AfterTransaction;
 
 import java.time.LocalDate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -19,6 +26,18 @@ public class GoalIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @AfterTransaction
+    void reloadReferenceData() {
+        // Rows created by a test are rolled back, so drop them from the shared cache as well
+        referenceDataCache.reload();
+    }
+
     @Test
     void testAssignGoal_ByHR_ShouldSucceed() throws Exception {
         Goal goal = createGoal("Improve Code Quality", 
@@ -159,6 +178,96 @@ public class GoalIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
 
+    @Test
+    void testGetGoalsByEmployeeId_ShouldReadInSingleStatement() throws Exception {
+        createGoalAssignment(createGoal("Goal 1", "Description", "Metric", "2024-H1"),
+                testEmployee, LocalDate.now().plusMonths(3), "in_progress");
+        createGoalAssignment(createGoal("Goal 2", "Description", "Metric", "2024-H1"),
+                testEmployee, LocalDate.now().plusMonths(3), "in_progress");
+
+        String token = getAuthHeader("testuser");
+        // First request warms the auth identity cache, so only the goal read is counted below
+        mockMvc.perform(get("/goals/employee/{employeeId}", testEmployee.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/goals/employee/{employeeId}", testEmployee.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employeeName").value("Test Employee"))
+                .andExpect(jsonPath("$.data[0].goalTitle").exists());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetGoalTemplatesByReviewPeriod_ShouldPageFromReferenceCache() throws Exception {
+        Goal first = createGoal("Template 1", "Description", "Metric", "2024-H1");
+        Goal second = createGoal("Template 2", "Description", "Metric", "2024-H1");
+        Goal third = createGoal("Template 3", "Description", "Metric", "2024-H1");
+        createGoal("Other period", "Description", "Metric", "2024-H2");
+        referenceDataCache.reload();
+
+        String token = getAuthHeader("testuser");
+        // First request warms the auth identity cache, so only template reads are counted below
+        mockMvc.perform(get("/grades")
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String firstPage = mockMvc.perform(get("/goal-templates/review-period/{reviewPeriod}", "2024-H1")
+                        .param("size", "2")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(third.getId()))
+                .andExpect(jsonPath("$.data[1].id").value(second.getId()))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/goal-templates/review-period/{reviewPeriod}", "2024-H1")
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetGoalProgress_ByDepartment_ShouldCountStatusesAndOverdue() throws Exception {
+        createGoalAssignment(createGoal("Goal 1", "Description", "Metric", "2024-H1"),
+                testEmployee, LocalDate.now().minusDays(1), "in_progress");
+        createGoalAssignment(createGoal("Goal 2", "Description", "Metric", "2024-H1"),
+                testEmployee, LocalDate.now().minusDays(1), "completed");
+        createGoalAssignment(createGoal("Goal 3", "Description", "Metric", "2024-H1"),
+                testTeamLeadEmployee, LocalDate.now().plusMonths(1), "in_progress");
+
+        mockMvc.perform(get("/goals/progress")
+                        .param("reviewPeriod", "2024-H1")
+                        .param("department", "Engineering")
+                        .header("Authorization", getAuthHeader("teamlead")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employeeId").value(testEmployee.getId()))
+                .andExpect(jsonPath("$.data[0].total").value(2))
+                .andExpect(jsonPath("$.data[0].completed").value(1))
+                .andExpect(jsonPath("$.data[0].inProgress").value(1))
+                .andExpect(jsonPath("$.data[0].overdue").value(1))
+                .andExpect(jsonPath("$.data[1].employeeId").value(testTeamLeadEmployee.getId()))
+                .andExpect(jsonPath("$.data[1].overdue").value(0));
+    }
+
     @Test
     void testGetMyGoals_ShouldReturnOwnGoals() throws Exception {
         Goal goal = createGoal("My Goal", "Description", "Metric", "2024-H1");
@@ -246,5 +355,41 @@ public class GoalIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.dueDate").exists()) 
                 .andExpect(jsonPath("$.data.status").value("in_progress")); 
     }
-}
 
+    @Test
+    void testBulkAssignGoal_ByDepartment_ShouldSkipExistingAssignments() throws Exception {
+        Goal goal = createGoal("Quarterly OKR", "Description", "Metric", "2024-H1");
+        createGoalAssignment(goal, testEmployee, LocalDate.now().plusMonths(3), "in_progress");
+
+        BulkAssignGoalRequest request = new BulkAssignGoalRequest();
+        request.setGoalId(goal.getId());
+        request.setDueDate(LocalDate.now().plusMonths(3));
+        request.setDepartment("Engineering");
+
+        mockMvc.perform(post("/goals/assign/bulk")
+                        .header("Authorization", getAuthHeader("hruser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.matchedCount").value(2))
+                .andExpect(jsonPath("$.data.assignedCount").value(1))
+                .andExpect(jsonPath("$.data.skippedCount").value(1));
+
+        assertEquals(1, goalAssignmentRepository.findResponsesByEmployeeId(testTeamLeadEmployee.getId()).size());
+    }
+
+    @Test
+    void testBulkAssignGoal_WithoutSelector_ShouldFail() throws Exception {
+        Goal goal = createGoal("Quarterly OKR", "Description", "Metric", "2024-H1");
+
+        BulkAssignGoalRequest request = new BulkAssignGoalRequest();
+        request.setGoalId(goal.getId());
+        request.setDueDate(LocalDate.now().plusMonths(3));
+
+        mockMvc.perform(post("/goals/assign/bulk")
+                        .header("Authorization", getAuthHeader("hruser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,15 +1,25 @@
 package com.grading.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grading.dto.request.ManagerEvaluationRequest;
 import com.grading.entity.Employee;
 import com.grading.entity.ManagerEvaluation;
+import com.grading.service.ExportService;
+import com.grading.util.CsvLineParser;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -18,6 +28,9 @@ public class ManagerEvaluationIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ExportService exportService;
+
     @Test
     void testCreateEvaluation_ByHR_ShouldSucceed() throws Exception {
         ManagerEvaluationRequest request = new ManagerEvaluationRequest();
@@ -236,5 +249,200 @@ public class ManagerEvaluationIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].nominatedForPromotion").value(true)); 
     }
-}
 
+    @Test
+    void testEvaluatorStats_ShouldFollowCreatesAndUpdates() throws Exception {
+        String token = getAuthHeader("hruser");
+        long updatedId = submitEvaluation(token, testEmployee, "60");
+        submitEvaluation(token, testTeamLeadEmployee, "80");
+        submitEvaluation(token, testHrEmployee, "70");
+
+        ManagerEvaluationRequest update = evaluationRequest(testEmployee, "50");
+        mockMvc.perform(put("/evaluations/{id}", updatedId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/evaluations/stats")
+                        .param("reviewPeriod", "2024-Q3")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].evaluatorId").value(testHrEmployee.getId()))
+                .andExpect(jsonPath("$.data[0].evaluationCount").value(3))
+                .andExpect(jsonPath("$.data[0].mean").value(66.67))
+                .andExpect(jsonPath("$.data[0].variance").value(155.56))
+                .andExpect(jsonPath("$.data[0].median").value(75.0))
+                .andExpect(jsonPath("$.data[0].scoreDistribution[5]").value(1))
+                .andExpect(jsonPath("$.data[0].scoreDistribution[6]").value(0))
+                .andExpect(jsonPath("$.data[0].scoreDistribution[8]").value(1));
+
+        // A single evaluator is normalized onto its own distribution, so scores stay where they were
+        mockMvc.perform(get("/evaluations/normalized")
+                        .param("reviewPeriod", "2024-Q3")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[1].employeeId").value(testTeamLeadEmployee.getId()))
+                .andExpect(jsonPath("$.data[1].zScore").value(1.069))
+                .andExpect(jsonPath("$.data[1].normalizedScore").value(80.0));
+
+        mockMvc.perform(get("/evaluations/stats")
+                        .param("reviewPeriod", "2024-Q3")
+                        .header("Authorization", getAuthHeader("testuser")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testBulkCreateEvaluations_ShouldReportPerItemResults() throws Exception {
+        ManagerEvaluationRequest missingComment = evaluationRequest(testTeamLeadEmployee, "75");
+        missingComment.setComment(null);
+        ManagerEvaluationRequest unknownEmployee = evaluationRequest(testEmployee, "65");
+        unknownEmployee.setEmployeeId(999999L);
+        List<ManagerEvaluationRequest> requests = List.of(
+                evaluationRequest(testEmployee, "85"), missingComment, unknownEmployee);
+
+        String token = getAuthHeader("hruser");
+
+        mockMvc.perform(post("/evaluations/bulk")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.submittedCount").value(3))
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(2))
+                .andExpect(jsonPath("$.data.results[0].evaluationId").isNumber())
+                .andExpect(jsonPath("$.data.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.data.results[1].error").value("comment: Comment is required"))
+                .andExpect(jsonPath("$.data.results[2].error").value("Employee not found with id: 999999"));
+
+        mockMvc.perform(get("/evaluations/employee/{employeeId}", testEmployee.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].score").value(85.0))
+                .andExpect(jsonPath("$.data[0].evaluatorId").value(testHrEmployee.getId()));
+
+        mockMvc.perform(get("/evaluations/stats")
+                        .param("reviewPeriod", "2024-Q3")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].evaluationCount").value(1))
+                .andExpect(jsonPath("$.data[0].scoreDistribution[8]").value(1));
+    }
+
+    @Test
+    void testExportEvaluations_ShouldStreamRowsAsNdjsonAndCsv() throws Exception {
+        String token = getAuthHeader("hruser");
+        long firstId = submitEvaluation(token, testEmployee, "85");
+        ManagerEvaluationRequest quoted = evaluationRequest(testTeamLeadEmployee, "70");
+        quoted.setComment("Good, but \"late\" twice");
+        mockMvc.perform(post("/evaluations")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(quoted)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/evaluations/export")
+                        .param("format", "csv")
+                        .header("Authorization", getAuthHeader("testuser")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/evaluations/export")
+                        .param("reviewPeriod", "2024-Q3")
+                        .header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+
+        // The streamed body runs on another thread, outside this test's uncommitted transaction
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long rows = exportService.exportEvaluations("2024-Q3", ExportService.Format.NDJSON, ndjson);
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(firstId, first.path("id").asLong());
+        assertEquals("Test Employee", first.path("employeeName").asText());
+        assertEquals("HR Employee", first.path("evaluatorName").asText());
+        assertEquals(85, first.path("score").asInt());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.exportEvaluations("2024-Q3", ExportService.Format.CSV, csv);
+        String[] records = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, records.length);
+        assertTrue(records[0].startsWith("id,employeeId,employeeName,"));
+        assertEquals("Good, but \"late\" twice", CsvLineParser.parse(records[2]).get(8));
+    }
+
+    @Test
+    void testCreateEvaluation_WithIdempotencyKey_ShouldReplayInsteadOfCreatingTwice() throws Exception {
+        String token = getAuthHeader("hruser");
+        String key = UUID.randomUUID().toString();
+        String request = objectMapper.writeValueAsString(evaluationRequest(testEmployee, "80"));
+
+        String first = mockMvc.perform(post("/evaluations")
+                        .header("Authorization", token)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String replayed = mockMvc.perform(post("/evaluations")
+                        .header("Authorization", token)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotency-Replayed", "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.readTree(first), objectMapper.readTree(replayed));
+        assertEquals(1, managerEvaluationRepository.findByEmployeeId(testEmployee.getId()).size());
+
+        mockMvc.perform(post("/evaluations")
+                        .header("Authorization", token)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(evaluationRequest(testEmployee, "90"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testCreateEvaluation_WithIdempotencyKeyAndOversizedBody_ShouldReturnPayloadTooLarge() throws Exception {
+        byte[] body = new byte[10 * 1024 * 1024 + 1];
+        Arrays.fill(body, (byte) ' ');
+
+        mockMvc.perform(post("/evaluations")
+                        .header("Authorization", getAuthHeader("hruser"))
+                        .header("Idempotency-Key", UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.success").value(false));
+        assertTrue(managerEvaluationRepository.findByEmployeeId(testEmployee.getId()).isEmpty());
+    }
+
+    private long submitEvaluation(String token, Employee employee, String score) throws Exception {
+        String body = mockMvc.perform(post("/evaluations")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(evaluationRequest(employee, score))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data").path("id").asLong();
+    }
+
+    private ManagerEvaluationRequest evaluationRequest(Employee employee, String score) {
+        ManagerEvaluationRequest request = new ManagerEvaluationRequest();
+        request.setEmployeeId(employee.getId());
+        request.setReviewPeriod("2024-Q3");
+        request.setScore(new BigDecimal(score));
+        request.setComment("Quarterly review");
+        request.setNominatedForPromotion(false);
+        return request;
+    }
+}
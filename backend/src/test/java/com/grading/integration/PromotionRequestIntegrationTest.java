@@ -2,11 +2,24 @@ package com.grading.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grading.dto.request.PromotionRequestRequest;
+import com.grading.entity.Calibration;
+import com.grading.entity.Employee;
+import com.grading.entity.GoalAssignment;
+import com.grading.entity.GradeHistory;
+import com.grading.entity.OutboxEvent;
 import com.grading.entity.PromotionRequest;
+import com.grading.repository.CalibrationRepository;
+import com.grading.repository.OutboxEventRepository;
+import com.grading.service.CalibrationService;
+import com.grading.service.OutboxService;
+import com.grading.service.impl.OutboxDispatcher;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -15,6 +28,18 @@ public class PromotionRequestIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private CalibrationRepository calibrationRepository;
+
+    @Autowired
+    private CalibrationService calibrationService;
+
     @Test
     void testCreatePromotionRequest_ByEmployee_ShouldSucceed() throws Exception {
         createManagerEvaluation(testHrEmployee, testEmployee, "2024-H1", 
@@ -156,6 +181,269 @@ public class PromotionRequestIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.status").value("under_review"));
     }
 
+    @Test
+    void testUpdatePromotionRequestStatus_WithoutComment_ShouldKeepHrComment() throws Exception {
+        // hr_comment is written only by status transitions, so the earlier note is set on insert
+        PromotionRequest request = new PromotionRequest();
+        request.setEmployee(testEmployee);
+        request.setRequestedGrade(testGrade2);
+        request.setSubmittedBy(testEmployee);
+        request.setStatusChangedBy(testHrEmployee);
+        request.setJustification("Justification");
+        request.setEvidence("Evidence");
+        request.setReviewPeriod("2024-H1");
+        request.setStatus("pending");
+        request.setHrComment("Earlier note");
+        promotionRequestRepository.saveAndFlush(request);
+
+        String token = getAuthHeader("hruser");
+
+        mockMvc.perform(put("/promotion-requests/{id}/status", request.getId())
+                        .header("Authorization", token)
+                        .param("status", "under_review"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("under_review"))
+                .andExpect(jsonPath("$.data.hrComment").value("Earlier note"))
+                .andExpect(jsonPath("$.data.version").value(1));
+
+        mockMvc.perform(put("/promotion-requests/{id}/status", request.getId())
+                        .header("Authorization", token)
+                        .param("status", "returned_for_revision")
+                        .param("comment", "Add evidence for the last quarter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("returned_for_revision"))
+                .andExpect(jsonPath("$.data.hrComment").value("Add evidence for the last quarter"))
+                .andExpect(jsonPath("$.data.version").value(2));
+    }
+
+    @Test
+    void testPromotionRequestTransitions_ShouldBumpVersionAndRejectStaleEdits() throws Exception {
+        PromotionRequest request = createPromotionRequest(
+                testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "pending");
+
+        String hrToken = getAuthHeader("hruser");
+        String employeeToken = getAuthHeader("testuser");
+
+        mockMvc.perform(put("/promotion-requests/{id}/status", request.getId())
+                        .header("Authorization", hrToken)
+                        .param("status", "approved"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/promotion-requests/{id}/status", request.getId())
+                        .header("Authorization", hrToken)
+                        .param("status", "returned_for_revision")
+                        .param("comment", "Add evidence"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("returned_for_revision"))
+                .andExpect(jsonPath("$.data.hrComment").value("Add evidence"))
+                .andExpect(jsonPath("$.data.version").value(1));
+
+        PromotionRequestRequest edit = new PromotionRequestRequest();
+        edit.setEmployeeId(testEmployee.getId());
+        edit.setRequestedGradeId(testGrade2.getId());
+        edit.setJustification("Revised justification");
+        edit.setEvidence("More evidence");
+        edit.setReviewPeriod("2024-H1");
+        edit.setVersion(0L);
+
+        mockMvc.perform(put("/promotion-requests/{id}", request.getId())
+                        .header("Authorization", employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(edit)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+
+        edit.setVersion(1L);
+        mockMvc.perform(put("/promotion-requests/{id}", request.getId())
+                        .header("Authorization", employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(edit)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("pending"))
+                .andExpect(jsonPath("$.data.hrComment").isEmpty())
+                .andExpect(jsonPath("$.data.justification").value("Revised justification"));
+    }
+
+    @Test
+    void testApprovePromotion_ShouldWriteGradeHistoryOnlyThroughOutbox() throws Exception {
+        createGradeHistory(testEmployee, testGrade1, testGrade1, testHrEmployee, "Initial grade");
+        PromotionRequest request = createPromotionRequest(
+                testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+
+        String token = getAuthHeader("hruser");
+        String decision = "{\"decision\":\"approved\",\"comment\":\"Well deserved\"}";
+
+        mockMvc.perform(post("/promotion-requests/{id}/decision", request.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(decision))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("approved"));
+
+        assertEquals(1, gradeHistoryRepository.countByEmployeeId(testEmployee.getId()));
+        List<OutboxEvent> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc(
+                OutboxService.PROMOTION_REQUEST, request.getId());
+        assertEquals(1, events.size());
+        assertEquals(OutboxService.PROMOTION_REQUEST_DECIDED, events.get(0).getEventType());
+        assertEquals("pending", events.get(0).getStatus());
+
+        outboxDispatcher.dispatch(events.get(0));
+
+        assertEquals(2, gradeHistoryRepository.countByEmployeeId(testEmployee.getId()));
+        GradeHistory latest = gradeHistoryRepository.findTopByEmployeeIdOrderByChangedAtDesc(testEmployee.getId()).orElseThrow();
+        assertEquals(testGrade1.getId(), latest.getOldGrade().getId());
+        assertEquals(testGrade2.getId(), latest.getNewGrade().getId());
+
+        mockMvc.perform(post("/promotion-requests/{id}/decision", request.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(decision))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCompleteCalibration_ShouldMoveRequestsAndWriteStatusChangeEvents() {
+        Calibration calibration = new Calibration();
+        calibration.setGrade(testGrade2);
+        calibration.setCreatedBy(testHrEmployee);
+        calibration.setStatus("active");
+        calibration = calibrationRepository.save(calibration);
+        PromotionRequest first = createCalibratedRequest(testEmployee, calibration);
+        PromotionRequest second = createCalibratedRequest(testTeamLeadEmployee, calibration);
+
+        assertEquals("completed", calibrationService.updateCalibrationStatus(calibration.getId(), "completed").getStatus());
+
+        for (PromotionRequest request : List.of(first, second)) {
+            PromotionRequest reloaded = promotionRequestRepository.findById(request.getId()).orElseThrow();
+            assertEquals("calibration_completed", reloaded.getStatus());
+            assertEquals(1L, reloaded.getVersion());
+            assertEquals(testHrEmployee.getId(), reloaded.getStatusChangedBy().getId());
+
+            List<OutboxEvent> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc(
+                    OutboxService.PROMOTION_REQUEST, request.getId());
+            assertEquals(1, events.size());
+            assertEquals(OutboxService.PROMOTION_REQUEST_STATUS_CHANGED, events.get(0).getEventType());
+        }
+        assertEquals(1, outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc(
+                OutboxService.CALIBRATION, calibration.getId()).size());
+    }
+
+    @Test
+    void testBulkDecisions_ShouldReportResultsPerItem() throws Exception {
+        PromotionRequest approved = createPromotionRequest(
+                testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+        PromotionRequest rejected = createPromotionRequest(
+                testTeamLeadEmployee, testGrade3, testTeamLeadEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+        PromotionRequest pending = createPromotionRequest(
+                testEmployee, testGrade3, testEmployee, testEmployee,
+                "Justification", "Evidence", "2024-H1", "pending");
+
+        String token = getAuthHeader("hruser");
+        String decisions = "[" +
+                "{\"promotionRequestId\":" + approved.getId() + ",\"decision\":\"approved\",\"comment\":\"Well deserved\"}," +
+                "{\"promotionRequestId\":" + rejected.getId() + ",\"decision\":\"rejected\"}," +
+                "{\"promotionRequestId\":" + pending.getId() + ",\"decision\":\"approved\"}," +
+                "{\"promotionRequestId\":" + approved.getId() + ",\"decision\":\"rejected\"}," +
+                "{\"promotionRequestId\":999999,\"decision\":\"approved\"}," +
+                "{\"promotionRequestId\":" + rejected.getId() + ",\"decision\":\"maybe\"}]";
+
+        mockMvc.perform(post("/promotion-requests/decisions")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(decisions))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.submittedCount").value(6))
+                .andExpect(jsonPath("$.data.approvedCount").value(1))
+                .andExpect(jsonPath("$.data.rejectedCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(4))
+                .andExpect(jsonPath("$.data.results[0].status").value("approved"))
+                .andExpect(jsonPath("$.data.results[1].status").value("rejected"))
+                .andExpect(jsonPath("$.data.results[2].error").exists())
+                .andExpect(jsonPath("$.data.results[3].error").exists())
+                .andExpect(jsonPath("$.data.results[4].error").exists())
+                .andExpect(jsonPath("$.data.results[5].error").exists());
+
+        List<OutboxEvent> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc(
+                OutboxService.PROMOTION_REQUEST, approved.getId());
+        assertEquals(1, events.size());
+        assertEquals(OutboxService.PROMOTION_REQUEST_DECIDED, events.get(0).getEventType());
+        assertEquals(1, outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc(
+                OutboxService.PROMOTION_REQUEST, rejected.getId()).size());
+
+        outboxDispatcher.dispatch(events.get(0));
+        GradeHistory latest = gradeHistoryRepository.findTopByEmployeeIdOrderByChangedAtDesc(testEmployee.getId()).orElseThrow();
+        assertEquals(testGrade2.getId(), latest.getNewGrade().getId());
+
+        // Already decided: the compare-and-set finds nothing to update
+        mockMvc.perform(post("/promotion-requests/decisions")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"promotionRequestId\":" + approved.getId() + ",\"decision\":\"approved\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.approvedCount").value(0))
+                .andExpect(jsonPath("$.data.failedCount").value(1));
+
+        mockMvc.perform(post("/promotion-requests/decisions")
+                        .header("Authorization", getAuthHeader("testuser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(decisions))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testBulkDecisions_ThenDrainOutbox_ShouldWriteOneGradeHistoryRowPerApproval() throws Exception {
+        Employee rejectedEmployee = createEmployee(createUser("rejecteduser", "password123"),
+                "Rejected Employee", "rejected@example.com", "employee", "Engineering", "2024-H1");
+        PromotionRequest first = createPromotionRequest(
+                testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+        PromotionRequest second = createPromotionRequest(
+                testTeamLeadEmployee, testGrade3, testTeamLeadEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+        PromotionRequest rejected = createPromotionRequest(
+                rejectedEmployee, testGrade2, rejectedEmployee, testHrEmployee,
+                "Justification", "Evidence", "2024-H1", "calibration_completed");
+
+        String decisions = "[" +
+                "{\"promotionRequestId\":" + first.getId() + ",\"decision\":\"approved\"}," +
+                "{\"promotionRequestId\":" + second.getId() + ",\"decision\":\"approved\"}," +
+                "{\"promotionRequestId\":" + rejected.getId() + ",\"decision\":\"rejected\"}]";
+        mockMvc.perform(post("/promotion-requests/decisions")
+                        .header("Authorization", getAuthHeader("hruser"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(decisions))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.approvedCount").value(2))
+                .andExpect(jsonPath("$.data.rejectedCount").value(1));
+
+        // Nothing is written until the outbox is drained
+        assertEquals(0, gradeHistoryRepository.countByEmployeeId(testEmployee.getId()));
+        assertEquals(0, gradeHistoryRepository.countByEmployeeId(testTeamLeadEmployee.getId()));
+
+        int processed = 0;
+        int batch;
+        while ((batch = outboxDispatcher.processBatch(100)) > 0) {
+            processed += batch;
+        }
+        assertEquals(3, processed);
+
+        List<GradeHistory> firstHistory = gradeHistoryRepository.findByEmployeeIdOrderByChangedAtDesc(testEmployee.getId());
+        assertEquals(1, firstHistory.size());
+        assertEquals(testGrade2.getId(), firstHistory.get(0).getNewGrade().getId());
+        List<GradeHistory> secondHistory = gradeHistoryRepository.findByEmployeeIdOrderByChangedAtDesc(testTeamLeadEmployee.getId());
+        assertEquals(1, secondHistory.size());
+        assertEquals(testGrade3.getId(), secondHistory.get(0).getNewGrade().getId());
+        assertEquals(0, gradeHistoryRepository.countByEmployeeId(rejectedEmployee.getId()));
+
+        // Processed events are not handed out again
+        assertEquals(0, outboxDispatcher.processBatch(100));
+        assertEquals(1, gradeHistoryRepository.countByEmployeeId(testEmployee.getId()));
+    }
+
     @Test
     void testGetPromotionRequest_ByEmployee_ShouldReturnOwnRequest() throws Exception {
         PromotionRequest request = createPromotionRequest(
@@ -174,6 +462,52 @@ public class PromotionRequestIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.evidence").value("Evidence")); 
     }
 
+    @Test
+    void testGetDossier_ShouldReturnRequestWithGoalsEvaluationsAndHistory() throws Exception {
+        createGradeHistory(testEmployee, testGrade1, testGrade1, testHrEmployee, "Initial grade");
+        createManagerEvaluation(testHrEmployee, testEmployee, "2024-H1",
+                new java.math.BigDecimal("4.5"), "Good performance", true);
+        GoalAssignment goal = createGoalAssignment(
+                createGoal("Ship feature", "Deliver the feature", "Released", "2024-H1"),
+                testEmployee, java.time.LocalDate.now().plusDays(30), "completed");
+        PromotionRequest request = createPromotionRequest(
+                testEmployee, testGrade2, testEmployee, testEmployee,
+                "Justification", "Evidence", "2024-H1", "pending");
+
+        String token = getAuthHeader("testuser");
+        mockMvc.perform(post("/promotion-requests/{id}/goals", request.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + goal.getId() + "]"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/promotion-requests/{id}/dossier", request.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.request.id").value(request.getId()))
+                .andExpect(jsonPath("$.data.request.requestedGradeName").value(testGrade2.getName()))
+                .andExpect(jsonPath("$.data.goals.length()").value(1))
+                .andExpect(jsonPath("$.data.goals[0].goalTitle").value("Ship feature"))
+                .andExpect(jsonPath("$.data.files.length()").value(0))
+                .andExpect(jsonPath("$.data.latestEvaluations.length()").value(1))
+                .andExpect(jsonPath("$.data.latestEvaluations[0].comment").value("Good performance"))
+                .andExpect(jsonPath("$.data.gradeHistory.length()").value(1))
+                .andExpect(jsonPath("$.data.gradeHistory[0].newGradeName").value(testGrade1.getName()))
+                .andExpect(jsonPath("$.data.calibration").isEmpty());
+
+        mockMvc.perform(get("/promotion-requests/{id}/goals", request.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(goal.getId()));
+
+        PromotionRequest otherRequest = createPromotionRequest(
+                testTeamLeadEmployee, testGrade3, testTeamLeadEmployee, testTeamLeadEmployee,
+                "Justification", "Evidence", "2024-H1", "pending");
+        mockMvc.perform(get("/promotion-requests/{id}/dossier", otherRequest.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void testGetPromotionRequestsByEmployee_ShouldReturnList() throws Exception {
         createPromotionRequest(testEmployee, testGrade2, testEmployee, testHrEmployee,
@@ -210,6 +544,105 @@ public class PromotionRequestIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
 
+    @Test
+    void testGetAllPromotionRequests_WithPageSize_ShouldFollowCursor() throws Exception {
+        PromotionRequest first = createPromotionRequest(testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Request 1", "Evidence 1", "2024-H1", "pending");
+        PromotionRequest second = createPromotionRequest(testTeamLeadEmployee, testGrade3, testTeamLeadEmployee, testHrEmployee,
+                "Request 2", "Evidence 2", "2024-H1", "pending");
+
+        String token = getAuthHeader("hruser");
+
+        String firstPage = mockMvc.perform(get("/promotion-requests")
+                        .param("size", "1")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/promotion-requests")
+                        .param("size", "1")
+                        .param("cursor", cursor)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testSearchPromotionRequests_ShouldCombineFiltersAndFollowCursor() throws Exception {
+        PromotionRequest first = createPromotionRequest(testEmployee, testGrade2, testEmployee, testHrEmployee,
+                "Request 1", "Evidence 1", "2024-H1", "pending");
+        PromotionRequest second = createPromotionRequest(testTeamLeadEmployee, testGrade3, testTeamLeadEmployee, testHrEmployee,
+                "Request 2", "Evidence 2", "2024-H1", "under_review");
+        createPromotionRequest(testEmployee, testGrade3, testEmployee, testHrEmployee,
+                "Request 3", "Evidence 3", "2024-H1", "rejected");
+        createPromotionRequest(testTeamLeadEmployee, testGrade2, testTeamLeadEmployee, testHrEmployee,
+                "Request 4", "Evidence 4", "2024-H2", "pending");
+
+        String token = getAuthHeader("hruser");
+
+        String firstPage = mockMvc.perform(get("/promotion-requests/search")
+                        .param("status", "pending", "under_review")
+                        .param("reviewPeriod", "2024-H1")
+                        .param("department", "Engineering")
+                        .param("size", "1")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.data[0].requestedGradeName").value(testGrade3.getName()))
+                .andExpect(jsonPath("$.data[0].justification").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/promotion-requests/search")
+                        .param("status", "pending", "under_review")
+                        .param("reviewPeriod", "2024-H1")
+                        .param("department", "Engineering")
+                        .param("size", "1")
+                        .param("cursor", cursor)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/promotion-requests/search")
+                        .param("requestedGradeId", String.valueOf(testGrade3.getId()))
+                        .param("submittedById", String.valueOf(testEmployee.getId()))
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].status").value("rejected"));
+
+        mockMvc.perform(get("/promotion-requests/search")
+                        .param("status", "unknown")
+                        .header("Authorization", token))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/promotion-requests/search")
+                        .header("Authorization", getAuthHeader("testuser")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testGetAllPromotionRequests_WithInvalidCursor_ShouldFail() throws Exception {
+        String token = getAuthHeader("hruser");
+
+        mockMvc.perform(get("/promotion-requests")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", token))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAllPromotionRequests_ByEmployee_ShouldFail() throws Exception {
         String token = getAuthHeader("testuser");
@@ -228,5 +661,18 @@ public class PromotionRequestIntegrationTest extends BaseIntegrationTest {
             return 1L;
         }
     }
-}
 
+    private PromotionRequest createCalibratedRequest(Employee employee, Calibration calibration) {
+        PromotionRequest request = new PromotionRequest();
+        request.setEmployee(employee);
+        request.setRequestedGrade(testGrade2);
+        request.setSubmittedBy(employee);
+        request.setStatusChangedBy(testHrEmployee);
+        request.setJustification("Justification");
+        request.setEvidence("Evidence");
+        request.setReviewPeriod("2024-H1");
+        request.setStatus("in_calibration");
+        request.setCalibration(calibration);
+        return promotionRequestRepository.save(request);
+    }
+}
@@ -0,0 +1,43 @@
+package com.grading.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.heavy-read.capacity=2",
+        "rate-limit.heavy-read.refill-period=1h"
+})
+public class RateLimitIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    void testHeavyRead_OverLimit_ShouldReturnTooManyRequests() throws Exception {
+        String token = getAuthHeader("hruser");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/promotion-requests")
+                            .header("Authorization", token))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/promotion-requests")
+                        .header("Authorization", token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testLightRead_ShouldNotBeLimited() throws Exception {
+        String token = getAuthHeader("testuser");
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/grades")
+                            .header("Authorization", token))
+                    .andExpect(status().isOk());
+        }
+    }
+}
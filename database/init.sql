@@ -1,6 +1,9 @@
 -- Create schema
 CREATE SCHEMA IF NOT EXISTS grading2;
 
+-- Trigram matching for employee search
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
 -- Set search path
 SET search_path TO grading2;
 
@@ -9,6 +12,7 @@ CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
     username TEXT UNIQUE NOT NULL,
     password_hash TEXT NOT NULL,
+    token_version INT NOT NULL DEFAULT 0,
     created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
@@ -27,6 +31,24 @@ CREATE TABLE employees (
     updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Revoked access tokens (by JWT id), kept until the token would have expired anyway
+CREATE TABLE revoked_tokens (
+    jti TEXT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Refresh tokens (SHA-256 of the opaque token; rotated on every use)
+CREATE TABLE refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    token_hash TEXT UNIQUE NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Grades table
 CREATE TABLE grades (
     id BIGSERIAL PRIMARY KEY,
@@ -34,6 +56,18 @@ CREATE TABLE grades (
     description TEXT NOT NULL
 );
 
+-- Goal templates table
+CREATE TABLE goals (
+    id BIGSERIAL PRIMARY KEY,
+    title TEXT NOT NULL,
+    description TEXT NOT NULL,
+    metric TEXT NOT NULL,
+    review_period TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Goal assignments table
 CREATE TABLE goal_assignments (
     id BIGSERIAL PRIMARY KEY,
     goal_id BIGINT NOT NULL REFERENCES goals(id),
@@ -80,7 +114,8 @@ CREATE TABLE promotion_requests (
     review_period TEXT NOT NULL,
     status TEXT NOT NULL,
     hr_comment TEXT,
-    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Promotion request reviewers table
@@ -104,6 +139,28 @@ CREATE TABLE grade_history (
     changed_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Employee profile read model, maintained alongside grade_history and manager_evaluations writes
+CREATE TABLE employee_profile_snapshot (
+    employee_id BIGINT PRIMARY KEY REFERENCES employees(id) ON DELETE CASCADE,
+    current_grade_id BIGINT REFERENCES grades(id),
+    grade_changes_count INTEGER NOT NULL DEFAULT 0,
+    last_evaluation_id BIGINT,
+    last_score NUMERIC,
+    last_review_date TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Running sums of evaluation scores per review period, evaluator and ten-point score range
+CREATE TABLE evaluator_score_buckets (
+    review_period TEXT NOT NULL,
+    evaluator_id BIGINT NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    bucket SMALLINT NOT NULL CHECK (bucket BETWEEN 0 AND 9),
+    evaluation_count BIGINT NOT NULL DEFAULT 0,
+    score_sum NUMERIC NOT NULL DEFAULT 0,
+    score_sum_squares NUMERIC NOT NULL DEFAULT 0,
+    PRIMARY KEY (review_period, evaluator_id, bucket)
+);
+
 -- Comparisons table
 CREATE TABLE comparisons (
     id BIGSERIAL PRIMARY KEY,
@@ -156,37 +213,77 @@ CREATE INDEX idx_calibration_evaluators_evaluator ON grading2.calibration_evalua
 CREATE INDEX idx_pr_goals_pr ON grading2.promotion_request_goals(promotion_request_id);
 CREATE INDEX idx_pr_goals_goal ON grading2.promotion_request_goals(goal_assignment_id);
 CREATE INDEX idx_pr_files_pr ON grading2.promotion_request_files(promotion_request_id);
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens(user_id) WHERE revoked_at IS NULL;
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
 
--- Triggers
-CREATE OR REPLACE FUNCTION create_grade_history_on_approval()
-RETURNS TRIGGER AS $$
-DECLARE
-    current_grade_id BIGINT;
-BEGIN
-    IF NEW.status = 'approved' AND OLD.status != 'approved' THEN
-        SELECT new_grade_id INTO current_grade_id
-        FROM grading2.grade_history
-        WHERE employee_id = NEW.employee_id
-        ORDER BY changed_at DESC
-        LIMIT 1;
-        
-        INSERT INTO grading2.grade_history (employee_id, old_grade_id, new_grade_id, changed_by, reason)
-        VALUES (
-            NEW.employee_id,
-            current_grade_id,
-            NEW.requested_grade_id,
-            NEW.status_changed_by_id,
-            'Promotion request approved: ' || NEW.id
-        );
-    END IF;
-    RETURN NEW;
-END;
-$$ LANGUAGE plpgsql;
+-- Keyset pagination: (created_at, id) in list order, optionally behind the filter column
+CREATE INDEX idx_employees_created_id ON employees(created_at DESC, id DESC);
+CREATE INDEX idx_employees_department_created_id ON employees(department, created_at DESC, id DESC);
+CREATE INDEX idx_pr_created_id ON promotion_requests(created_at DESC, id DESC);
+CREATE INDEX idx_pr_status_created_id ON promotion_requests(status, created_at DESC, id DESC);
+CREATE INDEX idx_manager_eval_created_id ON manager_evaluations(created_at DESC, id DESC);
+CREATE INDEX idx_manager_eval_period_created_id ON manager_evaluations(review_period, created_at DESC, id DESC);
+CREATE INDEX idx_goal_assignments_created_id ON goal_assignments(created_at DESC, id DESC);
+CREATE INDEX idx_goals_created_id ON goals(created_at DESC, id DESC);
+CREATE INDEX idx_goals_period_created_id ON goals(review_period, created_at DESC, id DESC);
+CREATE INDEX idx_calibrations_status_created_id ON calibrations(status, created_at DESC, id DESC);
+
+-- Promotion request search: filter columns first, then the keyset sort key
+CREATE INDEX idx_pr_period_status_created_id ON promotion_requests(review_period, status, created_at DESC, id DESC);
+CREATE INDEX idx_pr_grade_status_created_id ON promotion_requests(requested_grade_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_pr_submitted_by_created_id ON promotion_requests(submitted_by_id, created_at DESC, id DESC);
+CREATE INDEX idx_pr_active_created_id ON promotion_requests(created_at DESC, id DESC)
+WHERE status IN ('pending', 'under_review', 'ready_for_calibration', 'in_calibration');
+
+-- Employee search: prefix and trigram similarity on name, email and department
+CREATE INDEX idx_employees_full_name_trgm ON employees USING gin (full_name public.gin_trgm_ops);
+CREATE INDEX idx_employees_email_trgm ON employees USING gin (email public.gin_trgm_ops);
+CREATE INDEX idx_employees_department_trgm ON employees USING gin (department public.gin_trgm_ops);
+
+-- Bulk goal assignment skips employees who already have the goal
+CREATE INDEX idx_goal_assignments_goal_employee ON goal_assignments(goal_id, employee_id);
+
+-- Overdue sweep and open-goal reads; completed assignments (the bulk over time) are left out
+CREATE INDEX idx_goal_assignments_open_status_due ON goal_assignments(status, due_date) WHERE status <> 'completed';
+
+-- Transactional outbox, drained by the application's outbox poller
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type TEXT NOT NULL,
+    aggregate_type TEXT NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'pending',
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMPTZ
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events(available_at, id) WHERE status = 'pending';
+CREATE INDEX idx_outbox_events_processed_at ON outbox_events(processed_at) WHERE status = 'processed';
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events(aggregate_type, aggregate_id);
 
-CREATE TRIGGER trg_promotion_approved
-AFTER UPDATE ON promotion_requests
-FOR EACH ROW EXECUTE FUNCTION create_grade_history_on_approval();
+CREATE TABLE idempotency_keys (
+    id BIGSERIAL PRIMARY KEY,
+    owner TEXT NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'in_progress',
+    response_status INT,
+    response_content_type TEXT,
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_idempotency_keys_owner_key UNIQUE (owner, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
 
+-- Triggers
 CREATE OR REPLACE FUNCTION prevent_duplicate_promotion_request()
 RETURNS TRIGGER AS $$
 BEGIN
@@ -230,24 +327,6 @@ CREATE TRIGGER trg_validate_calibration_activation
 BEFORE UPDATE ON calibrations
 FOR EACH ROW EXECUTE FUNCTION check_calibration_candidates();
 
--- Update promotion requests status when calibration is completed
-CREATE OR REPLACE FUNCTION grading2.update_promotion_requests_on_calibration_complete()
-RETURNS TRIGGER AS $$
-BEGIN
-    IF NEW.status = 'completed' AND OLD.status != 'completed' THEN
-        UPDATE grading2.promotion_requests
-        SET status = 'calibration_completed'
-        WHERE calibration_id = NEW.id
-          AND status = 'in_calibration';
-    END IF;
-    RETURN NEW;
-END;
-$$ LANGUAGE plpgsql;
-
-CREATE TRIGGER trg_update_pr_on_calibration_complete
-AFTER UPDATE ON grading2.calibrations
-FOR EACH ROW EXECUTE FUNCTION grading2.update_promotion_requests_on_calibration_complete();
-
 -- Insert initial grades
 INSERT INTO grades (name, description) VALUES
     ('Junior', 'Entry level position'),
@@ -0,0 +1,8 @@
+-- Migration: Add token version to users
+-- Date: 2026-10-17
+-- Description: JWTs now carry user/employee/role claims and a "ver" claim. Incrementing
+--              users.token_version invalidates every token issued to the user before the change
+--              (role changes, revocation) without a per-request lookup of users/employees.
+
+ALTER TABLE grading2.users
+    ADD COLUMN IF NOT EXISTS token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+-- Migration: Add token revocation and refresh tokens
+-- Date: 2026-10-17
+-- Description: Access tokens now carry a "jti". Logout records it in revoked_tokens, which the
+--              application mirrors into an in-memory Bloom filter. Refresh tokens are stored as
+--              SHA-256 digests and rotated on every use. Expired rows are purged by the application.
+
+CREATE TABLE IF NOT EXISTS grading2.revoked_tokens (
+    jti TEXT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES grading2.users(id),
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS grading2.refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES grading2.users(id),
+    token_hash TEXT UNIQUE NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON grading2.revoked_tokens(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON grading2.revoked_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON grading2.refresh_tokens(user_id) WHERE revoked_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON grading2.refresh_tokens(expires_at);
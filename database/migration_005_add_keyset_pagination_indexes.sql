@@ -0,0 +1,16 @@
+-- Migration: Add keyset pagination indexes
+-- Date: 2026-10-17
+-- Description: List endpoints now page on (created_at, id) in descending order instead of returning
+--              whole tables. Each index matches one list query: the optional filter column first,
+--              then the sort key, so a page is a bounded index range scan.
+
+CREATE INDEX IF NOT EXISTS idx_employees_created_id ON grading2.employees(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_employees_department_created_id ON grading2.employees(department, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pr_created_id ON grading2.promotion_requests(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pr_status_created_id ON grading2.promotion_requests(status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_manager_eval_created_id ON grading2.manager_evaluations(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_manager_eval_period_created_id ON grading2.manager_evaluations(review_period, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_goal_assignments_created_id ON grading2.goal_assignments(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_goals_created_id ON grading2.goals(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_goals_period_created_id ON grading2.goals(review_period, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_calibrations_status_created_id ON grading2.calibrations(status, created_at DESC, id DESC);
@@ -0,0 +1,41 @@
+-- Migration: Add employee profile snapshot
+-- Date: 2026-10-17
+-- Description: Profile reads used to run four queries (employee, latest grade, latest evaluation and
+--              the whole grade history just to count it). The snapshot keeps current grade, change
+--              count and latest evaluation per employee and is updated by the application in the
+--              same transaction as grade_history and manager_evaluations writes. Backfilled below.
+
+CREATE TABLE IF NOT EXISTS grading2.employee_profile_snapshot (
+    employee_id BIGINT PRIMARY KEY REFERENCES grading2.employees(id) ON DELETE CASCADE,
+    current_grade_id BIGINT REFERENCES grading2.grades(id),
+    grade_changes_count INTEGER NOT NULL DEFAULT 0,
+    last_evaluation_id BIGINT,
+    last_score NUMERIC,
+    last_review_date TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO grading2.employee_profile_snapshot
+    (employee_id, current_grade_id, grade_changes_count, last_evaluation_id, last_score, last_review_date)
+SELECT e.id,
+       latest_grade.new_grade_id,
+       (SELECT COUNT(*) FROM grading2.grade_history gh WHERE gh.employee_id = e.id),
+       latest_eval.id,
+       latest_eval.score,
+       latest_eval.created_at
+FROM grading2.employees e
+LEFT JOIN LATERAL (
+    SELECT gh.new_grade_id
+    FROM grading2.grade_history gh
+    WHERE gh.employee_id = e.id
+    ORDER BY gh.changed_at DESC
+    LIMIT 1
+) latest_grade ON TRUE
+LEFT JOIN LATERAL (
+    SELECT me.id, me.score, me.created_at
+    FROM grading2.manager_evaluations me
+    WHERE me.employee_id = e.id
+    ORDER BY me.created_at DESC
+    LIMIT 1
+) latest_eval ON TRUE
+ON CONFLICT (employee_id) DO NOTHING;
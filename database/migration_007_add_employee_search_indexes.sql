@@ -0,0 +1,12 @@
+-- Migration: Add employee search indexes
+-- Date: 2026-10-17
+-- Description: GET /employees/search matches full_name, email and department by prefix (ILIKE) and
+--              by trigram similarity (% operator) for typo tolerance. GIN trigram indexes serve both
+--              kinds of predicate. The extension lives in public so its functions and operators
+--              resolve with the application's default search_path.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS idx_employees_full_name_trgm ON grading2.employees USING gin (full_name public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_email_trgm ON grading2.employees USING gin (email public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_department_trgm ON grading2.employees USING gin (department public.gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Migration: Add goal assignment lookup index
+-- Date: 2026-10-17
+-- Description: POST /goals/assign/bulk inserts assignments with one INSERT ... SELECT and skips
+--              employees that already have the goal via NOT EXISTS on (goal_id, employee_id).
+--              This index keeps that anti-join an index probe per employee.
+
+CREATE INDEX IF NOT EXISTS idx_goal_assignments_goal_employee ON grading2.goal_assignments(goal_id, employee_id);
@@ -0,0 +1,10 @@
+-- Migration: Add goal overdue sweep index
+-- Date: 2026-10-17
+-- Description: A scheduled job moves in-progress goal assignments past their due date to the
+--              'overdue' status in small chunks (UPDATE ... WHERE id IN (SELECT ... LIMIT n
+--              FOR UPDATE SKIP LOCKED)). The partial index lets each chunk find its rows with a
+--              range scan on (status, due_date) and leaves completed assignments out of the index.
+
+CREATE INDEX IF NOT EXISTS idx_goal_assignments_open_status_due
+    ON grading2.goal_assignments(status, due_date)
+    WHERE status <> 'completed';
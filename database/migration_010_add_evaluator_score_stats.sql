@@ -0,0 +1,30 @@
+-- Migration: Add evaluator score statistics
+-- Date: 2026-10-17
+-- Description: Per-evaluator score statistics (mean, variance, percentiles) and z-score
+--              normalization used to load every evaluation of a period into the application.
+--              evaluator_score_buckets keeps count, sum and sum of squares of scores per
+--              (review period, evaluator, ten-point score range); the application applies deltas
+--              in the same transaction as manager_evaluations writes. Backfilled below; the bucket
+--              expression must match EvaluatorScoreStatsServiceImpl.bucketOf.
+
+CREATE TABLE IF NOT EXISTS grading2.evaluator_score_buckets (
+    review_period TEXT NOT NULL,
+    evaluator_id BIGINT NOT NULL REFERENCES grading2.employees(id) ON DELETE CASCADE,
+    bucket SMALLINT NOT NULL CHECK (bucket BETWEEN 0 AND 9),
+    evaluation_count BIGINT NOT NULL DEFAULT 0,
+    score_sum NUMERIC NOT NULL DEFAULT 0,
+    score_sum_squares NUMERIC NOT NULL DEFAULT 0,
+    PRIMARY KEY (review_period, evaluator_id, bucket)
+);
+
+INSERT INTO grading2.evaluator_score_buckets
+    (review_period, evaluator_id, bucket, evaluation_count, score_sum, score_sum_squares)
+SELECT me.review_period,
+       me.evaluator_id,
+       LEAST(GREATEST(FLOOR(me.score / 10), 0), 9)::SMALLINT,
+       COUNT(*),
+       SUM(me.score),
+       SUM(me.score * me.score)
+FROM grading2.manager_evaluations me
+GROUP BY me.review_period, me.evaluator_id, LEAST(GREATEST(FLOOR(me.score / 10), 0), 9)
+ON CONFLICT (review_period, evaluator_id, bucket) DO NOTHING;
@@ -0,0 +1,21 @@
+-- Migration: Add optimistic locking to promotion requests
+-- Date: 2026-10-17
+-- Description: Version column for promotion_requests. Edits are version-checked and every status
+--              change (conditional UPDATE ... WHERE status = :from) bumps it; the calibration
+--              completion trigger bumps it as well so stale edits cannot follow its status change.
+
+ALTER TABLE grading2.promotion_requests ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION grading2.update_promotion_requests_on_calibration_complete()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.status = 'completed' AND OLD.status != 'completed' THEN
+        UPDATE grading2.promotion_requests
+        SET status = 'calibration_completed',
+            version = version + 1
+        WHERE calibration_id = NEW.id
+          AND status = 'in_calibration';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
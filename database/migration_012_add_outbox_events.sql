@@ -0,0 +1,30 @@
+-- Migration: Add transactional outbox
+-- Date: 2026-10-17
+-- Description: Promotion decisions, status changes and calibration completions are written to
+--              outbox_events in the same transaction and handled asynchronously by the outbox
+--              poller (FOR UPDATE SKIP LOCKED, safe with several nodes). Grade history for approved
+--              requests is now written only by its outbox handler, so the approval trigger that
+--              inserted a second row is dropped.
+
+CREATE TABLE IF NOT EXISTS grading2.outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type TEXT NOT NULL,
+    aggregate_type TEXT NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'pending',
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMPTZ
+);
+
+-- Poller claim: due pending events in id order; processed rows (the bulk over time) are left out
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON grading2.outbox_events(available_at, id) WHERE status = 'pending';
+-- Retention purge
+CREATE INDEX IF NOT EXISTS idx_outbox_events_processed_at ON grading2.outbox_events(processed_at) WHERE status = 'processed';
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate ON grading2.outbox_events(aggregate_type, aggregate_id);
+
+DROP TRIGGER IF EXISTS trg_promotion_approved ON grading2.promotion_requests;
+DROP FUNCTION IF EXISTS grading2.create_grade_history_on_approval();
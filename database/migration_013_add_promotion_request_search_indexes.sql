@@ -0,0 +1,19 @@
+-- Migration: Add promotion request search indexes
+-- Date: 2026-10-17
+-- Description: GET /promotion-requests/search filters by any combination of status, review period,
+--              requested grade, department, submitter, calibration and creation time, and pages on
+--              (created_at, id) in descending order. These indexes cover the common combinations
+--              with the filter columns first and the sort key last, so a page is a bounded range
+--              scan. The partial index serves the default HR view of open requests. Status alone
+--              and department are covered by idx_pr_status_created_id and
+--              idx_employees_department_created_id; calibration by idx_pr_calibration_status.
+
+CREATE INDEX IF NOT EXISTS idx_pr_period_status_created_id
+    ON grading2.promotion_requests(review_period, status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pr_grade_status_created_id
+    ON grading2.promotion_requests(requested_grade_id, status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pr_submitted_by_created_id
+    ON grading2.promotion_requests(submitted_by_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pr_active_created_id
+    ON grading2.promotion_requests(created_at DESC, id DESC)
+    WHERE status IN ('pending', 'under_review', 'ready_for_calibration', 'in_calibration');
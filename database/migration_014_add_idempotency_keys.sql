@@ -0,0 +1,23 @@
+-- Migration: Add idempotency keys
+-- Date: 2026-10-17
+-- Description: POST /promotion-requests, /promotion-requests/{id}/files, /comparisons,
+--              /evaluations and /evaluations/bulk accept an Idempotency-Key header. Each key is
+--              stored per caller with a hash of the request and, once the request finished, its
+--              response, which is replayed to retries until expires_at. Expired keys are deleted
+--              in batches by the application.
+
+CREATE TABLE IF NOT EXISTS grading2.idempotency_keys (
+    id BIGSERIAL PRIMARY KEY,
+    owner TEXT NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'in_progress',
+    response_status INT,
+    response_content_type TEXT,
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_idempotency_keys_owner_key UNIQUE (owner, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON grading2.idempotency_keys(expires_at);
@@ -0,0 +1,9 @@
+-- Migration: Move calibration completion out of the database trigger
+-- Date: 2026-10-17
+-- Description: Completing a calibration now moves its promotion requests to 'calibration_completed'
+--              in the application, with a compare-and-set update and one status-change outbox
+--              event per request. The trigger did the same update in SQL without writing those
+--              events, so it is dropped.
+
+DROP TRIGGER IF EXISTS trg_update_pr_on_calibration_complete ON grading2.calibrations;
+DROP FUNCTION IF EXISTS grading2.update_promotion_requests_on_calibration_complete();
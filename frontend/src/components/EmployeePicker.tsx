@@ -0,0 +1,99 @@
+import { useEffect, useState } from 'react';
+import { Autocomplete, CircularProgress, TextField, SxProps, Theme } from '@mui/material';
+import { employeeService } from '@/services/employeeService';
+import { Employee } from '@/types';
+
+const MIN_PREFIX = 2;
+const DEBOUNCE_MS = 300;
+
+interface EmployeePickerProps {
+  label: string;
+  value: Employee | null;
+  onChange: (employee: Employee | null) => void;
+  // Narrows the suggestions, e.g. to team leads
+  filter?: (employee: Employee) => boolean;
+  required?: boolean;
+  size?: 'small' | 'medium';
+  sx?: SxProps<Theme>;
+}
+
+// Suggests employees from /employees/autocomplete as the user types instead of
+// loading the whole directory up front.
+const EmployeePicker = ({ label, value, onChange, filter, required, size, sx }: EmployeePickerProps) => {
+  const [input, setInput] = useState('');
+  // Only typed text is searched, not the label of a picked option
+  const [query, setQuery] = useState('');
+  const [options, setOptions] = useState<Employee[]>([]);
+  const [loading, setLoading] = useState(false);
+
+  useEffect(() => {
+    const prefix = query.trim();
+    if (prefix.length < MIN_PREFIX) {
+      setOptions([]);
+      return;
+    }
+    let active = true;
+    const timer = setTimeout(async () => {
+      setLoading(true);
+      try {
+        const data = await employeeService.autocompleteEmployees(prefix);
+        if (active) {
+          setOptions(data);
+        }
+      } catch (error) {
+        console.error('Failed to search employees:', error);
+      } finally {
+        if (active) {
+          setLoading(false);
+        }
+      }
+    }, DEBOUNCE_MS);
+    return () => {
+      active = false;
+      clearTimeout(timer);
+    };
+  }, [query]);
+
+  const suggestions = filter ? options.filter(filter) : options;
+
+  return (
+    <Autocomplete
+      value={value}
+      onChange={(_, employee) => onChange(employee)}
+      inputValue={input}
+      onInputChange={(_, text, reason) => {
+        setInput(text);
+        if (reason === 'input') {
+          setQuery(text);
+        }
+      }}
+      options={value && !suggestions.some((o) => o.id === value.id) ? [value, ...suggestions] : suggestions}
+      // The server already matched the prefix
+      filterOptions={(x) => x}
+      getOptionLabel={(employee) => `${employee.fullName} (${employee.department})`}
+      isOptionEqualToValue={(option, selected) => option.id === selected.id}
+      loading={loading}
+      noOptionsText={query.trim().length < MIN_PREFIX ? 'Type at least 2 letters' : 'No employees found'}
+      size={size}
+      sx={sx}
+      renderInput={(params) => (
+        <TextField
+          {...params}
+          label={label}
+          required={required}
+          InputProps={{
+            ...params.InputProps,
+            endAdornment: (
+              <>
+                {loading ? <CircularProgress color="inherit" size={18} /> : null}
+                {params.InputProps.endAdornment}
+              </>
+            ),
+          }}
+        />
+      )}
+    />
+  );
+};
+
+export default EmployeePicker;
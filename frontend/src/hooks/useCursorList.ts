@@ -0,0 +1,93 @@
+import { useCallback, useEffect, useRef, useState } from 'react';
+import { Page } from '@/types';
+
+export type PageFetcher<T> = (cursor?: string | null) => Promise<Page<T>>;
+
+// Holds the pages of a cursor-paged list loaded so far; further pages are
+// requested only through loadMore. fetchPage must be memoised: a new function
+// starts the list over, null keeps it empty.
+export const useCursorList = <T>(fetchPage: PageFetcher<T> | null) => {
+  const [items, setItems] = useState<T[]>([]);
+  const [cursor, setCursor] = useState<string | null>(null);
+  const [loading, setLoading] = useState(fetchPage !== null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // Bumped on every reload so responses for a replaced fetchPage are dropped
+  const generation = useRef(0);
+
+  const reload = useCallback(async () => {
+    const current = ++generation.current;
+    setItems([]);
+    setCursor(null);
+    setLoadingMore(false);
+    if (!fetchPage) {
+      setLoading(false);
+      return;
+    }
+    setLoading(true);
+    try {
+      const page = await fetchPage();
+      if (current === generation.current) {
+        setItems(page.items);
+        setCursor(page.nextCursor);
+      }
+    } catch (error) {
+      console.error('Failed to fetch page:', error);
+    } finally {
+      if (current === generation.current) {
+        setLoading(false);
+      }
+    }
+  }, [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (!fetchPage || !cursor || loadingMore) return;
+    const current = generation.current;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(cursor);
+      if (current === generation.current) {
+        setItems((prev) => [...prev, ...page.items]);
+        setCursor(page.nextCursor);
+      }
+    } catch (error) {
+      console.error('Failed to fetch next page:', error);
+    } finally {
+      if (current === generation.current) {
+        setLoadingMore(false);
+      }
+    }
+  }, [fetchPage, cursor, loadingMore]);
+
+  useEffect(() => {
+    reload();
+  }, [reload]);
+
+  return {
+    items,
+    setItems,
+    hasMore: cursor !== null,
+    loading,
+    loadingMore,
+    reload,
+    loadMore,
+  };
+};
+
+// Props for a TablePagination over a cursor list: the total stays unknown
+// while pages remain, and moving past the loaded rows fetches the next page.
+export const cursorPaginationProps = (
+  list: { items: unknown[]; hasMore: boolean; loadMore: () => void },
+  page: number,
+  rowsPerPage: number,
+  setPage: (page: number) => void
+) => ({
+  count: list.hasMore ? -1 : list.items.length,
+  page,
+  rowsPerPage,
+  onPageChange: (_: unknown, newPage: number) => {
+    setPage(newPage);
+    if (list.hasMore && (newPage + 1) * rowsPerPage > list.items.length) {
+      list.loadMore();
+    }
+  },
+});
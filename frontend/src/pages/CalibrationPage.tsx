@@ -1,4 +1,4 @@
-import { useEffect, useState } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import {
   Container,
   Typography,
@@ -36,26 +36,54 @@ import { Add, PlayArrow, Visibility } from '@mui/icons-material';
 import { calibrationService } from '@/services/calibrationService';
 import { comparisonService } from '@/services/comparisonService';
 import { promotionService } from '@/services/promotionService';
-import { employeeService } from '@/services/employeeService';
 import { gradeService } from '@/services/gradeService';
 import {
   Calibration,
   CreateCalibrationPackageRequest,
-  PromotionRequest,
   Grade,
   Employee,
   Comparison,
   CreateComparisonRequest,
   CandidateRanking,
+  Page,
 } from '@/types';
 import { useAuth } from '@/contexts/AuthContext';
+import { useCursorList, cursorPaginationProps } from '@/hooks/useCursorList';
+import EmployeePicker from '@/components/EmployeePicker';
 import { format } from 'date-fns';
 
+const HR_CALIBRATION_STATUSES = ['planning', 'active', 'completed'];
+// Request statuses the backend accepts into a calibration package
+const CALIBRATION_READY_STATUSES = ['pending', 'under_review', 'ready_for_calibration'];
+
+// Pages through the HR statuses one after another; the cursor is
+// "<status index>:<cursor within that status>"
+const fetchHrCalibrations = async (cursor?: string | null): Promise<Page<Calibration>> => {
+  let index = 0;
+  let inner: string | null = null;
+  if (cursor) {
+    const separator = cursor.indexOf(':');
+    index = Number(cursor.substring(0, separator));
+    inner = cursor.substring(separator + 1) || null;
+  }
+  for (;;) {
+    const page = await calibrationService.getCalibrationsByStatus(HR_CALIBRATION_STATUSES[index], inner);
+    const nextCursor = page.nextCursor
+      ? `${index}:${page.nextCursor}`
+      : index + 1 < HR_CALIBRATION_STATUSES.length ? `${index + 1}:` : null;
+    // Skip over statuses without calibrations instead of returning empty pages
+    if (page.items.length > 0 || nextCursor === null) {
+      return { items: page.items, nextCursor };
+    }
+    index = page.nextCursor ? index : index + 1;
+    inner = page.nextCursor;
+  }
+};
+
 const CalibrationPage = () => {
-  const [calibrations, setCalibrations] = useState<Calibration[]>([]);
+  const [teamLeadCalibrations, setTeamLeadCalibrations] = useState<Calibration[]>([]);
   const [grades, setGrades] = useState<Grade[]>([]);
-  const [employees, setEmployees] = useState<Employee[]>([]);
-  const [promotionRequests, setPromotionRequests] = useState<PromotionRequest[]>([]);
+  const [evaluators, setEvaluators] = useState<(Employee | null)[]>([null, null]);
   const [loading, setLoading] = useState(true);
   const [openCreateDialog, setOpenCreateDialog] = useState(false);
   const [openComparisonDialog, setOpenComparisonDialog] = useState(false);
@@ -80,49 +108,62 @@ const CalibrationPage = () => {
     evaluatorIds: [],
   });
 
+  const hrCalibrationList = useCursorList(isHR ? fetchHrCalibrations : null);
+  const calibrations = isHR ? hrCalibrationList.items : teamLeadCalibrations;
+
+  // Candidates for a new package are searched only while the dialog is open
+  const fetchReadyRequests = useCallback(
+    (cursor?: string | null) =>
+      promotionService.searchPromotionRequests(
+        {
+          status: CALIBRATION_READY_STATUSES,
+          requestedGradeId: formData.gradeId || undefined,
+        },
+        cursor
+      ),
+    [formData.gradeId]
+  );
+  const readyRequestList = useCursorList(openCreateDialog ? fetchReadyRequests : null);
+  const promotionRequests = readyRequestList.items;
+
   useEffect(() => {
-    fetchData();
+    if (isHR) {
+      fetchGrades();
+      setLoading(false);
+    } else {
+      fetchData();
+    }
   }, [user]);
 
   const fetchData = async () => {
+    if (isHR) {
+      hrCalibrationList.reload();
+      return;
+    }
     try {
       setLoading(true);
       console.log('Fetching data for user:', user);
       console.log('isHR:', isHR, 'isTeamLead:', isTeamLead, 'employeeId:', user?.employeeId);
       
-      if (isHR) {
-        console.log('Fetching calibrations for HR...');
-        // Load calibrations with all statuses
-        const [planning, active, completed] = await Promise.all([
-          calibrationService.getCalibrationsByStatus('planning'),
-          calibrationService.getCalibrationsByStatus('active'),
-          calibrationService.getCalibrationsByStatus('completed')
-        ]);
-        const allCalibrations = [...(planning || []), ...(active || []), ...(completed || [])];
-        console.log('Calibrations data:', allCalibrations);
-        setCalibrations(allCalibrations);
-        await fetchGrades();
-        await fetchEmployees();
-        await fetchPromotionRequests();
-      } else if (isTeamLead) {
+      if (isTeamLead) {
         if (!user?.employeeId) {
           console.error('Team lead user has no employeeId!', user);
-          setCalibrations([]);
+          setTeamLeadCalibrations([]);
           return;
         }
         console.log('Fetching calibrations for team lead, employeeId:', user.employeeId);
         const data = await calibrationService.getCalibrationsByEvaluatorId(user.employeeId);
         console.log('Calibrations data for team lead:', data);
-        setCalibrations(data || []);
+        setTeamLeadCalibrations(data || []);
       } else {
         console.log('User is neither HR nor Team Lead. Role:', user?.role);
-        setCalibrations([]);
+        setTeamLeadCalibrations([]);
       }
     } catch (error: any) {
       console.error('Failed to fetch data:', error);
       console.error('Error details:', error.response?.data || error.message);
       // Set empty arrays to prevent rendering issues
-      setCalibrations([]);
+      setTeamLeadCalibrations([]);
     } finally {
       setLoading(false);
     }
@@ -137,46 +178,13 @@ const CalibrationPage = () => {
     }
   };
 
-  const fetchEmployees = async () => {
-    try {
-      const data = await employeeService.getAllEmployees();
-      console.log('All employees:', data);
-      // Filter for team leads
-      const teamLeads = data.filter(e => e.role.toLowerCase() === 'team_lead');
-      console.log('Filtered team leads:', teamLeads);
-      setEmployees(teamLeads);
-    } catch (error) {
-      console.error('Failed to fetch employees:', error);
-    }
-  };
-
-  const fetchPromotionRequests = async () => {
-    try {
-      // Try to get all promotion requests first to see what statuses exist
-      const allRequests = await promotionService.getAllPromotionRequests();
-      console.log('All promotion requests:', allRequests);
-      
-      // Filter for requests that are ready for calibration or pending/under_review
-      // (they might not have status 'ready_for_calibration' yet)
-      const readyRequests = allRequests.filter(pr => 
-        pr.status === 'ready_for_calibration' || 
-        pr.status === 'pending' || 
-        pr.status === 'under_review' ||
-        (pr.status !== 'in_calibration' && pr.status !== 'approved' && pr.status !== 'rejected')
-      );
-      console.log('Filtered promotion requests:', readyRequests);
-      setPromotionRequests(readyRequests);
-    } catch (error) {
-      console.error('Failed to fetch promotion requests:', error);
-    }
-  };
-
   const handleOpenCreateDialog = () => {
     setFormData({
       gradeId: 0,
       promotionRequestIds: [],
       evaluatorIds: [],
     });
+    setEvaluators([null, null]);
     setOpenCreateDialog(true);
   };
 
@@ -407,7 +415,17 @@ const CalibrationPage = () => {
     }
   };
 
-  if (loading) {
+  const handleEvaluatorChange = (index: number, employee: Employee | null) => {
+    const next = [...evaluators];
+    next[index] = employee;
+    setEvaluators(next);
+    setFormData({
+      ...formData,
+      evaluatorIds: next.filter((e): e is Employee => e !== null).map((e) => e.id),
+    });
+  };
+
+  if (loading || hrCalibrationList.loading) {
     return (
       <Container maxWidth="lg">
         <Box display="flex" justifyContent="center" alignItems="center" minHeight="400px">
@@ -489,10 +507,7 @@ const CalibrationPage = () => {
               </TableContainer>
               <TablePagination
                 component="div"
-                count={calibrations.length}
-                page={page}
-                onPageChange={(_, newPage) => setPage(newPage)}
-                rowsPerPage={rowsPerPage}
+                {...cursorPaginationProps(hrCalibrationList, page, rowsPerPage, setPage)}
                 onRowsPerPageChange={(e) => {
                   setRowsPerPage(parseInt(e.target.value, 10));
                   setPage(0);
@@ -544,6 +559,15 @@ const CalibrationPage = () => {
                         </Card>
                       ))
                   )}
+                {hrCalibrationList.hasMore && (
+                  <Button
+                    onClick={hrCalibrationList.loadMore}
+                    disabled={hrCalibrationList.loadingMore}
+                    sx={{ mt: 1 }}
+                  >
+                    Load more batches
+                  </Button>
+                )}
               </Box>
             )}
           </Box>
@@ -622,7 +646,10 @@ const CalibrationPage = () => {
               <InputLabel>Grade</InputLabel>
               <Select
                 value={formData.gradeId}
-                onChange={(e) => setFormData({ ...formData, gradeId: Number(e.target.value) })}
+                // Candidates are searched per grade, so earlier picks no longer apply
+                onChange={(e) =>
+                  setFormData({ ...formData, gradeId: Number(e.target.value), promotionRequestIds: [] })
+                }
                 label="Grade"
               >
                 {grades.map((grade) => (
@@ -659,68 +686,49 @@ const CalibrationPage = () => {
                 {promotionRequests.length === 0 ? (
                   <MenuItem disabled>No promotion requests available</MenuItem>
                 ) : (
-                  promotionRequests
-                    .filter((pr) => pr.requestedGradeId === formData.gradeId || formData.gradeId === 0)
-                    .map((pr) => (
-                      <MenuItem key={pr.id} value={pr.id}>
-                        <Checkbox
-                          checked={formData.promotionRequestIds.includes(pr.id)}
-                        />
-                        <ListItemText
-                          primary={pr.employeeName}
-                          secondary={`Grade: ${pr.requestedGradeName}, Status: ${pr.status}`}
-                        />
-                      </MenuItem>
-                    ))
-                )}
-              </Select>
-              {promotionRequests.length === 0 && (
-                <Alert severity="info" sx={{ mt: 1 }}>
-                  No promotion requests available. Make sure there are requests with status "pending", "under_review" or "ready_for_calibration".
-                </Alert>
-              )}
-            </FormControl>
-
-            <FormControl fullWidth>
-              <InputLabel>Team Leads (exactly 2)</InputLabel>
-              <Select
-                multiple
-                value={formData.evaluatorIds}
-                onChange={(e) =>
-                  setFormData({
-                    ...formData,
-                    evaluatorIds: e.target.value as number[],
-                  })
-                }
-                label="Team Leads (exactly 2)"
-                renderValue={(selected) =>
-                  selected.length === 0
-                    ? 'Select team leads'
-                    : selected
-                        .map((id) => employees.find((e) => e.id === id)?.fullName || `#${id}`)
-                        .join(', ')
-                }
-              >
-                {employees.length === 0 ? (
-                  <MenuItem disabled>No team leads available</MenuItem>
-                ) : (
-                  employees.map((emp) => (
-                    <MenuItem key={emp.id} value={emp.id}>
-                      <Checkbox checked={formData.evaluatorIds.includes(emp.id)} />
-                      <ListItemText 
-                        primary={emp.fullName} 
-                        secondary={`${emp.email} (${emp.role})`} 
+                  promotionRequests.map((pr) => (
+                    <MenuItem key={pr.id} value={pr.id}>
+                      <Checkbox
+                        checked={formData.promotionRequestIds.includes(pr.id)}
+                      />
+                      <ListItemText
+                        primary={pr.employeeName}
+                        secondary={`Grade: ${pr.requestedGradeName}, Status: ${pr.status}`}
                       />
                     </MenuItem>
                   ))
                 )}
               </Select>
-              {employees.length === 0 && (
+              {readyRequestList.hasMore && (
+                <Button
+                  size="small"
+                  onClick={readyRequestList.loadMore}
+                  disabled={readyRequestList.loadingMore}
+                  sx={{ alignSelf: 'flex-start', mt: 1 }}
+                >
+                  Load more requests
+                </Button>
+              )}
+              {!readyRequestList.loading && promotionRequests.length === 0 && (
                 <Alert severity="info" sx={{ mt: 1 }}>
-                  No team leads available. Make sure there are employees with the "Team Lead" or "team_lead" role.
+                  No promotion requests available. Make sure there are requests with status "pending", "under_review" or "ready_for_calibration".
                 </Alert>
               )}
             </FormControl>
+
+            {evaluators.map((evaluator, index) => (
+              <EmployeePicker
+                key={index}
+                label={`Team Lead ${index + 1}`}
+                value={evaluator}
+                onChange={(employee) => handleEvaluatorChange(index, employee)}
+                filter={(e) =>
+                  e.role.toLowerCase() === 'team_lead' &&
+                  !evaluators.some((other, i) => i !== index && other?.id === e.id)
+                }
+                required
+              />
+            ))}
           </Box>
         </DialogContent>
         <DialogActions>
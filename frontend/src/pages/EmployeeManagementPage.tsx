@@ -1,4 +1,4 @@
-import { useState, useEffect } from 'react';
+import { useState } from 'react';
 import {
   Container,
   Typography,
@@ -18,31 +18,16 @@ import {
 import { Add } from '@mui/icons-material';
 import { useNavigate } from 'react-router-dom';
 import { employeeService } from '@/services/employeeService';
-import { Employee } from '@/types';
+import { useCursorList, cursorPaginationProps } from '@/hooks/useCursorList';
 import { format } from 'date-fns';
 
 const EmployeeManagementPage = () => {
-  const [employees, setEmployees] = useState<Employee[]>([]);
-  const [loading, setLoading] = useState(true);
+  const employeeList = useCursorList(employeeService.getEmployees);
+  const { items: employees, loading, loadingMore, hasMore } = employeeList;
   const [page, setPage] = useState(0);
   const [rowsPerPage, setRowsPerPage] = useState(15);
   const navigate = useNavigate();
 
-  useEffect(() => {
-    fetchEmployees();
-  }, []);
-
-  const fetchEmployees = async () => {
-    try {
-      const data = await employeeService.getAllEmployees();
-      setEmployees(data);
-    } catch (error) {
-      console.error('Failed to fetch employees:', error);
-    } finally {
-      setLoading(false);
-    }
-  };
-
   const getRoleColor = (role: string): "default" | "primary" | "secondary" | "error" | "info" | "success" | "warning" => {
     const roleLower = role.toLowerCase();
     if (roleLower === 'hr') return 'error';
@@ -121,10 +106,7 @@ const EmployeeManagementPage = () => {
       </TableContainer>
       <TablePagination
         component="div"
-        count={employees.length}
-        page={page}
-        onPageChange={(_, newPage) => setPage(newPage)}
-        rowsPerPage={rowsPerPage}
+        {...cursorPaginationProps(employeeList, page, rowsPerPage, setPage)}
         onRowsPerPageChange={(e) => {
           setRowsPerPage(parseInt(e.target.value, 10));
           setPage(0);
@@ -133,7 +115,8 @@ const EmployeeManagementPage = () => {
       />
 
       <Typography variant="body2" color="text.secondary" sx={{ mt: 2 }}>
-        Total Employees: {employees.length}
+        {hasMore ? `Loaded Employees: ${employees.length}` : `Total Employees: ${employees.length}`}
+        {loadingMore && <CircularProgress size={14} sx={{ ml: 1 }} />}
       </Typography>
     </Container>
   );
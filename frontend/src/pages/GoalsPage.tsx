@@ -23,23 +23,20 @@ import {
   CircularProgress,
   Tabs,
   Tab,
-  Select,
-  FormControl,
-  InputLabel,
 } from '@mui/material';
 import { Add, Edit, Delete, Assignment } from '@mui/icons-material';
 import { goalService } from '@/services/goalService';
-import { employeeService } from '@/services/employeeService';
 import { Goal, GoalTemplate, CreateGoalRequest, AssignGoalRequest, UpdateGoalStatusRequest, Employee } from '@/types';
+import { useCursorList, cursorPaginationProps } from '@/hooks/useCursorList';
+import EmployeePicker from '@/components/EmployeePicker';
 import { useAuth } from '@/contexts/AuthContext';
 import { format } from 'date-fns';
 
 const GoalsPage = () => {
   const [goals, setGoals] = useState<Goal[]>([]);
-  const [goalTemplates, setGoalTemplates] = useState<GoalTemplate[]>([]);
-  const [employees, setEmployees] = useState<Employee[]>([]);
   const [loading, setLoading] = useState(true);
   const [tabValue, setTabValue] = useState(0);
+  const [assignEmployee, setAssignEmployee] = useState<Employee | null>(null);
   const [openTemplateDialog, setOpenTemplateDialog] = useState(false);
   const [openAssignDialog, setOpenAssignDialog] = useState(false);
   const [openStatusDialog, setOpenStatusDialog] = useState(false);
@@ -71,33 +68,26 @@ const GoalsPage = () => {
     status: '',
   });
 
-  useEffect(() => {
-    fetchData();
-  }, [user]);
+  // HR tables load page by page; assignments only once their tab is opened
+  // and afresh on every visit
+  const templateList = useCursorList(isHR ? goalService.getGoalTemplates : null);
+  const assignmentList = useCursorList(isHR && tabValue === 1 ? goalService.getGoalAssignments : null);
+  const goalTemplates = templateList.items;
+  const assignments = assignmentList.items;
 
   useEffect(() => {
-    // Обновляем данные при переключении вкладок для HR
-    if (isHR && tabValue === 1) {
-      fetchData();
+    if (isHR) {
+      setLoading(false);
+    } else {
+      fetchMyGoals();
     }
-  }, [tabValue, isHR]);
+  }, [user]);
 
-  const fetchData = async () => {
+  const fetchMyGoals = async () => {
     try {
       setLoading(true);
-      if (isHR) {
-        const [templates, employeesData, allAssignments] = await Promise.all([
-          goalService.getAllGoalTemplates(),
-          employeeService.getAllEmployees(),
-          goalService.getAllGoalAssignments(),
-        ]);
-        setGoalTemplates(templates);
-        setEmployees(employeesData);
-        setGoals(allAssignments);
-      } else {
-        const myGoals = await goalService.getMyGoals();
-        setGoals(myGoals);
-      }
+      const myGoals = await goalService.getMyGoals();
+      setGoals(myGoals);
     } catch (error) {
       console.error('Failed to fetch data:', error);
     } finally {
@@ -143,7 +133,7 @@ const GoalsPage = () => {
       } else {
         await goalService.createGoalTemplate(templateFormData);
       }
-      fetchData();
+      templateList.reload();
       handleCloseTemplateDialog();
     } catch (error: any) {
       console.error('Failed to save goal template:', error);
@@ -155,7 +145,7 @@ const GoalsPage = () => {
     if (window.confirm('Are you sure you want to delete this goal template?')) {
       try {
         await goalService.deleteGoalTemplate(id);
-        fetchData();
+        templateList.reload();
       } catch (error) {
         console.error('Failed to delete goal template:', error);
         alert('Error deleting goal template');
@@ -169,6 +159,7 @@ const GoalsPage = () => {
       employeeId: 0,
       dueDate: format(new Date(), 'yyyy-MM-dd'),
     });
+    setAssignEmployee(null);
     setOpenAssignDialog(true);
   };
 
@@ -184,7 +175,7 @@ const GoalsPage = () => {
 
     try {
       await goalService.assignGoal(assignFormData);
-      fetchData();
+      assignmentList.reload();
       handleCloseAssignDialog();
       alert('Goal successfully assigned to employee');
     } catch (error: any) {
@@ -209,7 +200,7 @@ const GoalsPage = () => {
 
     try {
       await goalService.updateGoalStatus(selectedGoal.id, statusFormData);
-      fetchData();
+      fetchMyGoals();
       handleCloseStatusDialog();
     } catch (error: any) {
       console.error('Failed to update goal status:', error);
@@ -232,7 +223,7 @@ const GoalsPage = () => {
     }
   };
 
-  if (loading) {
+  if (loading || templateList.loading) {
     return (
       <Box sx={{ display: 'flex', justifyContent: 'center', mt: 4 }}>
         <CircularProgress />
@@ -268,7 +259,13 @@ const GoalsPage = () => {
 
       {isHR ? (
         <Paper>
-          <Tabs value={tabValue} onChange={(_e, v) => setTabValue(v)}>
+          <Tabs
+            value={tabValue}
+            onChange={(_e, v) => {
+              setTabValue(v);
+              setPageAssignments(0);
+            }}
+          >
             <Tab label="Goal Templates" />
             <Tab label="Assignments" />
           </Tabs>
@@ -287,7 +284,13 @@ const GoalsPage = () => {
                       </TableRow>
                     </TableHead>
                     <TableBody>
-                      {goalTemplates.length === 0 ? (
+                      {templateList.loadingMore ? (
+                        <TableRow>
+                          <TableCell colSpan={5} align="center">
+                            <CircularProgress size={24} />
+                          </TableCell>
+                        </TableRow>
+                      ) : goalTemplates.length === 0 ? (
                         <TableRow>
                           <TableCell colSpan={5} align="center">
                             No goal templates. Create your first goal!
@@ -334,10 +337,7 @@ const GoalsPage = () => {
                 </TableContainer>
                 <TablePagination
                   component="div"
-                  count={goalTemplates.length}
-                  page={pageTemplates}
-                  onPageChange={(_, newPage) => setPageTemplates(newPage)}
-                  rowsPerPage={rowsPerPageTemplates}
+                  {...cursorPaginationProps(templateList, pageTemplates, rowsPerPageTemplates, setPageTemplates)}
                   onRowsPerPageChange={(e) => {
                     setRowsPerPageTemplates(parseInt(e.target.value, 10));
                     setPageTemplates(0);
@@ -366,14 +366,20 @@ const GoalsPage = () => {
                       </TableRow>
                     </TableHead>
                     <TableBody>
-                      {goals.length === 0 ? (
+                      {assignmentList.loading || assignmentList.loadingMore ? (
+                        <TableRow>
+                          <TableCell colSpan={8} align="center">
+                            <CircularProgress size={24} />
+                          </TableCell>
+                        </TableRow>
+                      ) : assignments.length === 0 ? (
                         <TableRow>
                           <TableCell colSpan={8} align="center">
                             No assigned goals. Assign goals to employees via the "Goal Templates" tab
                           </TableCell>
                         </TableRow>
                       ) : (
-                        goals
+                        assignments
                           .slice(pageAssignments * rowsPerPageAssignments, pageAssignments * rowsPerPageAssignments + rowsPerPageAssignments)
                           .map((goal) => (
                           <TableRow key={goal.id}>
@@ -394,7 +400,7 @@ const GoalsPage = () => {
                                   if (window.confirm('Are you sure you want to delete this assignment?')) {
                                     try {
                                       await goalService.deleteGoalAssignment(goal.id);
-                                      fetchData();
+                                      assignmentList.reload();
                                     } catch (error) {
                                       console.error('Failed to delete assignment:', error);
                                       alert('Error deleting assignment');
@@ -413,10 +419,7 @@ const GoalsPage = () => {
                 </TableContainer>
                 <TablePagination
                   component="div"
-                  count={goals.length}
-                  page={pageAssignments}
-                  onPageChange={(_, newPage) => setPageAssignments(newPage)}
-                  rowsPerPage={rowsPerPageAssignments}
+                  {...cursorPaginationProps(assignmentList, pageAssignments, rowsPerPageAssignments, setPageAssignments)}
                   onRowsPerPageChange={(e) => {
                     setRowsPerPageAssignments(parseInt(e.target.value, 10));
                     setPageAssignments(0);
@@ -546,20 +549,15 @@ const GoalsPage = () => {
       <Dialog open={openAssignDialog} onClose={handleCloseAssignDialog} maxWidth="sm" fullWidth>
         <DialogTitle>Assign Goal to Employee</DialogTitle>
         <DialogContent>
-          <FormControl fullWidth margin="normal">
-            <InputLabel>Employee</InputLabel>
-            <Select
-              value={assignFormData.employeeId}
-              onChange={(e) => setAssignFormData({ ...assignFormData, employeeId: Number(e.target.value) })}
-              label="Employee"
-            >
-              {employees.map((emp) => (
-                <MenuItem key={emp.id} value={emp.id}>
-                  {emp.fullName}
-                </MenuItem>
-              ))}
-            </Select>
-          </FormControl>
+          <EmployeePicker
+            label="Employee"
+            value={assignEmployee}
+            onChange={(employee) => {
+              setAssignEmployee(employee);
+              setAssignFormData({ ...assignFormData, employeeId: employee?.id ?? 0 });
+            }}
+            sx={{ mt: 2, mb: 1 }}
+          />
           <TextField
             fullWidth
             label="Due Date"
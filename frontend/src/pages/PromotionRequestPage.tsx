@@ -1,4 +1,4 @@
-import { useEffect, useState, useMemo } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import {
   Container,
   Typography,
@@ -29,18 +29,28 @@ import { Add } from '@mui/icons-material';
 import { promotionService } from '@/services/promotionService';
 import { gradeService } from '@/services/gradeService';
 import { goalService } from '@/services/goalService';
-import { PromotionRequest, PromotionRequestData, Grade, Goal } from '@/types';
+import { PromotionRequest, PromotionRequestData, Grade, Goal, Page } from '@/types';
 import { useAuth } from '@/contexts/AuthContext';
+import { useCursorList, cursorPaginationProps } from '@/hooks/useCursorList';
 import { format } from 'date-fns';
 
+const PROMOTION_STATUSES = [
+  'pending',
+  'under_review',
+  'returned_for_revision',
+  'ready_for_calibration',
+  'in_calibration',
+  'calibration_completed',
+  'approved',
+  'rejected',
+];
+
 const PromotionRequestPage = () => {
-  const [promotionRequests, setPromotionRequests] = useState<PromotionRequest[]>([]);
   const [grades, setGrades] = useState<Grade[]>([]);
   const [completedGoals, setCompletedGoals] = useState<Goal[]>([]);
   const [attachedGoals, setAttachedGoals] = useState<Goal[]>([]);
   const [attachedFiles, setAttachedFiles] = useState<any[]>([]);
   const [selectedGoalsIds, setSelectedGoalsIds] = useState<number[]>([]);
-  const [loading, setLoading] = useState(true);
   const [openDialog, setOpenDialog] = useState(false);
   const [openDetailDialog, setOpenDetailDialog] = useState(false);
   const [openCommentDialog, setOpenCommentDialog] = useState(false);
@@ -69,31 +79,60 @@ const PromotionRequestPage = () => {
     reviewPeriod: 'Q4-2024',
   });
 
+  // HR filters are applied by the backend: a status alone has its own listing,
+  // grade or period go through the search, whose rows leave out the free text
+  const fetchRequests = useCallback(async (cursor?: string | null): Promise<Page<PromotionRequest>> => {
+    if (!isHR) {
+      const data = user?.employeeId
+        ? await promotionService.getPromotionRequestsByEmployeeId(user.employeeId)
+        : [];
+      return { items: data, nextCursor: null };
+    }
+    if (gradeFilter || periodFilter) {
+      const page = await promotionService.searchPromotionRequests(
+        {
+          status: statusFilter ? [statusFilter] : undefined,
+          requestedGradeId: gradeFilter ? Number(gradeFilter) : undefined,
+          reviewPeriod: periodFilter || undefined,
+        },
+        cursor
+      );
+      return {
+        items: page.items.map((summary) => ({ ...summary, justification: '', evidence: '' })),
+        nextCursor: page.nextCursor,
+      };
+    }
+    if (statusFilter) {
+      return promotionService.getPromotionRequestsByStatus(statusFilter, cursor);
+    }
+    return promotionService.getPromotionRequests(cursor);
+  }, [isHR, user?.employeeId, gradeFilter, periodFilter, statusFilter]);
+
+  const requestList = useCursorList(isHR || user?.employeeId ? fetchRequests : null);
+  const { items: promotionRequests, loading } = requestList;
+  const fetchPromotionRequests = requestList.reload;
+
+  useEffect(() => {
+    setPage(0);
+  }, [fetchRequests]);
+
+  // Periods seen so far; the loaded pages may not cover every period
+  const [knownPeriods, setKnownPeriods] = useState<string[]>([]);
+  useEffect(() => {
+    setKnownPeriods((prev) => {
+      const periods = new Set(prev);
+      promotionRequests.forEach((r) => periods.add(r.reviewPeriod));
+      return periods.size === prev.length ? prev : Array.from(periods).sort();
+    });
+  }, [promotionRequests]);
+
   useEffect(() => {
-    fetchPromotionRequests();
     fetchGrades();
     if (canCreateRequest) {
       fetchCompletedGoals();
     }
   }, [user]);
 
-  const fetchPromotionRequests = async () => {
-    try {
-      setLoading(true);
-      if (isHR) {
-        const data = await promotionService.getAllPromotionRequests();
-        setPromotionRequests(data);
-      } else if (user?.employeeId) {
-        const data = await promotionService.getPromotionRequestsByEmployeeId(user.employeeId);
-        setPromotionRequests(data);
-      }
-    } catch (error) {
-      console.error('Failed to fetch promotion requests:', error);
-    } finally {
-      setLoading(false);
-    }
-  };
-
   const fetchGrades = async () => {
     try {
       const data = await gradeService.getAllGrades();
@@ -132,28 +171,6 @@ const PromotionRequestPage = () => {
     }
   };
 
-  // Get unique values for filters
-  const uniquePeriods = useMemo(() => {
-    const periods = new Set(promotionRequests.map(r => r.reviewPeriod));
-    return Array.from(periods).sort();
-  }, [promotionRequests]);
-
-  const uniqueStatuses = useMemo(() => {
-    const statuses = new Set(promotionRequests.map(r => r.status));
-    return Array.from(statuses);
-  }, [promotionRequests]);
-
-  // Apply filters
-  const filteredRequests = useMemo(() => {
-    return promotionRequests.filter(request => {
-      const matchesGrade = gradeFilter === '' || request.requestedGradeId === Number(gradeFilter);
-      const matchesPeriod = periodFilter === '' || request.reviewPeriod === periodFilter;
-      const matchesStatus = statusFilter === '' || request.status === statusFilter;
-      
-      return matchesGrade && matchesPeriod && matchesStatus;
-    });
-  }, [promotionRequests, gradeFilter, periodFilter, statusFilter]);
-
   const handleOpenDialog = () => {
     setEditingRequest(null);
     setSelectedGoalsIds([]);
@@ -250,11 +267,18 @@ const PromotionRequestPage = () => {
     setAttachedFiles([]);
   };
 
-  const handleOpenDetailDialog = (request: PromotionRequest) => {
+  const handleOpenDetailDialog = async (request: PromotionRequest) => {
     setSelectedRequest(request);
     fetchAttachedGoals(request.id);
     fetchAttachedFiles(request.id);
     setOpenDetailDialog(true);
+    // Search rows come without justification and evidence
+    try {
+      const full = await promotionService.getPromotionRequestById(request.id);
+      setSelectedRequest((current) => (current?.id === full.id ? full : current));
+    } catch (error) {
+      console.error('Failed to fetch promotion request:', error);
+    }
   };
 
   const handleCloseDetailDialog = () => {
@@ -416,14 +440,6 @@ const PromotionRequestPage = () => {
     }
   };
 
-  if (loading) {
-    return (
-      <Box sx={{ display: 'flex', justifyContent: 'center', mt: 4 }}>
-        <CircularProgress />
-      </Box>
-    );
-  }
-
   return (
     <Container maxWidth="lg">
       {!user?.employeeId && (
@@ -467,7 +483,7 @@ const PromotionRequestPage = () => {
               label="Review Period"
             >
               <MenuItem value="">All Periods</MenuItem>
-              {uniquePeriods.map((period) => (
+              {knownPeriods.map((period) => (
                 <MenuItem key={period} value={period}>
                   {period}
                 </MenuItem>
@@ -482,7 +498,7 @@ const PromotionRequestPage = () => {
               label="Status"
             >
               <MenuItem value="">All Statuses</MenuItem>
-              {uniqueStatuses.map((status) => (
+              {PROMOTION_STATUSES.map((status) => (
                 <MenuItem key={status} value={status}>
                   {status}
                 </MenuItem>
@@ -509,14 +525,20 @@ const PromotionRequestPage = () => {
             </TableRow>
           </TableHead>
           <TableBody>
-            {filteredRequests.length === 0 ? (
+            {loading || requestList.loadingMore ? (
+              <TableRow>
+                <TableCell colSpan={canCreateRequest ? 10 : (isHR ? 9 : 8)} align="center">
+                  <CircularProgress size={24} />
+                </TableCell>
+              </TableRow>
+            ) : promotionRequests.length === 0 ? (
               <TableRow>
                 <TableCell colSpan={canCreateRequest ? 10 : (isHR ? 9 : 8)} align="center">
                   {gradeFilter || periodFilter || statusFilter ? 'No promotion requests match the filters.' : 'No promotion requests found.'}
                 </TableCell>
               </TableRow>
             ) : (
-              filteredRequests
+              promotionRequests
                 .slice(page * rowsPerPage, page * rowsPerPage + rowsPerPage)
                 .map((request) => (
                 <TableRow key={request.id}>
@@ -601,10 +623,7 @@ const PromotionRequestPage = () => {
       </TableContainer>
       <TablePagination
         component="div"
-        count={filteredRequests.length}
-        page={page}
-        onPageChange={(_, newPage) => setPage(newPage)}
-        rowsPerPage={rowsPerPage}
+        {...cursorPaginationProps(requestList, page, rowsPerPage, setPage)}
         onRowsPerPageChange={(e) => {
           setRowsPerPage(parseInt(e.target.value, 10));
           setPage(0);
@@ -1,4 +1,4 @@
-import { useEffect, useState, useMemo } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import {
   Container,
   Typography,
@@ -29,18 +29,17 @@ import {
 } from '@mui/material';
 import { Add } from '@mui/icons-material';
 import { evaluationService } from '@/services/evaluationService';
-import { employeeService } from '@/services/employeeService';
-import { ManagerEvaluation, EvaluationRequest, Employee } from '@/types';
+import { ManagerEvaluation, EvaluationRequest, Employee, Page } from '@/types';
+import { useCursorList, cursorPaginationProps } from '@/hooks/useCursorList';
+import EmployeePicker from '@/components/EmployeePicker';
 import { useAuth } from '@/contexts/AuthContext';
 import { format } from 'date-fns';
 
 const ReviewsPage = () => {
-  const [allReviews, setAllReviews] = useState<ManagerEvaluation[]>([]);
-  const [employees, setEmployees] = useState<Employee[]>([]);
-  const [loading, setLoading] = useState(true);
   const [openDialog, setOpenDialog] = useState(false);
-  const [searchQuery, setSearchQuery] = useState('');
+  const [employeeFilter, setEmployeeFilter] = useState<Employee | null>(null);
   const [periodFilter, setPeriodFilter] = useState('');
+  const [dialogEmployee, setDialogEmployee] = useState<Employee | null>(null);
   const [page, setPage] = useState(0);
   const [rowsPerPage, setRowsPerPage] = useState(15);
   const { user } = useAuth();
@@ -54,75 +53,39 @@ const ReviewsPage = () => {
     nominatedForPromotion: false,
   });
 
-  useEffect(() => {
-    if (user?.employeeId) {
-      if (isHR) {
-        fetchEmployees();
-        fetchAllReviews();
-      } else {
-        fetchReviews(user.employeeId);
-      }
-    } else {
-      setLoading(false);
-    }
-  }, [user?.employeeId, isHR]);
-
-  const fetchAllReviews = async () => {
-    try {
-      setLoading(true);
-      const data = await evaluationService.getAllEvaluations();
-      setAllReviews(data);
-    } catch (error: any) {
-      console.error('Failed to fetch reviews:', error);
-      alert(error.response?.data?.message || 'Failed to fetch reviews');
-      setAllReviews([]);
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  const fetchReviews = async (employeeId: number) => {
-    try {
-      setLoading(true);
+  // HR filters are applied by the backend; a single employee's history is
+  // small enough to come back in one response
+  const fetchReviews = useCallback(async (cursor?: string | null): Promise<Page<ManagerEvaluation>> => {
+    const employeeId = isHR ? employeeFilter?.id : user?.employeeId;
+    if (employeeId) {
       const data = await evaluationService.getEvaluationsByEmployeeId(employeeId);
-      setAllReviews(data);
-    } catch (error: any) {
-      console.error('Failed to fetch reviews:', error);
-      alert(error.response?.data?.message || 'Failed to fetch reviews');
-      setAllReviews([]);
-    } finally {
-      setLoading(false);
+      return {
+        items: periodFilter ? data.filter((r) => r.reviewPeriod === periodFilter) : data,
+        nextCursor: null,
+      };
     }
-  };
-
-  const fetchEmployees = async () => {
-    try {
-      const data = await employeeService.getAllEmployees();
-      setEmployees(data);
-    } catch (error) {
-      console.error('Failed to fetch employees:', error);
+    if (periodFilter) {
+      return evaluationService.getEvaluationsByReviewPeriod(periodFilter, cursor);
     }
-  };
+    return evaluationService.getEvaluations(cursor);
+  }, [isHR, user?.employeeId, employeeFilter?.id, periodFilter]);
 
-  // Get unique review periods for filter dropdown
-  const uniquePeriods = useMemo(() => {
-    const periods = new Set(allReviews.map(r => r.reviewPeriod));
-    return Array.from(periods).sort();
-  }, [allReviews]);
+  const reviewList = useCursorList(user?.employeeId ? fetchReviews : null);
+  const { items: reviews, loading } = reviewList;
+
+  useEffect(() => {
+    setPage(0);
+  }, [fetchReviews]);
 
-  // Apply search and period filters
-  const filteredReviews = useMemo(() => {
-    return allReviews.filter(review => {
-      // Search filter - search in employee name
-      const matchesSearch = searchQuery === '' || 
-        (review.employeeName || '').toLowerCase().includes(searchQuery.toLowerCase());
-      
-      // Period filter
-      const matchesPeriod = periodFilter === '' || review.reviewPeriod === periodFilter;
-      
-      return matchesSearch && matchesPeriod;
+  // Periods seen so far; the loaded pages may not cover every period
+  const [knownPeriods, setKnownPeriods] = useState<string[]>([]);
+  useEffect(() => {
+    setKnownPeriods((prev) => {
+      const periods = new Set(prev);
+      reviews.forEach((r) => periods.add(r.reviewPeriod));
+      return periods.size === prev.length ? prev : Array.from(periods).sort();
     });
-  }, [allReviews, searchQuery, periodFilter]);
+  }, [reviews]);
 
   const handleOpenDialog = () => {
     setFormData({
@@ -132,6 +95,7 @@ const ReviewsPage = () => {
       comment: '',
       nominatedForPromotion: false,
     });
+    setDialogEmployee(null);
     setOpenDialog(true);
   };
 
@@ -148,9 +112,9 @@ const ReviewsPage = () => {
     }
   };
 
-  const handleSelectChange = (e: any) => {
-    const { name, value } = e.target;
-    setFormData({ ...formData, [name]: value });
+  const handleEmployeeSelect = (employee: Employee | null) => {
+    setDialogEmployee(employee);
+    setFormData({ ...formData, employeeId: employee?.id ?? 0 });
   };
 
   const handleCheckboxChange = (e: React.ChangeEvent<HTMLInputElement>) => {
@@ -180,7 +144,7 @@ const ReviewsPage = () => {
       await evaluationService.createEvaluation(formData);
       alert('Review created successfully');
       handleCloseDialog();
-      fetchAllReviews();
+      reviewList.reload();
     } catch (error: any) {
       console.error('Failed to save review:', error);
       const errorMessage = error.response?.data?.message || error.message || 'Failed to save review. Please check all fields are filled correctly.';
@@ -195,14 +159,6 @@ const ReviewsPage = () => {
     return 'error';
   };
 
-  if (loading) {
-    return (
-      <Box sx={{ display: 'flex', justifyContent: 'center', mt: 4 }}>
-        <CircularProgress />
-      </Box>
-    );
-  }
-
   return (
     <Container>
       {!user?.employeeId && (
@@ -245,13 +201,11 @@ const ReviewsPage = () => {
             flexWrap: 'wrap',
           }}
         >
-          <TextField
-            label="Search by Employee Name"
-            variant="outlined"
-            value={searchQuery}
-            onChange={(e) => setSearchQuery(e.target.value)}
+          <EmployeePicker
+            label="Filter by Employee"
+            value={employeeFilter}
+            onChange={setEmployeeFilter}
             sx={{ flex: 1 }}
-            placeholder="Enter employee name..."
           />
           <FormControl sx={{ minWidth: 200 }}>
             <InputLabel>Review Period</InputLabel>
@@ -261,7 +215,7 @@ const ReviewsPage = () => {
               label="Review Period"
             >
               <MenuItem value="">All Periods</MenuItem>
-              {uniquePeriods.map((period) => (
+              {knownPeriods.map((period) => (
                 <MenuItem key={period} value={period}>
                   {period}
                 </MenuItem>
@@ -286,14 +240,20 @@ const ReviewsPage = () => {
               </TableRow>
             </TableHead>
             <TableBody>
-              {filteredReviews.length === 0 ? (
+              {loading || reviewList.loadingMore ? (
                 <TableRow>
                   <TableCell colSpan={7} align="center">
-                    {searchQuery || periodFilter ? 'No reviews match the filters.' : 'No reviews found.'}
+                    <CircularProgress size={24} />
+                  </TableCell>
+                </TableRow>
+              ) : reviews.length === 0 ? (
+                <TableRow>
+                  <TableCell colSpan={7} align="center">
+                    {employeeFilter || periodFilter ? 'No reviews match the filters.' : 'No reviews found.'}
                   </TableCell>
                 </TableRow>
               ) : (
-                filteredReviews
+                reviews
                   .slice(page * rowsPerPage, page * rowsPerPage + rowsPerPage)
                   .map((review) => (
                   <TableRow key={review.id} hover>
@@ -326,10 +286,7 @@ const ReviewsPage = () => {
         </TableContainer>
         <TablePagination
           component="div"
-          count={filteredReviews.length}
-          page={page}
-          onPageChange={(_, newPage) => setPage(newPage)}
-          rowsPerPage={rowsPerPage}
+          {...cursorPaginationProps(reviewList, page, rowsPerPage, setPage)}
           onRowsPerPageChange={(e) => {
             setRowsPerPage(parseInt(e.target.value, 10));
             setPage(0);
@@ -342,21 +299,13 @@ const ReviewsPage = () => {
         <Dialog open={openDialog} onClose={handleCloseDialog} maxWidth="md" fullWidth>
           <DialogTitle>Create New Review</DialogTitle>
           <DialogContent>
-            <FormControl fullWidth margin="normal" required>
-              <InputLabel>Employee</InputLabel>
-              <Select
-                name="employeeId"
-                value={formData.employeeId}
-                onChange={handleSelectChange}
-                label="Employee"
-              >
-                {employees.map((employee) => (
-                  <MenuItem key={employee.id} value={employee.id}>
-                    {employee.fullName} ({employee.email})
-                  </MenuItem>
-                ))}
-              </Select>
-            </FormControl>
+            <EmployeePicker
+              label="Employee"
+              value={dialogEmployee}
+              onChange={handleEmployeeSelect}
+              required
+              sx={{ mt: 2, mb: 1 }}
+            />
             <TextField
               fullWidth
               label="Review Period"
@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { ApiResponse, Page } from '@/types';
 
 const api = axios.create({
   baseURL: '/api',
@@ -32,4 +33,21 @@ api.interceptors.response.use(
   }
 );
 
+// Rows requested per page; further pages are loaded on demand
+export const PAGE_SIZE = 50;
+
+// Loads one page of a cursor-paged list endpoint
+export const getPage = async <T>(
+  url: string,
+  cursor?: string | null,
+  params: Record<string, unknown> = {}
+): Promise<Page<T>> => {
+  const response = await api.get<ApiResponse<T[]>>(url, {
+    params: { ...params, size: PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+    // Repeated filters are sent as status=a&status=b
+    paramsSerializer: { indexes: null },
+  });
+  return { items: response.data.data, nextCursor: response.data.nextCursor ?? null };
+};
+
 export default api;
\ No newline at end of file
@@ -1,5 +1,5 @@
-import api from './api';
-import { Calibration, CreateCalibrationPackageRequest, CandidateRanking, ApiResponse } from '@/types';
+import api, { getPage } from './api';
+import { Calibration, CreateCalibrationPackageRequest, CandidateRanking, ApiResponse, Page } from '@/types';
 
 export const calibrationService = {
   createCalibration: async (gradeId: number): Promise<Calibration> => {
@@ -17,9 +17,8 @@ export const calibrationService = {
     return response.data.data;
   },
 
-  getCalibrationsByStatus: async (status: string): Promise<Calibration[]> => {
-    const response = await api.get<ApiResponse<Calibration[]>>(`/calibrations/status/${status}`);
-    return response.data.data;
+  getCalibrationsByStatus: async (status: string, cursor?: string | null): Promise<Page<Calibration>> => {
+    return getPage<Calibration>(`/calibrations/status/${status}`, cursor);
   },
 
   getCalibrationDetails: async (id: number): Promise<Calibration> => {
@@ -1,5 +1,5 @@
-import api from './api';
-import { Employee, EmployeeProfile, ApiResponse } from '@/types';
+import api, { getPage } from './api';
+import { Employee, EmployeeProfile, ApiResponse, Page } from '@/types';
 
 export const employeeService = {
   getProfile: async (id: number): Promise<EmployeeProfile> => {
@@ -7,8 +7,18 @@ export const employeeService = {
     return response.data.data;
   },
 
-  getAllEmployees: async (): Promise<Employee[]> => {
-    const response = await api.get<ApiResponse<Employee[]>>('/employees');
+  getEmployees: async (cursor?: string | null): Promise<Page<Employee>> => {
+    return getPage<Employee>('/employees', cursor);
+  },
+
+  searchEmployees: async (q: string, cursor?: string | null): Promise<Page<Employee>> => {
+    return getPage<Employee>('/employees/search', cursor, { q });
+  },
+
+  autocompleteEmployees: async (prefix: string, limit = 10): Promise<Employee[]> => {
+    const response = await api.get<ApiResponse<Employee[]>>('/employees/autocomplete', {
+      params: { prefix, limit },
+    });
     return response.data.data;
   },
 
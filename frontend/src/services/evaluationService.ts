@@ -1,5 +1,5 @@
-import api from './api';
-import { ManagerEvaluation, EvaluationRequest, ApiResponse } from '@/types';
+import api, { getPage } from './api';
+import { ManagerEvaluation, EvaluationRequest, ApiResponse, Page } from '@/types';
 
 export const evaluationService = {
   createEvaluation: async (data: EvaluationRequest): Promise<ManagerEvaluation> => {
@@ -12,9 +12,12 @@ export const evaluationService = {
     return response.data.data;
   },
 
-  getAllEvaluations: async (): Promise<ManagerEvaluation[]> => {
-    const response = await api.get<ApiResponse<ManagerEvaluation[]>>('/evaluations');
-    return response.data.data;
+  getEvaluations: async (cursor?: string | null): Promise<Page<ManagerEvaluation>> => {
+    return getPage<ManagerEvaluation>('/evaluations', cursor);
+  },
+
+  getEvaluationsByReviewPeriod: async (reviewPeriod: string, cursor?: string | null): Promise<Page<ManagerEvaluation>> => {
+    return getPage<ManagerEvaluation>(`/evaluations/review-period/${reviewPeriod}`, cursor);
   },
 
   getEvaluationById: async (id: number): Promise<ManagerEvaluation> => {
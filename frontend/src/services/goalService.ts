@@ -1,5 +1,5 @@
-import api from './api';
-import { Goal, GoalTemplate, CreateGoalRequest, AssignGoalRequest, UpdateGoalStatusRequest, ApiResponse } from '@/types';
+import api, { getPage } from './api';
+import { Goal, GoalTemplate, CreateGoalRequest, AssignGoalRequest, UpdateGoalStatusRequest, ApiResponse, Page } from '@/types';
 
 export const goalService = {
   // Goal Templates (HR only)
@@ -17,14 +17,12 @@ export const goalService = {
     await api.delete(`/goal-templates/${id}`);
   },
 
-  getAllGoalTemplates: async (): Promise<GoalTemplate[]> => {
-    const response = await api.get<ApiResponse<GoalTemplate[]>>('/goal-templates');
-    return response.data.data;
+  getGoalTemplates: async (cursor?: string | null): Promise<Page<GoalTemplate>> => {
+    return getPage<GoalTemplate>('/goal-templates', cursor);
   },
 
-  getGoalTemplatesByReviewPeriod: async (reviewPeriod: string): Promise<GoalTemplate[]> => {
-    const response = await api.get<ApiResponse<GoalTemplate[]>>(`/goal-templates/review-period/${reviewPeriod}`);
-    return response.data.data;
+  getGoalTemplatesByReviewPeriod: async (reviewPeriod: string, cursor?: string | null): Promise<Page<GoalTemplate>> => {
+    return getPage<GoalTemplate>(`/goal-templates/review-period/${reviewPeriod}`, cursor);
   },
 
   // Goal Assignments
@@ -57,8 +55,7 @@ export const goalService = {
     return response.data.data;
   },
 
-  getAllGoalAssignments: async (): Promise<Goal[]> => {
-    const response = await api.get<ApiResponse<Goal[]>>('/goals/all');
-    return response.data.data;
+  getGoalAssignments: async (cursor?: string | null): Promise<Page<Goal>> => {
+    return getPage<Goal>('/goals/all', cursor);
   },
 };
\ No newline at end of file
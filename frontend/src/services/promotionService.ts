@@ -1,5 +1,13 @@
-import api from './api';
-import { PromotionRequest, PromotionRequestData, ApiResponse, Goal } from '@/types';
+import api, { getPage } from './api';
+import {
+  PromotionRequest,
+  PromotionRequestData,
+  PromotionRequestSummary,
+  PromotionRequestSearch,
+  ApiResponse,
+  Goal,
+  Page,
+} from '@/types';
 
 export const promotionService = {
   createPromotionRequest: async (data: PromotionRequestData): Promise<PromotionRequest> => {
@@ -30,14 +38,25 @@ export const promotionService = {
     return response.data.data;
   },
 
-  getPromotionRequestsByStatus: async (status: string): Promise<PromotionRequest[]> => {
-    const response = await api.get<ApiResponse<PromotionRequest[]>>(`/promotion-requests/status/${status}`);
-    return response.data.data;
+  getPromotionRequestsByStatus: async (status: string, cursor?: string | null): Promise<Page<PromotionRequest>> => {
+    return getPage<PromotionRequest>(`/promotion-requests/status/${status}`, cursor);
   },
 
-  getAllPromotionRequests: async (): Promise<PromotionRequest[]> => {
-    const response = await api.get<ApiResponse<PromotionRequest[]>>('/promotion-requests');
-    return response.data.data;
+  getPromotionRequests: async (cursor?: string | null): Promise<Page<PromotionRequest>> => {
+    return getPage<PromotionRequest>('/promotion-requests', cursor);
+  },
+
+  // HR search by status, period, grade, etc.; empty criteria are omitted from the query
+  searchPromotionRequests: async (
+    criteria: PromotionRequestSearch,
+    cursor?: string | null
+  ): Promise<Page<PromotionRequestSummary>> => {
+    const params = Object.fromEntries(
+      Object.entries(criteria).filter(([, value]) =>
+        value !== undefined && value !== '' && !(Array.isArray(value) && value.length === 0)
+      )
+    );
+    return getPage<PromotionRequestSummary>('/promotion-requests/search', cursor, params);
   },
 
   getPromotionRequestById: async (id: number): Promise<PromotionRequest> => {
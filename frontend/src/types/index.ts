@@ -2,6 +2,14 @@ export interface ApiResponse<T> {
   success: boolean;
   message: string;
   data: T;
+  // Set on paged list responses while more items follow
+  nextCursor?: string | null;
+}
+
+// One page of a cursor-paged list; nextCursor is null on the last page
+export interface Page<T> {
+  items: T[];
+  nextCursor: string | null;
 }
 
 export interface Employee {
@@ -101,6 +109,31 @@ export interface PromotionRequest {
   createdAt: string;
 }
 
+// Row of the HR promotion request search
+export interface PromotionRequestSummary {
+  id: number;
+  employeeId: number;
+  employeeName: string;
+  department: string;
+  requestedGradeId: number;
+  requestedGradeName: string;
+  submittedById: number;
+  submittedByName: string;
+  reviewPeriod: string;
+  status: string;
+  calibrationId?: number | null;
+  createdAt: string;
+}
+
+export interface PromotionRequestSearch {
+  status?: string[];
+  reviewPeriod?: string;
+  requestedGradeId?: number;
+  department?: string;
+  submittedById?: number;
+  calibrationId?: number;
+}
+
 export interface Grade {
   id: number;
   name: string;